@@ -0,0 +1,67 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+final class BenchmarkFixtures {
+
+    private static final String[] PLACES = {
+            "Aspen, USA", "Leticia, Colombia", "Santorini, Greece", "Ålesund, Norway", "Merzouga, Morocco",
+            "Queenstown, New Zealand", "Cusco, Peru", "Reykjavik, Iceland", "Banff, Canada", "Zermatt, Switzerland"
+    };
+    private static final String[] ACTIVITIES = {
+            "Hike", "Kayak", "Jeep Ride", "Cycling", "Caravan", "Rafting", "Trek", "Glacier Walk", "Canyoning", "Dive"
+    };
+    private static final String[] ADJECTIVES = {
+            "Misty", "Rainforest", "Volcanic", "Nordic", "Desert", "Alpine", "Sunset", "Hidden", "Wild", "Coastal"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static User operator() {
+        User operator = new User();
+        operator.setId(1L);
+        operator.setName("Mountain Guide");
+        operator.setEmail("guide@adventure.com");
+        operator.setRole(UserRole.OPERATOR);
+        return operator;
+    }
+
+    static Tour tour(long id, User operator) {
+        int variant = (int) (id % 1000);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 9, 0);
+        Tour tour = new Tour();
+        tour.setId(id);
+        tour.setOperator(operator);
+        tour.setTitle(ADJECTIVES[variant % 10] + " " + ACTIVITIES[variant / 10 % 10]);
+        tour.setDescription("A " + ADJECTIVES[variant / 100 % 10].toLowerCase() + " "
+                + ACTIVITIES[variant % 10].toLowerCase() + " with local guides, picnic lunch and photo stops.");
+        tour.setPrice(BigDecimal.valueOf(50 + variant % 400, 0));
+        tour.setLocation(PLACES[variant / 10 % 10]);
+        tour.setMaxCapacity(8 + variant % 20);
+        tour.setDurationHours(2 + variant % 12);
+        tour.setAvailableFrom(now.plusDays(variant % 365));
+        tour.setCreatedAt(now);
+        tour.setUpdatedAt(now);
+        return tour;
+    }
+
+    static Booking booking(long id, Tour tour) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setTour(tour);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setNumberOfPeople(2);
+        booking.setTotalPrice(tour.getPrice().multiply(BigDecimal.valueOf(2)));
+        booking.setBookingDate(tour.getAvailableFrom());
+        booking.setCreatedAt(tour.getCreatedAt());
+        return booking;
+    }
+}
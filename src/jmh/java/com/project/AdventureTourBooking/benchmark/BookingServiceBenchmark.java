@@ -0,0 +1,92 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.AdventureTourBookingApplication;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private BookingRequest request;
+    private BookingRequest contendedRequest;
+    private Long customerId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(AdventureTourBookingApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN")
+                .run();
+        bookingService = context.getBean(BookingService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TourRepository tourRepository = context.getBean(TourRepository.class);
+
+        User operator = userRepository.findByEmail("guide@adventure.com").orElseThrow();
+        User customer = new User();
+        customer.setName("Benchmark Customer");
+        customer.setEmail("benchmark-customer@example.com");
+        customer.setPassword("password");
+        customer.setRole(UserRole.CUSTOMER);
+        customerId = userRepository.save(customer).getId();
+
+        Tour tour = BenchmarkFixtures.tour(1L, operator);
+        tour.setId(null);
+        tour.setMaxCapacity(null);
+        Long tourId = tourRepository.save(tour).getId();
+
+        request = new BookingRequest(tourId, 2, LocalDateTime.now().plusDays(5), null);
+
+        // A capacity far above what a run can sell keeps every reservation on the guarded UPDATE path.
+        Tour contended = BenchmarkFixtures.tour(2L, operator);
+        contended.setId(null);
+        contended.setMaxCapacity(Integer.MAX_VALUE / 2);
+        contendedRequest = new BookingRequest(tourRepository.save(contended).getId(), 2,
+                LocalDateTime.now().plusDays(5), null);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Booking createBooking() {
+        return bookingService.createBooking(request, customerId);
+    }
+
+    // Every thread books the same tour, so each booking waits on the others for its booked_seats row.
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(4)
+    public Booking createBookingContended() {
+        return bookingService.createBooking(contendedRequest, customerId);
+    }
+}
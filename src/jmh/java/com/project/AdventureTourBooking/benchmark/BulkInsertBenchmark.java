@@ -0,0 +1,85 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.AdventureTourBookingApplication;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BulkInsertBenchmark {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param("100000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TourRepository tourRepository;
+    private BookingRepository bookingRepository;
+    private TransactionTemplate transactionTemplate;
+    private User operator;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(AdventureTourBookingApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        tourRepository = context.getBean(TourRepository.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        operator = context.getBean(UserRepository.class).findByEmail("guide@adventure.com").orElseThrow();
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTables() {
+        bookingRepository.deleteAllInBatch();
+        tourRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insertTours() {
+        int inserted = 0;
+        while (inserted < rows) {
+            List<Tour> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE && inserted + i < rows; i++) {
+                Tour tour = BenchmarkFixtures.tour(inserted + i, operator);
+                tour.setId(null);
+                chunk.add(tour);
+            }
+            transactionTemplate.executeWithoutResult(status -> tourRepository.saveAll(chunk));
+            inserted += chunk.size();
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.AdventureTourBooking.dto.TourPageResponse;
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private TourPageResponse page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        User operator = BenchmarkFixtures.operator();
+        List<TourResponse> items = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> TourResponse.fromEntity(BenchmarkFixtures.tour(id, operator)))
+                .toList();
+        page = new TourPageResponse(items, "MTAw");
+    }
+
+    @Benchmark
+    public byte[] serializeCatalogPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
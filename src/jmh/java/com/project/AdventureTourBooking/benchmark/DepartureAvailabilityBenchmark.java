@@ -0,0 +1,92 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.departure.DepartureAvailabilityIndex;
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.model.TourDeparture;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import com.project.AdventureTourBooking.model.TourSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class DepartureAvailabilityBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = FROM.plusDays(30);
+
+    @Param({"100000"})
+    public int tours;
+
+    @Param({"500"})
+    public int queriedTours;
+
+    private DepartureAvailabilityIndex index;
+    private List<Long> tourIds;
+
+    // Every tour runs a morning departure daily and an afternoon one at weekends, and about a third
+    // of the month's departures already have bookings.
+    @Setup
+    public void buildIndex() {
+        index = new DepartureAvailabilityIndex();
+        for (long tourId = 1; tourId <= tours; tourId++) {
+            TourSchedule daily = schedule(tourId * 2, tourId, LocalTime.of(9, 0), 0b1111111);
+            TourSchedule weekend = schedule(tourId * 2 + 1, tourId, LocalTime.of(15, 0), 0b1100000);
+            List<TourDeparture> booked = new ArrayList<>();
+            for (int day = (int) (tourId % 3); day <= 30; day += 3) {
+                booked.add(departure(daily, FROM.plusDays(day), (int) (tourId + day) % 12));
+            }
+            index.replace(tourId, List.of(daily, weekend), booked);
+        }
+        tourIds = LongStream.rangeClosed(1, queriedTours)
+                .map(i -> i * (tours / queriedTours))
+                .boxed()
+                .toList();
+    }
+
+    @Benchmark
+    public List<DepartureAvailabilityResponse> monthForManyTours() {
+        return index.find(tourIds, FROM, TO, 0);
+    }
+
+    @Benchmark
+    public List<DepartureAvailabilityResponse> monthForManyToursWithParty() {
+        return index.find(tourIds, FROM, TO, 6);
+    }
+
+    private static TourSchedule schedule(long id, long tourId, LocalTime startTime, int daysOfWeek) {
+        TourSchedule schedule = new TourSchedule();
+        schedule.setId(id);
+        schedule.setTourId(tourId);
+        schedule.setStartTime(startTime);
+        schedule.setDaysOfWeek(daysOfWeek);
+        schedule.setStartsOn(FROM.minusYears(1));
+        schedule.setCapacity(12);
+        return schedule;
+    }
+
+    private static TourDeparture departure(TourSchedule schedule, LocalDate day, int bookedSeats) {
+        TourDeparture departure = new TourDeparture();
+        departure.setId(new TourDepartureKey(schedule.getId(), day.atTime(schedule.getStartTime())));
+        departure.setTourId(schedule.getTourId());
+        departure.setCapacity(schedule.getCapacity());
+        departure.setBookedSeats(bookedSeats);
+        return departure;
+    }
+}
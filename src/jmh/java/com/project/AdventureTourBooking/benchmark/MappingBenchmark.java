@@ -0,0 +1,40 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.Tour;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private Tour tour;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        tour = BenchmarkFixtures.tour(42L, BenchmarkFixtures.operator());
+        booking = BenchmarkFixtures.booking(7L, tour);
+    }
+
+    @Benchmark
+    public TourResponse tourFromEntity() {
+        return TourResponse.fromEntity(tour);
+    }
+
+    @Benchmark
+    public BookingResponse bookingFromEntity() {
+        return BookingResponse.fromEntity(booking);
+    }
+}
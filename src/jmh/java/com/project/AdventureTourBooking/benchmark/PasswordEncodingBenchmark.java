@@ -0,0 +1,53 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.security.AuthenticationCache;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordEncodingBenchmark {
+
+    private static final String USERNAME = "guide@adventure.com";
+    private static final String PASSWORD = "password";
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+    private AuthenticationCache authenticationCache;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder();
+        encoded = encoder.encode(PASSWORD);
+        authenticationCache = new AuthenticationCache(Duration.ofHours(1), 1000);
+        authenticationCache.put(USERNAME, PASSWORD, new CustomUserDetails(1L, USERNAME, encoded, UserRole.OPERATOR),
+                authenticationCache.generation());
+    }
+
+    @Benchmark
+    public String bcryptEncode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public CustomUserDetails cachedCredentialLookup() {
+        return authenticationCache.get(USERNAME, PASSWORD);
+    }
+}
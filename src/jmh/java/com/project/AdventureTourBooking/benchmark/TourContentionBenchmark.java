@@ -0,0 +1,116 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.AdventureTourBookingApplication;
+import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.service.OptimisticRetry;
+import com.project.AdventureTourBooking.service.TourService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TourContentionBenchmark {
+
+    // 1 puts every writer on the same row; 16 spreads them out as a low-contention reference.
+    @Param({"1", "16"})
+    private int hotTours;
+
+    private ConfigurableApplicationContext context;
+    private TourService tourService;
+    private OptimisticRetry optimisticRetry;
+    private TourRepository tourRepository;
+    private User operator;
+    private final List<Long> tourIds = new ArrayList<>();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long conflicts;
+    }
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(AdventureTourBookingApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                // Every stale write would otherwise log a batch ERROR, and that I/O would skew the scores.
+                .properties("logging.level.root=WARN", "logging.level.org.hibernate.orm.jdbc.batch=OFF",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        tourService = context.getBean(TourService.class);
+        optimisticRetry = context.getBean(OptimisticRetry.class);
+        tourRepository = context.getBean(TourRepository.class);
+        operator = context.getBean(UserRepository.class).findByEmail("guide@adventure.com").orElseThrow();
+        for (int i = 0; i < hotTours; i++) {
+            Tour tour = BenchmarkFixtures.tour(i, operator);
+            tour.setId(null);
+            tourIds.add(tourRepository.save(tour).getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        tourRepository.deleteAllById(tourIds);
+        context.close();
+    }
+
+    @Benchmark
+    public Tour updateWithRetry(Outcomes outcomes) {
+        try {
+            return optimisticRetry.execute(() -> tourService.updateTour(pickTour(), nextRequest(), operator.getId()));
+        } catch (ResponseStatusException ex) {
+            outcomes.conflicts++;
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Tour updateSingleAttempt(Outcomes outcomes) {
+        try {
+            return tourService.updateTour(pickTour(), nextRequest(), operator.getId());
+        } catch (OptimisticLockingFailureException ex) {
+            outcomes.conflicts++;
+            return null;
+        }
+    }
+
+    private Long pickTour() {
+        return tourIds.get(ThreadLocalRandom.current().nextInt(tourIds.size()));
+    }
+
+    private TourRequest nextRequest() {
+        int suffix = ThreadLocalRandom.current().nextInt(1_000_000);
+        return new TourRequest("Contended tour " + suffix, "Edited concurrently", BigDecimal.valueOf(100 + suffix % 50),
+                "Queenstown", 40, LocalDateTime.now().plusDays(10), 4);
+    }
+}
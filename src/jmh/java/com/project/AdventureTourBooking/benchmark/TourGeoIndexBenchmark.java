@@ -0,0 +1,81 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.search.TourGeoIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TourGeoIndexBenchmark {
+
+    private static final int HUBS = 200;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    public int tours;
+
+    private TourGeoIndex index;
+    private double[][] hubs;
+    private int next;
+
+    // Most tours cluster around a couple of hundred destination hubs, the rest are scattered over
+    // inhabited latitudes, so hub queries scan dense cells and regional ones scan many cells.
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        hubs = new double[HUBS][];
+        for (int i = 0; i < HUBS; i++) {
+            hubs[i] = new double[]{random.nextDouble() * 110 - 45, random.nextDouble() * 360 - 180};
+        }
+        index = new TourGeoIndex(0.5);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= tours; id++) {
+            double latitude;
+            double longitude;
+            if (id % 10 < 7) {
+                double[] hub = hubs[(int) (id % HUBS)];
+                latitude = Math.max(-89.9, Math.min(89.9, hub[0] + random.nextGaussian() * 0.3));
+                longitude = hub[1] + random.nextGaussian() * 0.3;
+                longitude = longitude >= 180 ? longitude - 360 : longitude < -180 ? longitude + 360 : longitude;
+            } else {
+                latitude = random.nextDouble() * 125 - 55;
+                longitude = random.nextDouble() * 360 - 180;
+            }
+            index.index(new TourResponse(id, 1L, "Tour " + id, null, BigDecimal.valueOf(100 + id % 400),
+                    "Somewhere", latitude, longitude, 12, now, 4, now, now, 0L));
+        }
+    }
+
+    @Benchmark
+    public TourGeoIndex.NearbyResult hubCentre25Km() {
+        double[] hub = hubs[next++ % HUBS];
+        return index.nearby(hub[0], hub[1], 25, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TourGeoIndex.NearbyResult region200Km() {
+        double[] hub = hubs[next++ % HUBS];
+        return index.nearby(hub[0] + 1, hub[1] + 1, 200, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TourGeoIndex.NearbyResult hubCentre25KmFifthPage() {
+        double[] hub = hubs[next++ % HUBS];
+        return index.nearby(hub[0], hub[1], 25, 4 * PAGE_SIZE, PAGE_SIZE);
+    }
+}
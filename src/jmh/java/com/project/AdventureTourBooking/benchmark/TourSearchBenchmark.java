@@ -0,0 +1,57 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.search.TourSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+// The index of a million tours keeps ~1.8 GB live; with less headroom the serial collector picked
+// on small machines falls back to multi-second full GCs in the middle of measurement.
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TourSearchBenchmark {
+
+    private static final BigDecimal MAX_PRICE = new BigDecimal("150");
+
+    @Param({"1000000"})
+    public int tours;
+
+    private TourSearchIndex index;
+
+    @Setup
+    public void buildIndex() {
+        index = new TourSearchIndex();
+        User operator = BenchmarkFixtures.operator();
+        for (long id = 1; id <= tours; id++) {
+            index.index(TourResponse.fromEntity(BenchmarkFixtures.tour(id, operator)));
+        }
+    }
+
+    @Benchmark
+    public TourSearchIndex.SearchResult rareTerm() {
+        return index.search("zermatt canyoning", tour -> true, 0, 20);
+    }
+
+    @Benchmark
+    public TourSearchIndex.SearchResult commonTermWithPriceFacet() {
+        return index.search("glacier", tour -> tour.price().compareTo(MAX_PRICE) <= 0, 0, 20);
+    }
+
+    @Benchmark
+    public TourSearchIndex.SearchResult facetOnlyDeepPage() {
+        return index.search(null, tour -> tour.durationHours() >= 10, 500, 20);
+    }
+}
@@ -0,0 +1,217 @@
+package com.project.AdventureTourBooking.benchmark;
+
+import com.project.AdventureTourBooking.AdventureTourBookingApplication;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class VirtualThreadLoadTest {
+
+    private static final String OPERATOR_EMAIL = "guide@adventure.com";
+    private static final int SEEDED_BOOKINGS = 50;
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 1 && args[0].equals("serve")) {
+            serve(Boolean.parseBoolean(args[1]));
+            return;
+        }
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int requestsPerConnection = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        System.out.printf("Java %s, %d concurrent connections x %d requests to GET /api/bookings/operator%n",
+                Runtime.version(), connections, requestsPerConnection);
+        run(false, connections, requestsPerConnection);
+        if (Runtime.version().feature() >= 21) {
+            run(true, connections, requestsPerConnection);
+        } else {
+            System.out.println("virtual: skipped, requires Java 21 (mvn -Pbenchmarks,java21 with a JDK 21 JAVA_HOME)");
+        }
+    }
+
+    // The server runs in its own JVM, so the load generator's threads, heap and GC are not part of
+    // what is being measured.
+    private static void run(boolean virtualThreads, int connections, int requestsPerConnection) throws Exception {
+        Process server = new ProcessBuilder(ProcessHandle.current().info().command().orElseThrow(),
+                "-Xmx2g", "-Djdk.tracePinnedThreads=short",
+                "-cp", System.getProperty("java.class.path"),
+                VirtualThreadLoadTest.class.getName(), "serve", String.valueOf(virtualThreads))
+                .redirectErrorStream(true)
+                .start();
+        AtomicInteger pinned = new AtomicInteger();
+        try {
+            URI uri = URI.create("http://localhost:" + awaitPort(server, pinned).get(3, TimeUnit.MINUTES)
+                    + "/api/bookings/operator");
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Basic " + Base64.getEncoder()
+                            .encodeToString((OPERATOR_EMAIL + ":password").getBytes(StandardCharsets.UTF_8)))
+                    .timeout(Duration.ofSeconds(120))
+                    .GET()
+                    .build();
+
+            drive(client, request, Math.min(connections, 500), 2);
+            Result result = drive(client, request, connections, requestsPerConnection);
+            System.out.printf("%-8s %s pinned=%d%n", virtualThreads ? "virtual" : "platform", result, pinned.get());
+        } finally {
+            server.destroy();
+            server.waitFor();
+        }
+    }
+
+    // Both modes run with the virtual-threads profile's pool and connector settings and differ only in
+    // spring.threads.virtual. The pool wait is raised from the profile's fail-fast 3 s so that queueing
+    // on the pool shows up as latency rather than as errors.
+    private static void serve(boolean virtualThreads) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AdventureTourBookingApplication.class)
+                .profiles("test", "virtual-threads")
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.hikari.connection-timeout=30000"
+                )
+                .run();
+        seedBookings(context);
+        System.out.println("port=" + context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    // Keeps draining the server's output, so pinned-thread traces are shown and counted and the pipe
+    // never fills. With -Djdk.tracePinnedThreads=short each trace marks the frame holding the monitor.
+    private static CompletableFuture<String> awaitPort(Process server, AtomicInteger pinned) {
+        CompletableFuture<String> port = new CompletableFuture<>();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader lines = new BufferedReader(
+                    new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (line.startsWith("port=")) {
+                        port.complete(line.substring("port=".length()));
+                    } else {
+                        if (line.contains("<== monitors")) {
+                            pinned.incrementAndGet();
+                        }
+                        System.out.println("  server: " + line);
+                    }
+                }
+                port.completeExceptionally(new IllegalStateException("Server exited before it was ready"));
+            } catch (IOException ex) {
+                port.completeExceptionally(ex);
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        return port;
+    }
+
+    private static Result drive(HttpClient client, HttpRequest request, int connections, int requestsPerConnection) {
+        long[] latencies = new long[connections * requestsPerConnection];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> clients = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int r = 0; r < requestsPerConnection; r++) {
+                chain = chain.thenCompose(ignored -> {
+                    long sent = System.nanoTime();
+                    return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .handle((response, failure) -> {
+                                if (failure != null || response.statusCode() != 200) {
+                                    errors.incrementAndGet();
+                                } else {
+                                    latencies[recorded.getAndIncrement()] = System.nanoTime() - sent;
+                                }
+                                return null;
+                            });
+                });
+            }
+            clients.add(chain);
+        }
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.nanoTime() - start;
+
+        long[] samples = Arrays.copyOf(latencies, recorded.get());
+        Arrays.sort(samples);
+        return new Result(samples, errors.get(), elapsed);
+    }
+
+    private static void seedBookings(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TourRepository tourRepository = context.getBean(TourRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+
+        User operator = userRepository.findByEmail(OPERATOR_EMAIL).orElseThrow();
+        User customer = new User();
+        customer.setName("Load Test Customer");
+        customer.setEmail("load-test-customer@example.com");
+        customer.setPassword("password");
+        customer.setRole(UserRole.CUSTOMER);
+        userRepository.save(customer);
+
+        Tour tour = BenchmarkFixtures.tour(1L, operator);
+        tour.setId(null);
+        tour.setMaxCapacity(null);
+        tourRepository.save(tour);
+
+        List<Booking> bookings = new ArrayList<>(SEEDED_BOOKINGS);
+        for (int i = 0; i < SEEDED_BOOKINGS; i++) {
+            Booking booking = BenchmarkFixtures.booking(0L, tour);
+            booking.setId(null);
+            booking.setUser(customer);
+            bookings.add(booking);
+        }
+        bookingRepository.saveAll(bookings);
+    }
+
+    private record Result(long[] sortedLatencies, int errors, long elapsedNanos) {
+
+        long percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            return String.format("ok=%d errors=%d throughput=%.0f req/s p50=%dms p99=%dms p99.9=%dms max=%dms",
+                    sortedLatencies.length, errors, sortedLatencies.length / seconds,
+                    percentileMillis(0.50), percentileMillis(0.99), percentileMillis(0.999), percentileMillis(1.0));
+        }
+    }
+}
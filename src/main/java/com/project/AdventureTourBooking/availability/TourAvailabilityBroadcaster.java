@@ -0,0 +1,344 @@
+package com.project.AdventureTourBooking.availability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.dto.TourAvailabilityResponse;
+import com.project.AdventureTourBooking.event.BookingChangedEvent;
+import com.project.AdventureTourBooking.event.SeatHoldChangedEvent;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Every instance streams to its own subscribers, so changes are picked up from the invalidation channel
+// rather than from local commits: tour edits from the tours topic, departure bookings from the departures
+// topic, and tour-level bookings and holds from the availability topic.
+@Component
+public class TourAvailabilityBroadcaster implements MeterBinder {
+
+    public static final String EVENT_NAME = "availability";
+
+    private static final Logger log = LoggerFactory.getLogger(TourAvailabilityBroadcaster.class);
+
+    private final TourRepository tourRepository;
+    private final TourDepartureRepository departureRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationChannel channel;
+    private final Duration flushInterval;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+    private final int maxSubscribers;
+    private final int maxPendingFrames;
+    private final long sendTimeoutNanos;
+    private final int sendThreads;
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyTourIds = ConcurrentHashMap.newKeySet();
+    private final Set<TourDepartureKey> dirtyDepartures = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskScheduler scheduler;
+    private ThreadPoolTaskExecutor sender;
+
+    public TourAvailabilityBroadcaster(TourRepository tourRepository,
+                                       TourDepartureRepository departureRepository,
+                                       ObjectMapper objectMapper,
+                                       CacheInvalidationChannel channel,
+                                       @Value("${tours.availability.flush-interval:PT0.5S}") Duration flushInterval,
+                                       @Value("${tours.availability.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                       @Value("${tours.availability.emitter-timeout:PT30M}") Duration emitterTimeout,
+                                       @Value("${tours.availability.max-subscribers:18000}") int maxSubscribers,
+                                       @Value("${tours.availability.max-pending-frames:16}") int maxPendingFrames,
+                                       @Value("${tours.availability.send-timeout:PT10S}") Duration sendTimeout,
+                                       @Value("${tours.availability.send-threads:16}") int sendThreads) {
+        this.tourRepository = tourRepository;
+        this.departureRepository = departureRepository;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.flushInterval = flushInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPendingFrames = maxPendingFrames;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.sendThreads = sendThreads;
+        channel.subscribe(CacheInvalidationChannel.TOURS, key -> dirtyTourIds.add(Long.valueOf(key)));
+        channel.subscribe(CacheInvalidationChannel.DEPARTURES, this::onDepartureInvalidated);
+        channel.subscribe(CacheInvalidationChannel.AVAILABILITY, key -> dirtyTourIds.add(Long.valueOf(key)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sender = new ThreadPoolTaskExecutor();
+        sender.setCorePoolSize(sendThreads);
+        sender.setMaxPoolSize(sendThreads);
+        sender.setThreadNamePrefix("tour-availability-send-");
+        sender.initialize();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("tour-availability-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        if (sender != null) {
+            sender.shutdown();
+        }
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    // Emitters park on the servlet async context, so an idle subscriber costs a socket and a
+    // map entry rather than a request thread. The cap keeps streams from taking every connection
+    // the connector will accept.
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many availability subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        register(emitter);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter) {
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+        subscribers.put(emitter, new Subscriber(emitter));
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException ex) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        channel.publish(CacheInvalidationChannel.AVAILABILITY, event.tourId().toString());
+    }
+
+    @TransactionalEventListener
+    public void onSeatHoldChanged(SeatHoldChangedEvent event) {
+        channel.publish(CacheInvalidationChannel.AVAILABILITY, event.tourId().toString());
+    }
+
+    // Keys are either "tourId" or "tourId/scheduleId/departsAt", as published by DepartureIndexer.
+    void onDepartureInvalidated(String key) {
+        String[] parts = key.split("/");
+        if (parts.length == 3) {
+            dirtyDepartures.add(new TourDepartureKey(Long.valueOf(parts[1]), LocalDateTime.parse(parts[2])));
+        }
+        dirtyTourIds.add(Long.valueOf(parts[0]));
+    }
+
+    // A burst of commits against one tour collapses into a single entry per flush, and every
+    // subscriber receives the same pre-serialized frame.
+    public int flush() {
+        List<TourDepartureKey> departures = drain(dirtyDepartures);
+        List<Long> tourIds = drain(dirtyTourIds);
+        if (tourIds.isEmpty() || subscribers.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, TourAvailabilityResponse> current = tourRepository.findAvailabilityByIds(tourIds).stream()
+                .collect(Collectors.toMap(TourAvailabilityResponse::id, Function.identity()));
+        Map<Long, List<DepartureAvailabilityResponse>> departuresByTour = findDepartures(departures);
+        List<TourAvailabilityResponse> updates = tourIds.stream()
+                .map(id -> current.containsKey(id)
+                        ? current.get(id).withDepartures(departuresByTour.getOrDefault(id, List.of()))
+                        : TourAvailabilityResponse.removed(id))
+                .toList();
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(updates);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize availability update", ex);
+        }
+        broadcast(SseEmitter.event().name(EVENT_NAME).data(payload, MediaType.APPLICATION_JSON));
+        return updates.size();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tours.availability.subscribers", subscribers, Map::size)
+                .description("Open tour availability event streams")
+                .register(registry);
+    }
+
+    private Map<Long, List<DepartureAvailabilityResponse>> findDepartures(Collection<TourDepartureKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return departureRepository.findAllById(keys).stream()
+                .map(departure -> new DepartureAvailabilityResponse(departure.getTourId(),
+                        departure.getId().getScheduleId(), departure.getId().getDepartsAt(), departure.getCapacity(),
+                        Math.max(departure.getCapacity() - departure.getBookedSeats(), 0)))
+                .sorted(Comparator.comparing(DepartureAvailabilityResponse::departsAt)
+                        .thenComparing(DepartureAvailabilityResponse::scheduleId))
+                .collect(Collectors.groupingBy(DepartureAvailabilityResponse::tourId));
+    }
+
+    private static <T> List<T> drain(Set<T> dirty) {
+        List<T> drained = new ArrayList<>();
+        Iterator<T> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    // The flush thread only queues frames. Each subscriber drains its own queue on the send pool, and
+    // one whose queue overflows or whose send has been blocked past the timeout is dropped; the
+    // client reconnects and starts from a fresh snapshot.
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = event.build();
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.isStalled(now) || !subscriber.offer(frame)) {
+                drop(subscriber, new IOException("Availability subscriber is not keeping up"));
+            } else {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException ex) {
+            subscriber.draining.set(false);
+            drop(subscriber, new IOException("Availability sender is shut down", ex));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            while ((frame = subscriber.poll()) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                subscriber.emitter.send(frame);
+                subscriber.sendStartedAt = 0;
+            }
+        } catch (IOException | IllegalStateException ex) {
+            drop(subscriber, ex);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A frame queued between the last poll and clearing the flag would otherwise wait for the next one.
+        if (subscriber.hasPending()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber, Throwable reason) {
+        if (subscribers.remove(subscriber.emitter) != null) {
+            log.debug("Dropping availability subscriber: {}", reason.getMessage());
+            subscriber.emitter.completeWithError(reason);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Tour availability flush failed", ex);
+        }
+    }
+
+    private void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (pending.incrementAndGet() > maxPendingFrames) {
+                pending.decrementAndGet();
+                return false;
+            }
+            frames.add(frame);
+            return true;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame = frames.poll();
+            if (frame != null) {
+                pending.decrementAndGet();
+            }
+            return frame;
+        }
+
+        boolean hasPending() {
+            return !frames.isEmpty();
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+        }
+    }
+}
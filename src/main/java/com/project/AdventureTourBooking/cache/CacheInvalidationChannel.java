@@ -0,0 +1,18 @@
+package com.project.AdventureTourBooking.cache;
+
+import java.util.function.Consumer;
+
+// Carries "this key changed" notices between instances. Every in-memory copy of database state
+// subscribes to its topic and re-reads the key, so a message only needs to name what changed.
+public interface CacheInvalidationChannel {
+
+    String TOURS = "tours";
+    String USERS = "users";
+    String PRICING_RULES = "pricing-rules";
+    String DEPARTURES = "departures";
+    String AVAILABILITY = "availability";
+
+    void publish(String topic, String key);
+
+    void subscribe(String topic, Consumer<String> listener);
+}
@@ -0,0 +1,22 @@
+package com.project.AdventureTourBooking.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class LocalCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String topic, String key) {
+        listeners.getOrDefault(topic, List.of()).forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<String> listener) {
+        listeners.computeIfAbsent(topic, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
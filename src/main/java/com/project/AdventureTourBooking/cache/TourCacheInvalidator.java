@@ -0,0 +1,45 @@
+package com.project.AdventureTourBooking.cache;
+
+import com.project.AdventureTourBooking.config.CacheConfig;
+import com.project.AdventureTourBooking.event.TourChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+public class TourCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationChannel channel;
+
+    public TourCacheInvalidator(CacheManager cacheManager, CacheInvalidationChannel channel) {
+        this.cacheManager = cacheManager;
+        this.channel = channel;
+        channel.subscribe(CacheInvalidationChannel.TOURS, key -> evict(Long.valueOf(key)));
+    }
+
+    // Evicting only after commit keeps a concurrent reader from re-caching the pre-commit row. This is
+    // also the single publisher for the tours topic, which the search and geo indexes listen to.
+    @TransactionalEventListener
+    public void onTourChanged(TourChangedEvent event) {
+        channel.publish(CacheInvalidationChannel.TOURS, event.tourId().toString());
+    }
+
+    private void evict(Long tourId) {
+        for (String name : List.of(CacheConfig.TOURS, CacheConfig.TOUR_VERSIONS)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.evict(tourId);
+            }
+        }
+        for (String name : List.of(CacheConfig.TOUR_PAGES, CacheConfig.CATALOG_VERSION)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.AdventureTourBooking.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.cache.LocalCacheInvalidationChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String TOURS = "tours";
+    public static final String TOUR_PAGES = "tourPages";
+    public static final String TOUR_VERSIONS = "tourVersions";
+    public static final String CATALOG_VERSION = "catalogVersion";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${tours.cache.ttl:PT5M}") Duration ttl,
+            @Value("${tours.cache.max-tours:10000}") long maxTours,
+            @Value("${tours.cache.max-pages:1000}") long maxPages
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(TOURS, Caffeine.newBuilder()
+                .maximumSize(maxTours)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(TOUR_PAGES, Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(TOUR_VERSIONS, Caffeine.newBuilder()
+                .maximumSize(maxTours)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(CATALOG_VERSION, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    // Multi-instance deployments set tours.cache.invalidation to their broker and register their own
+    // CacheInvalidationChannel bean; the property decides, not bean registration order.
+    @Bean
+    @ConditionalOnProperty(name = "tours.cache.invalidation", havingValue = "local", matchIfMissing = true)
+    public CacheInvalidationChannel cacheInvalidationChannel() {
+        return new LocalCacheInvalidationChannel();
+    }
+}
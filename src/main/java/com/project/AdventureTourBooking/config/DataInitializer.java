@@ -40,6 +40,8 @@ public class DataInitializer implements CommandLineRunner {
                             "Start your morning above the clouds with a gentle hike to a hidden alpine lake.",
                             new BigDecimal("129.00"),
                             "Aspen, USA",
+                            39.1911,
+                            -106.8175,
                             14,
                             5,
                             1),
@@ -48,6 +50,8 @@ public class DataInitializer implements CommandLineRunner {
                             "Glide through lush mangroves while spotting parrots, sloths and river dolphins.",
                             new BigDecimal("189.00"),
                             "Leticia, Colombia",
+                            -4.2153,
+                            -69.9406,
                             10,
                             4,
                             2),
@@ -56,6 +60,8 @@ public class DataInitializer implements CommandLineRunner {
                             "Bounce across black-sand trails before sharing a picnic on the caldera rim.",
                             new BigDecimal("159.00"),
                             "Santorini, Greece",
+                            36.3932,
+                            25.4615,
                             12,
                             3,
                             3),
@@ -64,6 +70,8 @@ public class DataInitializer implements CommandLineRunner {
                             "Cycle quiet coastal roads, hop ferries between islands and taste local smoked salmon.",
                             new BigDecimal("210.00"),
                             "Ålesund, Norway",
+                            62.4722,
+                            6.1495,
                             8,
                             6,
                             4),
@@ -72,6 +80,8 @@ public class DataInitializer implements CommandLineRunner {
                             "An overnight camel caravan with astronomer-led stargazing in the quiet dunes.",
                             new BigDecimal("275.00"),
                             "Merzouga, Morocco",
+                            31.0802,
+                            -4.0134,
                             6,
                             12,
                             5)
@@ -94,6 +104,8 @@ public class DataInitializer implements CommandLineRunner {
                             String description,
                             BigDecimal price,
                             String location,
+                            double latitude,
+                            double longitude,
                             int capacity,
                             int durationHours,
                             int weeksFromNow) {
@@ -103,6 +115,8 @@ public class DataInitializer implements CommandLineRunner {
         tour.setDescription(description);
         tour.setPrice(price);
         tour.setLocation(location);
+        tour.setLatitude(latitude);
+        tour.setLongitude(longitude);
         tour.setMaxCapacity(capacity);
         tour.setDurationHours(durationHours);
         tour.setAvailableFrom(LocalDateTime.now().plusWeeks(weeksFromNow));
@@ -0,0 +1,39 @@
+package com.project.AdventureTourBooking.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.outbox.FileOutboxSink;
+import com.project.AdventureTourBooking.outbox.InMemoryOutboxSink;
+import com.project.AdventureTourBooking.outbox.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class OutboxConfig {
+
+    // The in-memory sink forgets what it is given, so it has to be asked for explicitly (the test
+    // profile does, over the file inherited from the base config); anywhere else a missing sink
+    // stops the application from starting.
+    @Bean
+    @ConditionalOnProperty(name = "outbox.sink.in-memory", havingValue = "true")
+    public InMemoryOutboxSink inMemoryOutboxSink(@Value("${outbox.sink.memory-capacity:10000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty("outbox.sink.file")
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink fileOutboxSink(@Value("${outbox.sink.file}") Path path, ObjectMapper objectMapper) {
+        return new FileOutboxSink(path, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink missingOutboxSink() {
+        throw new IllegalStateException("No outbox sink configured, set outbox.sink.file");
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.AdventureTourBooking.config;
+
+import com.project.AdventureTourBooking.datasource.ReadYourWritesTracker;
+import com.project.AdventureTourBooking.datasource.ReplicaLagMonitor;
+import com.project.AdventureTourBooking.datasource.ReplicaRoutingDataSource;
+import com.project.AdventureTourBooking.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties primaryProperties,
+                                                             ReplicaRoutingProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        if (properties.replicas().isEmpty()) {
+            throw new IllegalStateException("datasource.routing.enabled requires at least one datasource.routing.replicas entry");
+        }
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Replica> configured = properties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = configured.get(i);
+            String name = replica.name() != null ? replica.name() : "replica-" + (i + 1);
+            replicas.put(name, replicaDataSource(name, replica, primaryProperties));
+        }
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicas, properties.lagQuery(),
+                properties.maxLag(), properties.lagCheckInterval());
+        lagMonitor.bindTo(meterRegistry);
+        return new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                lagMonitor,
+                new ReadYourWritesTracker(properties.stickyWindow(), properties.maxStickyUsers()),
+                ReplicaRoutingConfig::currentUser,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaDataSource(String name, ReplicaRoutingProperties.Replica replica,
+                                                      DataSourceProperties primaryProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primaryProperties.determineDriverClassName())
+                .url(replica.url())
+                .username(replica.username() != null ? replica.username() : primaryProperties.determineUsername())
+                .password(replica.password() != null ? replica.password() : primaryProperties.determinePassword())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.AdventureTourBooking.config;
 
+import com.project.AdventureTourBooking.security.AuthenticationCache;
+import com.project.AdventureTourBooking.security.CachingAuthenticationProvider;
 import com.project.AdventureTourBooking.security.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,8 +13,10 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
@@ -19,10 +24,22 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    // Not a UserRole, so no self-registered account can hold it; only the configured scraper does.
+    static final String METRICS_ROLE = "METRICS";
+
     private final CustomUserDetailsService userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final String scraperUsername;
+    private final String scraperPassword;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService,
+                          AuthenticationCache authenticationCache,
+                          @Value("${security.metrics-scraper.username:prometheus}") String scraperUsername,
+                          @Value("${security.metrics-scraper.password:}") String scraperPassword) {
         this.userDetailsService = userDetailsService;
+        this.authenticationCache = authenticationCache;
+        this.scraperUsername = scraperUsername;
+        this.scraperPassword = scraperPassword;
     }
 
     @Bean
@@ -33,9 +50,13 @@ public class SecurityConfig {
                         .requestMatchers("/", "/index.html", "/styles.css", "/app.js", "/favicon.ico",
                                 "/operator.html", "/operator.js", "/operator.css").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(METRICS_ROLE)
                         .requestMatchers(HttpMethod.GET, "/api/tours", "/api/tours/**").permitAll()
                         .requestMatchers("/api/tours/**").hasRole("OPERATOR")
+                        .requestMatchers("/api/bookings/holds/**").hasRole("CUSTOMER")
                         .requestMatchers(HttpMethod.POST, "/api/bookings/**").hasRole("CUSTOMER")
+                        .requestMatchers(HttpMethod.GET, "/api/bookings/queue/**").hasRole("CUSTOMER")
                         .requestMatchers(HttpMethod.GET, "/api/bookings/**").hasRole("OPERATOR")
                         .requestMatchers(HttpMethod.PUT, "/api/bookings/**").hasRole("OPERATOR")
                         .requestMatchers(HttpMethod.PATCH, "/api/bookings/**").hasRole("OPERATOR")
@@ -43,16 +64,32 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
+                .authenticationProvider(metricsScraperAuthenticationProvider())
                 .httpBasic(httpBasic -> {})
                 .formLogin(form -> {});
         return http.build();
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public CachingAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        return new CachingAuthenticationProvider(provider, authenticationCache);
+    }
+
+    // Kept out of the bean factory so the global AuthenticationManager still has a single provider.
+    private DaoAuthenticationProvider metricsScraperAuthenticationProvider() {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!scraperPassword.isBlank()) {
+            scrapers.createUser(User.withUsername(scraperUsername)
+                    .password(passwordEncoder().encode(scraperPassword))
+                    .roles(METRICS_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(scrapers);
+        provider.setPasswordEncoder(passwordEncoder());
         return provider;
     }
 
@@ -1,37 +1,105 @@
 package com.project.AdventureTourBooking.controller;
 
+import com.project.AdventureTourBooking.dto.BookingQueueResponse;
 import com.project.AdventureTourBooking.dto.BookingRequest;
 import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.dto.BookingStatusBulkUpdateRequest;
+import com.project.AdventureTourBooking.dto.BookingStatusBulkUpdateResponse;
 import com.project.AdventureTourBooking.dto.BookingStatusUpdateRequest;
+import com.project.AdventureTourBooking.dto.EntityTag;
+import com.project.AdventureTourBooking.dto.OperatorBookingSummaryResponse;
+import com.project.AdventureTourBooking.idempotency.IdempotencyKeyStore;
 import com.project.AdventureTourBooking.model.Booking;
 import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.BookingExportService;
+import com.project.AdventureTourBooking.service.BookingFileFormat;
+import com.project.AdventureTourBooking.service.BookingImportService;
+import com.project.AdventureTourBooking.service.BookingQueueService;
 import com.project.AdventureTourBooking.service.BookingService;
+import com.project.AdventureTourBooking.service.BookingSummaryService;
+import com.project.AdventureTourBooking.service.OptimisticRetry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/bookings")
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingImportService bookingImportService;
+    private final BookingExportService bookingExportService;
+    private final BookingQueueService bookingQueueService;
+    private final BookingSummaryService bookingSummaryService;
+    private final OptimisticRetry optimisticRetry;
+    private final IdempotencyKeyStore idempotencyKeyStore;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(
+            BookingService bookingService,
+            BookingImportService bookingImportService,
+            BookingExportService bookingExportService,
+            BookingQueueService bookingQueueService,
+            BookingSummaryService bookingSummaryService,
+            OptimisticRetry optimisticRetry,
+            IdempotencyKeyStore idempotencyKeyStore
+    ) {
         this.bookingService = bookingService;
+        this.bookingImportService = bookingImportService;
+        this.bookingExportService = bookingExportService;
+        this.bookingQueueService = bookingQueueService;
+        this.bookingSummaryService = bookingSummaryService;
+        this.optimisticRetry = optimisticRetry;
+        this.idempotencyKeyStore = idempotencyKeyStore;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
-    public ResponseEntity<BookingResponse> createBooking(
+    public ResponseEntity<?> createBooking(
             @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
+            @RequestHeader(value = IdempotencyKeyStore.HEADER, required = false) String idempotencyKey,
             Authentication authentication
     ) {
         CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        if (prefer != null && prefer.contains("respond-async")) {
+            if (idempotencyKey == null) {
+                BookingQueueResponse queued = bookingQueueService.enqueue(request, principal.getId());
+                return accepted(queued).body(queued);
+            }
+            // Fingerprinted apart from the synchronous form, so one key cannot be replayed as the other.
+            IdempotencyKeyStore.Result<BookingQueueResponse> result = idempotencyKeyStore.execute(principal.getId(),
+                    idempotencyKey, new QueuedBookingRequest(request), BookingQueueResponse.class,
+                    () -> bookingQueueService.enqueue(request, principal.getId()));
+            return accepted(result.response())
+                    .header(IdempotencyKeyStore.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(result.response());
+        }
+
+        if (idempotencyKey != null) {
+            IdempotencyKeyStore.Result<BookingResponse> result = idempotencyKeyStore.execute(principal.getId(),
+                    idempotencyKey, request, BookingResponse.class,
+                    () -> BookingResponse.fromEntity(bookingService.createBooking(request, principal.getId())));
+            return ResponseEntity
+                    .created(URI.create("/api/bookings/" + result.response().id()))
+                    .header(IdempotencyKeyStore.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(result.response());
+        }
+
         Booking saved = bookingService.createBooking(request, principal.getId());
         BookingResponse response = BookingResponse.fromEntity(saved);
         return ResponseEntity
@@ -39,24 +107,102 @@ public class BookingController {
                 .body(response);
     }
 
+    @GetMapping("/queue/{reference}")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public BookingQueueResponse getQueuedBooking(@PathVariable String reference, Authentication authentication) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        return bookingQueueService.getStatus(reference, principal.getId());
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public void importBookings(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Authentication authentication
+    ) throws IOException {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        BookingFileFormat format = BookingFileFormat.fromContentType(request.getContentType());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        bookingImportService.importBookings(format, request.getInputStream(), principal.getId(), response.getOutputStream());
+    }
+
     @GetMapping("/operator")
     @PreAuthorize("hasRole('OPERATOR')")
     public List<BookingResponse> getBookingsForOperator(Authentication authentication) {
         CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
-        return bookingService.getBookingsForOperator(principal.getId()).stream()
-                .map(BookingResponse::fromEntity)
-                .toList();
+        return bookingService.getBookingsForOperator(principal.getId());
+    }
+
+    @GetMapping("/operator/export")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public void exportBookingsForOperator(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response,
+            Authentication authentication
+    ) throws IOException {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        BookingFileFormat fileFormat = BookingFileFormat.fromExtension(format);
+        response.setContentType(fileFormat.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("bookings." + fileFormat.getExtension())
+                .build()
+                .toString());
+        bookingExportService.exportBookingsForOperator(principal.getId(), fileFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/operator/summary")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public OperatorBookingSummaryResponse getBookingSummaryForOperator(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        return bookingSummaryService.getOperatorSummary(principal.getId(), from, to);
+    }
+
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public BookingStatusBulkUpdateResponse updateBookingStatuses(
+            @Valid @RequestBody BookingStatusBulkUpdateRequest request,
+            Authentication authentication
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        // Each attempt re-reads the bookings and re-validates every transition, so a replay cannot
+        // overwrite a status another writer set in between.
+        return optimisticRetry.execute(() -> bookingService.updateBookingStatuses(
+                request.bookingIds(), request.status(), principal.getId()));
     }
 
     @PatchMapping("/{bookingId}/status")
     @PreAuthorize("hasRole('OPERATOR')")
-    public BookingResponse updateBookingStatus(
+    public ResponseEntity<BookingResponse> updateBookingStatus(
             @PathVariable Long bookingId,
             @Valid @RequestBody BookingStatusUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
-        Booking updated = bookingService.updateBookingStatus(bookingId, request.status(), principal.getId());
-        return BookingResponse.fromEntity(updated);
+        Long expectedVersion = EntityTag.expectedVersion(ifMatch, EntityTag.BOOKING, bookingId);
+        Supplier<Booking> update = () -> bookingService.updateBookingStatus(
+                bookingId, request.status(), principal.getId(), expectedVersion);
+        // A retry re-checks If-Match against the fresh version, so only conditional writes are replayed.
+        Booking updated = expectedVersion != null ? optimisticRetry.execute(update) : optimisticRetry.executeOnce(update);
+        return ResponseEntity.ok()
+                .eTag(EntityTag.format(EntityTag.BOOKING, bookingId, updated.getVersion()))
+                .body(BookingResponse.fromEntity(updated));
+    }
+
+    private ResponseEntity.BodyBuilder accepted(BookingQueueResponse queued) {
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/bookings/queue/" + queued.reference()))
+                .header("Preference-Applied", "respond-async");
+    }
+
+    private record QueuedBookingRequest(BookingRequest queued) {
     }
 }
@@ -0,0 +1,47 @@
+package com.project.AdventureTourBooking.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.AdventureTourBooking.dto.CacheStatsResponse;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    public CacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public List<CacheStatsResponse> getCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(CacheController::toResponse)
+                .toList();
+    }
+
+    private static CacheStatsResponse toResponse(CaffeineCache cache) {
+        var nativeCache = cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return new CacheStatsResponse(
+                cache.getName(),
+                nativeCache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.AdventureTourBooking.controller;
+
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.dto.TourScheduleRequest;
+import com.project.AdventureTourBooking.dto.TourScheduleResponse;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.DepartureService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tours")
+public class DepartureController {
+
+    private final DepartureService departureService;
+
+    public DepartureController(DepartureService departureService) {
+        this.departureService = departureService;
+    }
+
+    @GetMapping("/departures")
+    public List<DepartureAvailabilityResponse> getDepartures(
+            @RequestParam List<Long> tourIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer people
+    ) {
+        return departureService.findAvailability(tourIds, from, to, people);
+    }
+
+    @GetMapping("/{tourId}/schedules")
+    public List<TourScheduleResponse> getSchedules(@PathVariable Long tourId) {
+        return departureService.getSchedules(tourId);
+    }
+
+    @PostMapping("/{tourId}/schedules")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public ResponseEntity<TourScheduleResponse> createSchedule(
+            @PathVariable Long tourId,
+            @Valid @RequestBody TourScheduleRequest request,
+            Authentication authentication
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        TourScheduleResponse schedule = departureService.createSchedule(tourId, request, principal.getId());
+        return ResponseEntity
+                .created(URI.create("/api/tours/" + tourId + "/schedules/" + schedule.id()))
+                .body(schedule);
+    }
+
+    @DeleteMapping("/{tourId}/schedules/{scheduleId}")
+    @PreAuthorize("hasRole('OPERATOR')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteSchedule(@PathVariable Long tourId, @PathVariable Long scheduleId, Authentication authentication) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        departureService.deleteSchedule(tourId, scheduleId, principal.getId());
+    }
+}
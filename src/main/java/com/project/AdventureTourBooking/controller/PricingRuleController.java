@@ -0,0 +1,61 @@
+package com.project.AdventureTourBooking.controller;
+
+import com.project.AdventureTourBooking.dto.PriceQuoteResponse;
+import com.project.AdventureTourBooking.dto.PricingRuleRequest;
+import com.project.AdventureTourBooking.dto.PricingRuleResponse;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.PricingRuleService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tours/{tourId}")
+public class PricingRuleController {
+
+    private final PricingRuleService pricingRuleService;
+
+    public PricingRuleController(PricingRuleService pricingRuleService) {
+        this.pricingRuleService = pricingRuleService;
+    }
+
+    @GetMapping("/quote")
+    public PriceQuoteResponse quote(@PathVariable Long tourId, @RequestParam(defaultValue = "1") int people) {
+        return pricingRuleService.quote(tourId, people);
+    }
+
+    @GetMapping("/pricing-rules")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public List<PricingRuleResponse> getRules(@PathVariable Long tourId, Authentication authentication) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        return pricingRuleService.getRules(tourId, principal.getId());
+    }
+
+    @PostMapping("/pricing-rules")
+    @PreAuthorize("hasRole('OPERATOR')")
+    public ResponseEntity<PricingRuleResponse> createRule(
+            @PathVariable Long tourId,
+            @Valid @RequestBody PricingRuleRequest request,
+            Authentication authentication
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        PricingRuleResponse rule = pricingRuleService.createRule(tourId, request, principal.getId());
+        return ResponseEntity
+                .created(URI.create("/api/tours/" + tourId + "/pricing-rules/" + rule.id()))
+                .body(rule);
+    }
+
+    @DeleteMapping("/pricing-rules/{ruleId}")
+    @PreAuthorize("hasRole('OPERATOR')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteRule(@PathVariable Long tourId, @PathVariable Long ruleId, Authentication authentication) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        pricingRuleService.deleteRule(tourId, ruleId, principal.getId());
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.AdventureTourBooking.controller;
+
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.dto.SeatHoldConfirmRequest;
+import com.project.AdventureTourBooking.dto.SeatHoldRequest;
+import com.project.AdventureTourBooking.dto.SeatHoldResponse;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.SeatHoldService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/bookings/holds")
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    public SeatHoldController(SeatHoldService seatHoldService) {
+        this.seatHoldService = seatHoldService;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<SeatHoldResponse> createHold(
+            @Valid @RequestBody SeatHoldRequest request,
+            Authentication authentication
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        SeatHoldResponse hold = seatHoldService.hold(request, principal.getId());
+        return ResponseEntity
+                .created(URI.create("/api/bookings/holds/" + hold.reference()))
+                .body(hold);
+    }
+
+    @GetMapping("/{reference}")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public SeatHoldResponse getHold(@PathVariable String reference, Authentication authentication) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        return seatHoldService.getHold(reference, principal.getId());
+    }
+
+    @DeleteMapping("/{reference}")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<Void> releaseHold(@PathVariable String reference, Authentication authentication) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        seatHoldService.release(reference, principal.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{reference}/confirm")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<BookingResponse> confirmHold(
+            @PathVariable String reference,
+            @Valid @RequestBody SeatHoldConfirmRequest request,
+            Authentication authentication
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        Booking booking = seatHoldService.confirm(reference, request, principal.getId());
+        BookingResponse response = BookingResponse.fromEntity(booking);
+        return ResponseEntity
+                .created(URI.create("/api/bookings/" + response.id()))
+                .body(response);
+    }
+}
@@ -1,40 +1,98 @@
 package com.project.AdventureTourBooking.controller;
 
+import com.project.AdventureTourBooking.availability.TourAvailabilityBroadcaster;
+import com.project.AdventureTourBooking.dto.EntityTag;
+import com.project.AdventureTourBooking.dto.TourNearbyRequest;
+import com.project.AdventureTourBooking.dto.TourNearbyResponse;
+import com.project.AdventureTourBooking.dto.TourPageResponse;
 import com.project.AdventureTourBooking.dto.TourRequest;
 import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.dto.TourSearchRequest;
+import com.project.AdventureTourBooking.dto.TourSearchResponse;
+import com.project.AdventureTourBooking.dto.TourVersion;
+import com.project.AdventureTourBooking.model.Tour;
 import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.OptimisticRetry;
+import com.project.AdventureTourBooking.service.TourSearchService;
 import com.project.AdventureTourBooking.service.TourService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tours")
 public class TourController {
 
     private final TourService tourService;
+    private final TourSearchService tourSearchService;
+    private final TourAvailabilityBroadcaster availabilityBroadcaster;
+    private final OptimisticRetry optimisticRetry;
+    private final String catalogCacheControl;
+    private final String tourCacheControl;
 
-    public TourController(TourService tourService) {
+    public TourController(TourService tourService,
+                          TourSearchService tourSearchService,
+                          TourAvailabilityBroadcaster availabilityBroadcaster,
+                          OptimisticRetry optimisticRetry,
+                          @Value("${tours.http.cache-control.catalog:public, max-age=30}") String catalogCacheControl,
+                          @Value("${tours.http.cache-control.tour:public, max-age=60}") String tourCacheControl) {
         this.tourService = tourService;
+        this.tourSearchService = tourSearchService;
+        this.availabilityBroadcaster = availabilityBroadcaster;
+        this.optimisticRetry = optimisticRetry;
+        this.catalogCacheControl = catalogCacheControl;
+        this.tourCacheControl = tourCacheControl;
     }
 
+    // The validators come from cached version probes, so a 304 never loads a tour or runs Jackson.
+    // checkNotModified writes ETag/Last-Modified itself; the entities below only add Cache-Control.
     @GetMapping
-    public List<TourResponse> getAllTours() {
-        return tourService.getAllTours().stream()
-                .map(TourResponse::fromEntity)
-                .toList();
+    public ResponseEntity<TourPageResponse> getTours(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(tourService.getCatalogVersion().etag())) {
+            return cacheable(ResponseEntity.status(HttpStatus.NOT_MODIFIED), catalogCacheControl).build();
+        }
+        return cacheable(ResponseEntity.ok(), catalogCacheControl).body(tourService.getTourPage(cursor, size));
+    }
+
+    @GetMapping("/search")
+    public TourSearchResponse searchTours(TourSearchRequest request) {
+        return tourSearchService.search(request);
+    }
+
+    @GetMapping("/nearby")
+    public TourNearbyResponse nearbyTours(TourNearbyRequest request) {
+        return tourSearchService.nearby(request);
+    }
+
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability() {
+        return availabilityBroadcaster.subscribe();
     }
 
     @GetMapping("/{id}")
-    public TourResponse getTourById(@PathVariable Long id) {
-        return TourResponse.fromEntity(tourService.getTourById(id));
+    public ResponseEntity<TourResponse> getTourById(@PathVariable Long id, WebRequest webRequest) {
+        TourVersion version = tourService.getTourVersion(id);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return cacheable(ResponseEntity.status(HttpStatus.NOT_MODIFIED), tourCacheControl).build();
+        }
+        return cacheable(ResponseEntity.ok(), tourCacheControl).body(tourService.getTourResponse(id));
     }
 
     @GetMapping("/operators/{operatorId}")
@@ -65,13 +123,20 @@ public class TourController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('OPERATOR')")
-    public TourResponse updateTour(
+    public ResponseEntity<TourResponse> updateTour(
             @PathVariable Long id,
             @Valid @RequestBody TourRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
-        return TourResponse.fromEntity(tourService.updateTour(id, request, principal.getId()));
+        Long expectedVersion = EntityTag.expectedVersion(ifMatch, EntityTag.TOUR, id);
+        Supplier<Tour> update = () -> tourService.updateTour(id, request, principal.getId(), expectedVersion);
+        // A retry re-checks If-Match against the fresh version, so only conditional writes are replayed.
+        Tour updated = expectedVersion != null ? optimisticRetry.execute(update) : optimisticRetry.executeOnce(update);
+        return ResponseEntity.ok()
+                .eTag(EntityTag.format(EntityTag.TOUR, id, updated.getVersion()))
+                .body(TourResponse.fromEntity(updated));
     }
 
     @DeleteMapping("/{id}")
@@ -81,4 +146,8 @@ public class TourController {
         CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
         tourService.deleteTour(id, principal.getId());
     }
+
+    private ResponseEntity.BodyBuilder cacheable(ResponseEntity.BodyBuilder builder, String cacheControl) {
+        return cacheControl.isBlank() ? builder : builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
 }
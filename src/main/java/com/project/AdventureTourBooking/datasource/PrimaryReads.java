@@ -0,0 +1,40 @@
+package com.project.AdventureTourBooking.datasource;
+
+import java.util.function.Supplier;
+
+// The per-thread pin behind @ReadFromPrimary. The routing decision is taken at the first statement of
+// a transaction, so the pin has to be in place while the transaction runs, not just when it begins.
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> reads) {
+        boolean previous = pin();
+        try {
+            return reads.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    static boolean pin() {
+        boolean previous = PINNED.get();
+        PINNED.set(true);
+        return previous;
+    }
+
+    static void restore(boolean previous) {
+        if (previous) {
+            PINNED.set(true);
+        } else {
+            PINNED.remove();
+        }
+    }
+}
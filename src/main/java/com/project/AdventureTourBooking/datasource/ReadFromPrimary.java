@@ -0,0 +1,19 @@
+package com.project.AdventureTourBooking.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Read-only transactions started inside the annotated method, or any method of the annotated type,
+// use the primary instead of a replica. Reads that fill shared caches need it: a lagging replica would
+// otherwise put pre-write state back into the cache right after the write evicted it.
+//
+// Applied through a proxy, so a call from inside the same bean is not pinned; programmatic reads use
+// PrimaryReads.call instead.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,24 @@
+package com.project.AdventureTourBooking.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.project.AdventureTourBooking.datasource.ReadFromPrimary)"
+            + " || @within(com.project.AdventureTourBooking.datasource.ReadFromPrimary)")
+    public Object pin(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = PrimaryReads.pin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PrimaryReads.restore(previous);
+        }
+    }
+}
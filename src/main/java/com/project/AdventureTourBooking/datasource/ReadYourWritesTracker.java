@@ -0,0 +1,27 @@
+package com.project.AdventureTourBooking.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxUsers) {
+        this.recentWriters = window.isZero() || window.isNegative()
+                ? null
+                : Caffeine.newBuilder().expireAfterWrite(window).maximumSize(maxUsers).build();
+    }
+
+    public void recordWrite(String user) {
+        if (recentWriters != null && user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(String user) {
+        return recentWriters != null && user != null && recentWriters.getIfPresent(user) != null;
+    }
+}
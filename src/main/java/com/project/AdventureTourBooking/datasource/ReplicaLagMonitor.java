@@ -0,0 +1,93 @@
+package com.project.AdventureTourBooking.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final Map<String, JdbcTemplate> replicas = new ConcurrentHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final List<String> names;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+    private volatile List<String> healthyReplicas = List.of();
+    private ThreadPoolTaskScheduler scheduler;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, Duration maxLag, Duration checkInterval) {
+        replicas.forEach((name, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+            this.replicas.put(name, jdbcTemplate);
+            this.lagSeconds.put(name, Double.NaN);
+        });
+        this.names = List.copyOf(replicas.keySet());
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+    }
+
+    public void start() {
+        probe();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("replica-lag-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::probe, checkInterval);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    // An unreachable replica is recorded as NaN and drops out of rotation until a probe succeeds.
+    public void probe() {
+        List<String> healthy = new ArrayList<>(names.size());
+        for (String name : names) {
+            double lag;
+            try {
+                Number value = replicas.get(name).queryForObject(lagQuery, Number.class);
+                lag = value != null ? value.doubleValue() : 0;
+            } catch (RuntimeException ex) {
+                log.warn("Replica {} lag probe failed: {}", name, ex.getMessage());
+                lag = Double.NaN;
+            }
+            lagSeconds.put(name, lag);
+            if (lag <= maxLagSeconds) {
+                healthy.add(name);
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : names) {
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                    .description("Replication lag reported by the last probe")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(registry);
+        }
+    }
+}
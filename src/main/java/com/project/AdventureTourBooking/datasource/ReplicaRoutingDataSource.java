@@ -0,0 +1,108 @@
+package com.project.AdventureTourBooking.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only
+// published after the transaction manager has asked for a connection, so the physical
+// connection (and with it the routing decision) has to wait for the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Supplier<String> currentUser;
+    private final Map<String, Counter> routed = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWrites,
+                                    Supplier<String> currentUser,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.currentUser = currentUser;
+
+        Map<Object, Object> targets = new LinkedHashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        for (Object key : targets.keySet()) {
+            routed.put((String) key, Counter.builder("datasource.routing.connections")
+                    .description("Physical connections handed out by target")
+                    .tag("target", (String) key)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagMonitor.start();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return count(route());
+    }
+
+    private String route() {
+        String user = currentUser.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit(user);
+            return PRIMARY;
+        }
+        if (readYourWrites.isSticky(user) || PrimaryReads.isPinned()) {
+            return PRIMARY;
+        }
+        List<String> healthy = lagMonitor.getHealthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    private void rememberWriteOnCommit(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(user);
+            }
+        });
+    }
+
+    private String count(String key) {
+        routed.get(key).increment();
+        return key;
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagMonitor.stop();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.AdventureTourBooking.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("datasource.routing")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("PT5S") Duration maxLag,
+        @DefaultValue("PT2S") Duration lagCheckInterval,
+        @DefaultValue("PT5S") Duration stickyWindow,
+        @DefaultValue("100000") long maxStickyUsers,
+        @DefaultValue(DEFAULT_LAG_QUERY) String lagQuery
+) {
+    // An idle primary produces no WAL to replay, so a caught-up replica reports zero lag rather
+    // than the time since the last replayed transaction.
+    public static final String DEFAULT_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.project.AdventureTourBooking.departure;
+
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.model.TourDeparture;
+import com.project.AdventureTourBooking.model.TourSchedule;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Per-tour snapshots of every schedule together with the seats already booked on its departures,
+// held as day numbers in sorted primitive arrays. A range query walks each schedule day by day and
+// merges in the booked counts, so departures that nobody has booked yet never need a row anywhere.
+@Component
+public class DepartureAvailabilityIndex {
+
+    private static final Comparator<DepartureAvailabilityResponse> DEPARTURE_ORDER = Comparator
+            .comparing(DepartureAvailabilityResponse::departsAt)
+            .thenComparing(DepartureAvailabilityResponse::scheduleId);
+
+    private final Map<Long, CompiledSchedule[]> schedulesByTour = new ConcurrentHashMap<>();
+
+    public void replace(Long tourId, Collection<TourSchedule> schedules, Collection<TourDeparture> departures) {
+        if (schedules.isEmpty()) {
+            schedulesByTour.remove(tourId);
+            return;
+        }
+        Map<Long, List<TourDeparture>> bookedBySchedule = departures.stream()
+                .collect(Collectors.groupingBy(departure -> departure.getId().getScheduleId()));
+        CompiledSchedule[] compiled = schedules.stream()
+                .sorted(Comparator.comparing(TourSchedule::getId))
+                .map(schedule -> CompiledSchedule.compile(schedule,
+                        bookedBySchedule.getOrDefault(schedule.getId(), List.of())))
+                .toArray(CompiledSchedule[]::new);
+        schedulesByTour.put(tourId, compiled);
+    }
+
+    // Swaps in one departure's booked seats without recompiling the rest of the tour. Returns false when
+    // the schedule is not in the index, in which case the caller has to reload the tour.
+    public boolean updateDeparture(Long tourId, Long scheduleId, LocalDate day, int bookedSeats) {
+        boolean[] updated = {false};
+        schedulesByTour.computeIfPresent(tourId, (id, schedules) -> {
+            for (int i = 0; i < schedules.length; i++) {
+                if (schedules[i].id().equals(scheduleId)) {
+                    CompiledSchedule[] copy = schedules.clone();
+                    copy[i] = schedules[i].withBooked(day.toEpochDay(), bookedSeats);
+                    updated[0] = true;
+                    return copy;
+                }
+            }
+            return schedules;
+        });
+        return updated[0];
+    }
+
+    public void replaceAll(Collection<TourSchedule> schedules, Collection<TourDeparture> departures) {
+        replaceAll(schedules, departures, Set.of());
+    }
+
+    // Tours in keep are left as they are, whether or not the snapshot mentions them.
+    public void replaceAll(Collection<TourSchedule> schedules, Collection<TourDeparture> departures, Set<Long> keep) {
+        Map<Long, List<TourSchedule>> schedulesByTourId = schedules.stream()
+                .collect(Collectors.groupingBy(TourSchedule::getTourId));
+        Map<Long, List<TourDeparture>> departuresByTourId = departures.stream()
+                .collect(Collectors.groupingBy(TourDeparture::getTourId));
+        schedulesByTourId.forEach((tourId, tourSchedules) -> {
+            if (!keep.contains(tourId)) {
+                replace(tourId, tourSchedules, departuresByTourId.getOrDefault(tourId, List.of()));
+            }
+        });
+        schedulesByTour.keySet().removeIf(tourId -> !schedulesByTourId.containsKey(tourId) && !keep.contains(tourId));
+    }
+
+    public void remove(Long tourId) {
+        schedulesByTour.remove(tourId);
+    }
+
+    public int size() {
+        return schedulesByTour.size();
+    }
+
+    // Tours come back in the order given and their departures in time order; both ends of the
+    // range are inclusive.
+    public List<DepartureAvailabilityResponse> find(Collection<Long> tourIds, LocalDate from, LocalDate to, int minSeats) {
+        long firstDay = from.toEpochDay();
+        long lastDay = to.toEpochDay();
+        List<DepartureAvailabilityResponse> results = new ArrayList<>();
+        for (Long tourId : tourIds) {
+            CompiledSchedule[] schedules = schedulesByTour.get(tourId);
+            if (schedules == null) {
+                continue;
+            }
+            int start = results.size();
+            for (CompiledSchedule schedule : schedules) {
+                schedule.collect(tourId, firstDay, lastDay, minSeats, results);
+            }
+            if (schedules.length > 1) {
+                results.subList(start, results.size()).sort(DEPARTURE_ORDER);
+            }
+        }
+        return results;
+    }
+
+    private record CompiledSchedule(
+            Long id,
+            int daysOfWeek,
+            LocalTime startTime,
+            long firstDay,
+            long lastDay,
+            int capacity,
+            long[] bookedDays,
+            int[] bookedSeats
+    ) {
+        static CompiledSchedule compile(TourSchedule schedule, List<TourDeparture> departures) {
+            List<TourDeparture> booked = departures.stream()
+                    .sorted(Comparator.comparing(departure -> departure.getId().getDepartsAt()))
+                    .toList();
+            return new CompiledSchedule(
+                    schedule.getId(),
+                    schedule.getDaysOfWeek(),
+                    schedule.getStartTime(),
+                    schedule.getStartsOn().toEpochDay(),
+                    schedule.getEndsOn() != null ? schedule.getEndsOn().toEpochDay() : Long.MAX_VALUE,
+                    schedule.getCapacity(),
+                    booked.stream().mapToLong(departure -> departure.getId().getDepartsAt().toLocalDate().toEpochDay()).toArray(),
+                    booked.stream().mapToInt(TourDeparture::getBookedSeats).toArray()
+            );
+        }
+
+        CompiledSchedule withBooked(long day, int seats) {
+            int at = Arrays.binarySearch(bookedDays, day);
+            long[] days = bookedDays;
+            int[] booked;
+            if (at >= 0) {
+                booked = bookedSeats.clone();
+                booked[at] = seats;
+            } else {
+                int insert = -at - 1;
+                days = new long[bookedDays.length + 1];
+                booked = new int[bookedSeats.length + 1];
+                System.arraycopy(bookedDays, 0, days, 0, insert);
+                System.arraycopy(bookedSeats, 0, booked, 0, insert);
+                days[insert] = day;
+                booked[insert] = seats;
+                System.arraycopy(bookedDays, insert, days, insert + 1, bookedDays.length - insert);
+                System.arraycopy(bookedSeats, insert, booked, insert + 1, bookedSeats.length - insert);
+            }
+            return new CompiledSchedule(id, daysOfWeek, startTime, firstDay, lastDay, capacity, days, booked);
+        }
+
+        void collect(Long tourId, long from, long to, int minSeats, List<DepartureAvailabilityResponse> results) {
+            long last = Math.min(to, lastDay);
+            int booking = 0;
+            for (long day = Math.max(from, firstDay); day <= last; day++) {
+                // 1970-01-01 was a Thursday, which is bit 3 when Monday is bit 0.
+                if ((daysOfWeek & (1 << Math.floorMod(day + 3, 7))) == 0) {
+                    continue;
+                }
+                while (booking < bookedDays.length && bookedDays[booking] < day) {
+                    booking++;
+                }
+                int taken = booking < bookedDays.length && bookedDays[booking] == day ? bookedSeats[booking] : 0;
+                int remaining = Math.max(capacity - taken, 0);
+                if (remaining >= minSeats) {
+                    results.add(new DepartureAvailabilityResponse(tourId, id,
+                            LocalDateTime.of(LocalDate.ofEpochDay(day), startTime), capacity, remaining));
+                }
+            }
+        }
+    }
+}
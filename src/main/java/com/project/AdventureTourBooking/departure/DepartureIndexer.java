@@ -0,0 +1,231 @@
+package com.project.AdventureTourBooking.departure;
+
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.datasource.PrimaryReads;
+import com.project.AdventureTourBooking.event.DepartureChangedEvent;
+import com.project.AdventureTourBooking.event.TourChangedEvent;
+import com.project.AdventureTourBooking.model.TourDeparture;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import com.project.AdventureTourBooking.model.TourSchedule;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourScheduleRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Changes committed on any instance are fanned out on the departures invalidation topic. A booking only
+// re-reads the one departure it touched; a schedule change reloads the tour. The periodic rebuild is a
+// backstop for a lost message.
+//
+// As in PricingEngine, reads run outside the lock, which only orders the swaps: each read takes a sequence
+// number, and a snapshot never replaces data that was read later than it was.
+@Component
+public class DepartureIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartureIndexer.class);
+
+    private final DepartureAvailabilityIndex index;
+    private final TourScheduleRepository scheduleRepository;
+    private final TourDepartureRepository departureRepository;
+    private final TransactionTemplate readTransaction;
+    private final CacheInvalidationChannel channel;
+    private final Duration refreshInterval;
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final AtomicLong reads = new AtomicLong();
+    // Guarded by swapLock: the sequence of the last full read applied, and of per-tour and per-departure
+    // reads applied since. Departure reads keep their seats so they can be laid over an older reload.
+    private final Map<Long, Long> tourReads = new HashMap<>();
+    private final Map<TourDepartureKey, DepartureRead> departureReads = new HashMap<>();
+    private long fullRead;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public DepartureIndexer(DepartureAvailabilityIndex index,
+                            TourScheduleRepository scheduleRepository,
+                            TourDepartureRepository departureRepository,
+                            PlatformTransactionManager transactionManager,
+                            CacheInvalidationChannel channel,
+                            @Value("${tours.departures.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.index = index;
+        this.scheduleRepository = scheduleRepository;
+        this.departureRepository = departureRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setName("DepartureIndexer.read");
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.channel = channel;
+        this.refreshInterval = refreshInterval;
+        channel.subscribe(CacheInvalidationChannel.DEPARTURES, this::onInvalidated);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("departure-index-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, refreshInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    public void rebuild() {
+        long read = reads.incrementAndGet();
+        LocalDate today = LocalDate.now();
+        Snapshot snapshot = read(status -> new Snapshot(
+                scheduleRepository.findRunningOnOrAfter(today),
+                departureRepository.findBookedFrom(today.atStartOfDay())));
+        swapLock.lock();
+        try {
+            if (read < fullRead) {
+                return;
+            }
+            Set<Long> newer = new HashSet<>();
+            tourReads.forEach((tourId, tourRead) -> {
+                if (tourRead > read) {
+                    newer.add(tourId);
+                }
+            });
+            index.replaceAll(snapshot.schedules(), snapshot.departures(), newer);
+            departureReads.entrySet().removeIf(entry -> entry.getValue().read() <= read);
+            departureReads.forEach((departure, departureRead) -> {
+                if (!newer.contains(departureRead.tourId())) {
+                    apply(departure, departureRead);
+                }
+            });
+            tourReads.values().removeIf(tourRead -> tourRead <= read);
+            fullRead = read;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDepartureChanged(DepartureChangedEvent event) {
+        TourDepartureKey departure = event.departure();
+        channel.publish(CacheInvalidationChannel.DEPARTURES, departure == null
+                ? event.tourId().toString()
+                : event.tourId() + "/" + departure.getScheduleId() + "/" + departure.getDepartsAt());
+    }
+
+    // Schedules cascade with their tour, so the reload after a delete finds none and drops the tour.
+    @TransactionalEventListener
+    public void onTourChanged(TourChangedEvent event) {
+        if (event.type() == TourChangedEvent.Type.DELETED) {
+            channel.publish(CacheInvalidationChannel.DEPARTURES, event.tourId().toString());
+        }
+    }
+
+    // Keys are either "tourId" or "tourId/scheduleId/departsAt".
+    void onInvalidated(String key) {
+        String[] parts = key.split("/");
+        Long tourId = Long.valueOf(parts[0]);
+        if (parts.length == 1) {
+            reload(tourId);
+            return;
+        }
+        TourDepartureKey departure = new TourDepartureKey(Long.valueOf(parts[1]), LocalDateTime.parse(parts[2]));
+        long read = reads.incrementAndGet();
+        Integer bookedSeats = read(status -> departureRepository.findById(departure)
+                .map(TourDeparture::getBookedSeats)
+                .orElse(0));
+        DepartureRead departureRead = new DepartureRead(read, tourId, bookedSeats != null ? bookedSeats : 0);
+        swapLock.lock();
+        try {
+            DepartureRead applied = departureReads.get(departure);
+            if (read < fullRead || read < tourReads.getOrDefault(tourId, 0L)
+                    || applied != null && read < applied.read()) {
+                return;
+            }
+            if (apply(departure, departureRead)) {
+                departureReads.put(departure, departureRead);
+                return;
+            }
+        } finally {
+            swapLock.unlock();
+        }
+        reload(tourId);
+    }
+
+    void reload(Long tourId) {
+        long read = reads.incrementAndGet();
+        LocalDate today = LocalDate.now();
+        Snapshot snapshot = read(status -> {
+            List<TourSchedule> schedules = scheduleRepository.findByTourIdOrderById(tourId).stream()
+                    .filter(schedule -> schedule.getEndsOn() == null || !schedule.getEndsOn().isBefore(today))
+                    .toList();
+            List<TourDeparture> departures = schedules.isEmpty()
+                    ? List.of()
+                    : departureRepository.findBookedByTourIdFrom(tourId, today.atStartOfDay());
+            return new Snapshot(schedules, departures);
+        });
+        swapLock.lock();
+        try {
+            if (read < fullRead || read < tourReads.getOrDefault(tourId, 0L)) {
+                return;
+            }
+            index.replace(tourId, snapshot.schedules(), snapshot.departures());
+            departureReads.entrySet().removeIf(entry -> entry.getValue().tourId().equals(tourId)
+                    && entry.getValue().read() <= read);
+            departureReads.forEach((departure, departureRead) -> {
+                if (departureRead.tourId().equals(tourId)) {
+                    apply(departure, departureRead);
+                }
+            });
+            tourReads.put(tourId, read);
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    // Index snapshots must not come from a lagging replica, and a programmatic transaction is out of
+    // reach of @ReadFromPrimary.
+    private <T> T read(TransactionCallback<T> callback) {
+        return PrimaryReads.call(() -> readTransaction.execute(callback));
+    }
+
+    private boolean apply(TourDepartureKey departure, DepartureRead departureRead) {
+        return index.updateDeparture(departureRead.tourId(), departure.getScheduleId(),
+                departure.getDepartsAt().toLocalDate(), departureRead.bookedSeats());
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Departure index rebuild failed, keeping the previous index", ex);
+        }
+    }
+
+    private record Snapshot(List<TourSchedule> schedules, List<TourDeparture> departures) {
+    }
+
+    private record DepartureRead(long read, Long tourId, int bookedSeats) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookingImportResult(
+        long line,
+        Outcome outcome,
+        Long bookingId,
+        String error
+) {
+    public enum Outcome {
+        CREATED,
+        REJECTED
+    }
+
+    public static BookingImportResult created(long line, Long bookingId) {
+        return new BookingImportResult(line, Outcome.CREATED, bookingId, null);
+    }
+
+    public static BookingImportResult rejected(long line, String error) {
+        return new BookingImportResult(line, Outcome.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.BookingQueueItem;
+import com.project.AdventureTourBooking.model.BookingQueueState;
+
+import java.time.LocalDateTime;
+
+public record BookingQueueResponse(
+        String reference,
+        BookingQueueState state,
+        Long bookingId,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime processedAt
+) {
+    public static BookingQueueResponse fromEntity(BookingQueueItem item) {
+        return new BookingQueueResponse(
+                item.getReference(),
+                item.getState(),
+                item.getBookingId(),
+                item.getError(),
+                item.getCreatedAt(),
+                item.getProcessedAt()
+        );
+    }
+}
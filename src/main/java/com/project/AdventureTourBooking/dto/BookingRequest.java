@@ -2,8 +2,8 @@ package com.project.AdventureTourBooking.dto;
 
 import com.project.AdventureTourBooking.model.BookingStatus;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record BookingRequest(
@@ -11,14 +11,17 @@ public record BookingRequest(
         Long tourId,
 
         @NotNull
+        @Positive
         Integer numberOfPeople,
 
-        @NotNull
-        BigDecimal totalPrice,
-
         @NotNull
         LocalDateTime bookingDate,
 
-        BookingStatus status
+        BookingStatus status,
+
+        LocalDateTime departsAt
 ) {
+    public BookingRequest(Long tourId, Integer numberOfPeople, LocalDateTime bookingDate, BookingStatus status) {
+        this(tourId, numberOfPeople, bookingDate, status, null);
+    }
 }
@@ -12,7 +12,9 @@ public record BookingResponse(
         Integer numberOfPeople,
         BigDecimal totalPrice,
         LocalDateTime bookingDate,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        Long version,
+        LocalDateTime departsAt
 ) {
     public static BookingResponse fromEntity(Booking booking) {
         return new BookingResponse(
@@ -21,7 +23,9 @@ public record BookingResponse(
                 booking.getNumberOfPeople(),
                 booking.getTotalPrice(),
                 booking.getBookingDate(),
-                booking.getCreatedAt()
+                booking.getCreatedAt(),
+                booking.getVersion(),
+                booking.getDepartsAt()
         );
     }
 }
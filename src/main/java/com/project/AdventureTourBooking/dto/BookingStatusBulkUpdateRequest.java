@@ -0,0 +1,15 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.BookingStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BookingStatusBulkUpdateRequest(
+        @NotEmpty
+        List<@NotNull Long> bookingIds,
+        @NotNull
+        BookingStatus status
+) {
+}
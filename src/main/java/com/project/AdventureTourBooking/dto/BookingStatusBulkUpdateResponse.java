@@ -0,0 +1,27 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.BookingStatus;
+
+import java.util.List;
+
+public record BookingStatusBulkUpdateResponse(
+        BookingStatus status,
+        int updated,
+        List<Result> results
+) {
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        INVALID_TRANSITION,
+        FORBIDDEN,
+        NOT_FOUND
+    }
+
+    public record Result(
+            Long bookingId,
+            Outcome outcome,
+            BookingStatus status,
+            Long version
+    ) {
+    }
+}
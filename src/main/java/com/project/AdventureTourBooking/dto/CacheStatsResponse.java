@@ -0,0 +1,11 @@
+package com.project.AdventureTourBooking.dto;
+
+public record CacheStatsResponse(
+        String name,
+        long size,
+        long hits,
+        long misses,
+        long evictions,
+        double hitRate
+) {
+}
@@ -0,0 +1,12 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.time.LocalDateTime;
+
+public record CatalogVersion(
+        Long tourCount,
+        LocalDateTime lastUpdatedAt
+) {
+    public String etag() {
+        return "\"catalog-" + tourCount + "-" + Long.toHexString(TourVersion.epochNanos(lastUpdatedAt)) + "\"";
+    }
+}
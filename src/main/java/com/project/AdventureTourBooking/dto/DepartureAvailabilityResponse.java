@@ -0,0 +1,12 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.time.LocalDateTime;
+
+public record DepartureAvailabilityResponse(
+        Long tourId,
+        Long scheduleId,
+        LocalDateTime departsAt,
+        Integer capacity,
+        Integer remainingSeats
+) {
+}
@@ -0,0 +1,35 @@
+package com.project.AdventureTourBooking.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public final class EntityTag {
+
+    public static final String TOUR = "tour";
+    public static final String BOOKING = "booking";
+
+    private EntityTag() {
+    }
+
+    public static String format(String resource, Long id, Long version) {
+        return "\"" + resource + "-" + id + "-v" + version + "\"";
+    }
+
+    // Returns null for an unconditional request (no header or "*"). Anything other than a single
+    // strong tag for this resource can never match, so it fails the precondition outright.
+    public static Long expectedVersion(String ifMatch, String resource, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + resource + "-" + id + "-v";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // fall through to the precondition failure
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the current " + resource);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record OperatorBookingSummaryResponse(
+        LocalDate from,
+        LocalDate to,
+        Totals totals,
+        List<TourSummary> tours,
+        List<DaySummary> days
+) {
+    public record Totals(
+            Map<BookingStatus, Long> bookingsByStatus,
+            long seatsSold,
+            BigDecimal revenue
+    ) {
+    }
+
+    public record TourSummary(
+            Long tourId,
+            String title,
+            Totals totals
+    ) {
+    }
+
+    public record DaySummary(
+            LocalDate day,
+            Totals totals
+    ) {
+    }
+}
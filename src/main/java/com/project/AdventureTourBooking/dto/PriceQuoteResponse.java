@@ -0,0 +1,11 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.math.BigDecimal;
+
+public record PriceQuoteResponse(
+        Long tourId,
+        Integer numberOfPeople,
+        BigDecimal unitPrice,
+        BigDecimal totalPrice
+) {
+}
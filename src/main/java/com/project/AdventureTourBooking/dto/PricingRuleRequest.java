@@ -0,0 +1,33 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.PricingRuleType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PricingRuleRequest(
+        @NotNull
+        PricingRuleType type,
+
+        @NotNull
+        @DecimalMin("0.01")
+        @DecimalMax("5.00")
+        @Digits(integer = 1, fraction = 4)
+        BigDecimal multiplier,
+
+        @Positive
+        Integer minPeople,
+
+        @Positive
+        Integer minDaysAhead,
+
+        LocalDate startsOn,
+
+        LocalDate endsOn
+) {
+}
@@ -0,0 +1,31 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.PricingRule;
+import com.project.AdventureTourBooking.model.PricingRuleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PricingRuleResponse(
+        Long id,
+        Long tourId,
+        PricingRuleType type,
+        BigDecimal multiplier,
+        Integer minPeople,
+        Integer minDaysAhead,
+        LocalDate startsOn,
+        LocalDate endsOn
+) {
+    public static PricingRuleResponse fromEntity(PricingRule rule) {
+        return new PricingRuleResponse(
+                rule.getId(),
+                rule.getTourId(),
+                rule.getType(),
+                rule.getMultiplier(),
+                rule.getMinPeople(),
+                rule.getMinDaysAhead(),
+                rule.getStartsOn(),
+                rule.getEndsOn()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.AdventureTourBooking.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record SeatHoldConfirmRequest(
+        @NotNull
+        LocalDateTime bookingDate
+) {
+}
@@ -0,0 +1,9 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.time.LocalDateTime;
+
+public record SeatHoldDeadline(
+        Long id,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.project.AdventureTourBooking.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record SeatHoldRequest(
+        @NotNull
+        Long tourId,
+
+        @NotNull
+        @Positive
+        Integer numberOfPeople
+) {
+}
@@ -0,0 +1,26 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.SeatHold;
+import com.project.AdventureTourBooking.model.SeatHoldState;
+
+import java.time.LocalDateTime;
+
+public record SeatHoldResponse(
+        String reference,
+        Long tourId,
+        Integer numberOfPeople,
+        SeatHoldState state,
+        LocalDateTime expiresAt,
+        Long bookingId
+) {
+    public static SeatHoldResponse fromEntity(SeatHold hold) {
+        return new SeatHoldResponse(
+                hold.getReference(),
+                hold.getTourId(),
+                hold.getNumberOfPeople(),
+                hold.getState(),
+                hold.getExpiresAt(),
+                hold.getBookingId()
+        );
+    }
+}
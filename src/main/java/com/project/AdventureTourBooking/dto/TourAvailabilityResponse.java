@@ -0,0 +1,28 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// remainingSeats covers bookings made against the tour itself; a scheduled tour's seats live on its
+// departures, and departures lists the ones whose seats changed since the previous frame.
+public record TourAvailabilityResponse(
+        Long id,
+        BigDecimal price,
+        Integer maxCapacity,
+        Integer remainingSeats,
+        boolean removed,
+        List<DepartureAvailabilityResponse> departures
+) {
+    public TourAvailabilityResponse(Long id, BigDecimal price, Integer maxCapacity, Integer remainingSeats,
+                                    boolean removed) {
+        this(id, price, maxCapacity, remainingSeats, removed, List.of());
+    }
+
+    public static TourAvailabilityResponse removed(Long id) {
+        return new TourAvailabilityResponse(id, null, null, null, true);
+    }
+
+    public TourAvailabilityResponse withDepartures(List<DepartureAvailabilityResponse> departures) {
+        return new TourAvailabilityResponse(id, price, maxCapacity, remainingSeats, removed, departures);
+    }
+}
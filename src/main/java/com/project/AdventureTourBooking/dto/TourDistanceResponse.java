@@ -0,0 +1,7 @@
+package com.project.AdventureTourBooking.dto;
+
+public record TourDistanceResponse(
+        TourResponse tour,
+        double distanceKm
+) {
+}
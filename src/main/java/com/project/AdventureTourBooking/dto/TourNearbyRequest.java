@@ -0,0 +1,14 @@
+package com.project.AdventureTourBooking.dto;
+
+public record TourNearbyRequest(
+        Double lat,
+
+        Double lon,
+
+        Double radiusKm,
+
+        Integer page,
+
+        Integer size
+) {
+}
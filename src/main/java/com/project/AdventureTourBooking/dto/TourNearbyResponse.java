@@ -0,0 +1,11 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.util.List;
+
+public record TourNearbyResponse(
+        List<TourDistanceResponse> items,
+        int page,
+        int size,
+        long total
+) {
+}
@@ -0,0 +1,9 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.util.List;
+
+public record TourPageResponse(
+        List<TourResponse> items,
+        String next
+) {
+}
@@ -0,0 +1,11 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record TourPricing(
+        Long id,
+        BigDecimal price,
+        LocalDateTime availableFrom
+) {
+}
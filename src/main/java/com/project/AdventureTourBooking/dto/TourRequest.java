@@ -1,5 +1,7 @@
 package com.project.AdventureTourBooking.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -24,6 +26,18 @@ public record TourRequest(
         LocalDateTime availableFrom,
 
         @NotNull
-        Integer durationHour
+        Integer durationHour,
+
+        @DecimalMin("-90.0")
+        @DecimalMax("90.0")
+        Double latitude,
+
+        @DecimalMin("-180.0")
+        @DecimalMax("180.0")
+        Double longitude
 ) {
+    public TourRequest(String title, String description, BigDecimal price, String location, Integer maxCapacity,
+                       LocalDateTime availableFrom, Integer durationHour) {
+        this(title, description, price, location, maxCapacity, availableFrom, durationHour, null, null);
+    }
 }
@@ -12,11 +12,14 @@ public record TourResponse(
         String description,
         BigDecimal price,
         String location,
+        Double latitude,
+        Double longitude,
         Integer maxCapacity,
         LocalDateTime availableFrom,
         Integer durationHours,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
     public static TourResponse fromEntity(Tour tour) {
         return new TourResponse(
@@ -26,11 +29,14 @@ public record TourResponse(
                 tour.getDescription(),
                 tour.getPrice(),
                 tour.getLocation(),
+                tour.getLatitude(),
+                tour.getLongitude(),
                 tour.getMaxCapacity(),
                 tour.getAvailableFrom(),
                 tour.getDurationHours(),
                 tour.getCreatedAt(),
-                tour.getUpdatedAt()
+                tour.getUpdatedAt(),
+                tour.getVersion()
         );
     }
 }
@@ -0,0 +1,27 @@
+package com.project.AdventureTourBooking.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record TourScheduleRequest(
+        @NotNull
+        LocalTime startTime,
+
+        @NotEmpty
+        Set<DayOfWeek> daysOfWeek,
+
+        @NotNull
+        LocalDate startsOn,
+
+        LocalDate endsOn,
+
+        @Positive
+        Integer capacity
+) {
+}
@@ -0,0 +1,37 @@
+package com.project.AdventureTourBooking.dto;
+
+import com.project.AdventureTourBooking.model.TourSchedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+public record TourScheduleResponse(
+        Long id,
+        Long tourId,
+        LocalTime startTime,
+        Set<DayOfWeek> daysOfWeek,
+        LocalDate startsOn,
+        LocalDate endsOn,
+        Integer capacity
+) {
+    public static TourScheduleResponse fromEntity(TourSchedule schedule) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((schedule.getDaysOfWeek() & TourSchedule.dayBit(day)) != 0) {
+                days.add(day);
+            }
+        }
+        return new TourScheduleResponse(
+                schedule.getId(),
+                schedule.getTourId(),
+                schedule.getStartTime(),
+                days,
+                schedule.getStartsOn(),
+                schedule.getEndsOn(),
+                schedule.getCapacity()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.AdventureTourBooking.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record TourSearchRequest(
+        String q,
+
+        BigDecimal minPrice,
+
+        BigDecimal maxPrice,
+
+        Integer minDuration,
+
+        Integer maxDuration,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime to,
+
+        Integer page,
+
+        Integer size
+) {
+}
@@ -0,0 +1,26 @@
+package com.project.AdventureTourBooking.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record TourVersion(
+        Long id,
+        Long version,
+        LocalDateTime updatedAt
+) {
+    public String etag() {
+        return EntityTag.format(EntityTag.TOUR, id, version);
+    }
+
+    public long lastModified() {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    static long epochNanos(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return 0;
+        }
+        var instant = timestamp.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.AdventureTourBooking.event;
+
+public record BookingChangedEvent(
+        Long bookingId,
+        Long tourId,
+        Type type
+) {
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.AdventureTourBooking.event;
+
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+
+// departure is set when only that departure's booked seats changed, and null when the tour's
+// schedules themselves changed.
+public record DepartureChangedEvent(
+        Long tourId,
+        TourDepartureKey departure
+) {
+    public DepartureChangedEvent(Long tourId) {
+        this(tourId, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.project.AdventureTourBooking.event;
+
+public record PricingRulesChangedEvent(
+        Long tourId
+) {
+}
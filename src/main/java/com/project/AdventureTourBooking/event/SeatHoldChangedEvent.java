@@ -0,0 +1,13 @@
+package com.project.AdventureTourBooking.event;
+
+import com.project.AdventureTourBooking.model.SeatHoldState;
+
+import java.time.LocalDateTime;
+
+public record SeatHoldChangedEvent(
+        Long holdId,
+        Long tourId,
+        SeatHoldState state,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.project.AdventureTourBooking.event;
+
+public record TourChangedEvent(
+        Long tourId,
+        Type type
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
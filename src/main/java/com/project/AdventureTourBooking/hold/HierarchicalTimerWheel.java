@@ -0,0 +1,129 @@
+package com.project.AdventureTourBooking.hold;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Hashed hierarchical timing wheel: four levels of 64 slots each, so scheduling and cancelling are
+// O(1) and every tick only touches one level-0 slot (plus an occasional cascade of one upper slot).
+// Not thread-safe; the owner serializes access.
+public class HierarchicalTimerWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final List<List<ArrayDeque<Timer<K>>>> levels = new ArrayList<>(LEVELS);
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private final List<K> overdue = new ArrayList<>();
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<ArrayDeque<Timer<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayDeque<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    // Deadlines round up to the next tick so a timer never fires early; rescheduling a key
+    // replaces its previous deadline.
+    public void schedule(K key, long deadlineMillis) {
+        Timer<K> timer = new Timer<>(key, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        timers.put(key, timer);
+        place(timer);
+    }
+
+    // Cancelled timers stay in their slot until it is next visited and are skipped there.
+    public boolean cancel(K key) {
+        return timers.remove(key) != null;
+    }
+
+    public List<K> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<K> expired = new ArrayList<>();
+        drainOverdue(expired);
+        if (timers.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick);
+            return expired;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            drainOverdue(expired);
+            ArrayDeque<Timer<K>> slot = levels.get(0).get((int) (currentTick & SLOT_MASK));
+            for (Timer<K> timer; (timer = slot.poll()) != null; ) {
+                if (isLive(timer)) {
+                    timers.remove(timer.key);
+                    expired.add(timer.key);
+                }
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    private void cascade(int level) {
+        ArrayDeque<Timer<K>> slot = levels.get(level).get((int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        for (Timer<K> timer; (timer = slot.poll()) != null; ) {
+            if (isLive(timer)) {
+                place(timer);
+            }
+        }
+    }
+
+    private void place(Timer<K> timer) {
+        long delta = timer.deadlineTick - currentTick;
+        if (delta <= 0) {
+            overdue.add(timer.key);
+            return;
+        }
+        // Timers beyond the top level's horizon park in its furthest slot and are re-placed
+        // when that slot cascades.
+        long placementTick = delta < SPAN ? timer.deadlineTick : currentTick + SPAN - 1;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1)) || level == LEVELS - 1) {
+                int index = (int) ((placementTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                levels.get(level).get(index).add(timer);
+                return;
+            }
+        }
+    }
+
+    private void drainOverdue(List<K> expired) {
+        for (K key : overdue) {
+            Timer<K> timer = timers.get(key);
+            if (timer != null && timer.deadlineTick <= currentTick) {
+                timers.remove(key);
+                expired.add(key);
+            }
+        }
+        overdue.clear();
+    }
+
+    private boolean isLive(Timer<K> timer) {
+        return timers.get(timer.key) == timer;
+    }
+
+    private record Timer<K>(K key, long deadlineTick) {
+    }
+}
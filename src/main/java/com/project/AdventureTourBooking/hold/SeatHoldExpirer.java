@@ -0,0 +1,194 @@
+package com.project.AdventureTourBooking.hold;
+
+import com.project.AdventureTourBooking.dto.SeatHoldDeadline;
+import com.project.AdventureTourBooking.event.SeatHoldChangedEvent;
+import com.project.AdventureTourBooking.model.SeatHoldState;
+import com.project.AdventureTourBooking.service.OptimisticRetry;
+import com.project.AdventureTourBooking.service.SeatHoldService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Each instance keeps the deadlines of live holds in a timer wheel, so expiry costs one slot visit
+// per tick instead of a table scan. The wheel is rebuilt from the HELD rows on startup, and a slow
+// indexed sweep catches holds whose wheel entry was lost with another instance.
+@Component
+public class SeatHoldExpirer implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldExpirer.class);
+
+    private final SeatHoldService seatHoldService;
+    private final OptimisticRetry optimisticRetry;
+    private final boolean enabled;
+    private final Duration tick;
+    private final Duration reconcileInterval;
+    private final int batchSize;
+    private final HierarchicalTimerWheel<Long> wheel;
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private final AtomicLong expired = new AtomicLong();
+    private ThreadPoolTaskScheduler scheduler;
+
+    public SeatHoldExpirer(
+            SeatHoldService seatHoldService,
+            OptimisticRetry optimisticRetry,
+            @Value("${bookings.holds.expiry.enabled:true}") boolean enabled,
+            @Value("${bookings.holds.expiry.tick:PT1S}") Duration tick,
+            @Value("${bookings.holds.expiry.reconcile-interval:PT1M}") Duration reconcileInterval,
+            @Value("${bookings.holds.expiry.batch-size:200}") int batchSize
+    ) {
+        this.seatHoldService = seatHoldService;
+        this.optimisticRetry = optimisticRetry;
+        this.enabled = enabled;
+        this.tick = tick;
+        this.reconcileInterval = reconcileInterval;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimerWheel<>(tick.toMillis(), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rehydrate();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("seat-hold-expirer-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::expireDueQuietly, tick);
+        scheduler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    public int rehydrate() {
+        List<SeatHoldDeadline> deadlines = seatHoldService.findActiveDeadlines();
+        wheelLock.lock();
+        try {
+            for (SeatHoldDeadline deadline : deadlines) {
+                wheel.schedule(deadline.id(), epochMillis(deadline.expiresAt()));
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+        return deadlines.size();
+    }
+
+    @TransactionalEventListener
+    public void onSeatHoldChanged(SeatHoldChangedEvent event) {
+        wheelLock.lock();
+        try {
+            if (event.state() == SeatHoldState.HELD) {
+                wheel.schedule(event.holdId(), epochMillis(event.expiresAt()));
+            } else {
+                wheel.cancel(event.holdId());
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    public int expireDue(long nowMillis) {
+        List<Long> due;
+        wheelLock.lock();
+        try {
+            due = wheel.advance(nowMillis);
+        } finally {
+            wheelLock.unlock();
+        }
+        int count = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                count += optimisticRetry.execute(() -> seatHoldService.expire(batch));
+            } catch (RuntimeException ex) {
+                log.warn("Seat hold expiry failed for {} holds, they will be retried", batch.size(), ex);
+                wheelLock.lock();
+                try {
+                    batch.forEach(id -> wheel.schedule(id, nowMillis + tick.toMillis()));
+                } finally {
+                    wheelLock.unlock();
+                }
+            }
+        }
+        expired.addAndGet(count);
+        return count;
+    }
+
+    public int reconcile() {
+        int count = 0;
+        List<Long> overdue;
+        do {
+            List<Long> found = seatHoldService.findOverdueIds(batchSize);
+            overdue = found;
+            int released = optimisticRetry.execute(() -> seatHoldService.expire(found));
+            count += released;
+            if (released < overdue.size()) {
+                break;
+            }
+        } while (overdue.size() == batchSize);
+        expired.addAndGet(count);
+        return count;
+    }
+
+    public int getPendingCount() {
+        wheelLock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bookings.holds.pending", this, SeatHoldExpirer::getPendingCount)
+                .description("Seat holds waiting in the expiry timer wheel")
+                .register(registry);
+        FunctionCounter.builder("bookings.holds.expired", expired, AtomicLong::get)
+                .description("Seat holds released because they expired")
+                .register(registry);
+    }
+
+    private void expireDueQuietly() {
+        try {
+            expireDue(System.currentTimeMillis());
+        } catch (RuntimeException ex) {
+            log.warn("Seat hold expiry tick failed", ex);
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("Seat hold reconciliation failed", ex);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,276 @@
+package com.project.AdventureTourBooking.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.AdventureTourBooking.model.IdempotencyKey;
+import com.project.AdventureTourBooking.model.IdempotencyState;
+import com.project.AdventureTourBooking.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Keys are scoped per user. A repeat is answered from the Caffeine front cache or, after an eviction
+// or on another instance, from the stored row; a duplicate that arrives while the first attempt is
+// still running is turned away by an in-process set before it touches the database.
+@Component
+public class IdempotencyKeyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyStore.class);
+
+    public enum Outcome {
+        STORED,
+        REPLAYED,
+        IN_FLIGHT,
+        MISMATCH
+    }
+
+    public record Result<T>(T response, boolean replayed) {
+    }
+
+    private record Scope(Long userId, String key) {
+    }
+
+    private record Completed(String requestHash, String responseBody) {
+    }
+
+    private record Claim(Long id, Completed completed) {
+    }
+
+    private record Stored<T>(T response, String body) {
+    }
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate claimTemplate;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<Scope, Completed> completed;
+    private final Set<Scope> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+    private ThreadPoolTaskScheduler scheduler;
+
+    public IdempotencyKeyStore(
+            IdempotencyKeyRepository repository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${bookings.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${bookings.idempotency.lease:PT1M}") Duration lease,
+            @Value("${bookings.idempotency.cache-size:10000}") long cacheSize
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.claimTemplate = new TransactionTemplate(transactionManager);
+        this.claimTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = ttl;
+        this.lease = lease;
+        this.completed = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotencyKeys",
+                Tags.of("cache.manager", "idempotencyKeyStore", "name", "idempotencyKeys"));
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("bookings.idempotency")
+                    .description("Idempotent booking requests by result")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("idempotency-purge-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, Duration.ofHours(1));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    // The action runs in the same transaction that marks the key completed, so a crash can leave
+    // an unfinished claim (taken over once its lease runs out) but never a booking without its key.
+    public <T> Result<T> execute(Long userId, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        Scope scope = new Scope(userId, requireValid(key));
+        String requestHash = hash(request);
+        Completed cached = completed.getIfPresent(scope);
+        if (cached != null) {
+            return replay(cached, requestHash, responseType);
+        }
+        if (!inFlight.add(scope)) {
+            throw inFlight();
+        }
+        try {
+            Claim claim = claim(scope, requestHash);
+            if (claim.completed() != null) {
+                completed.put(scope, claim.completed());
+                return replay(claim.completed(), requestHash, responseType);
+            }
+
+            Stored<T> stored;
+            try {
+                stored = transactionTemplate.execute(status -> {
+                    T response = action.get();
+                    String body = write(response);
+                    IdempotencyKey row = repository.findById(claim.id()).orElseThrow();
+                    row.setState(IdempotencyState.COMPLETED);
+                    row.setResponseBody(body);
+                    return new Stored<>(response, body);
+                });
+            } catch (RuntimeException ex) {
+                abandon(claim.id());
+                throw ex;
+            }
+            completed.put(scope, new Completed(requestHash, stored.body()));
+            outcomes.get(Outcome.STORED).increment();
+            return new Result<>(stored.response(), false);
+        } finally {
+            inFlight.remove(scope);
+        }
+    }
+
+    public int purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+        return deleted != null ? deleted : 0;
+    }
+
+    private Claim claim(Scope scope, String requestHash) {
+        try {
+            return claimTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Optional<IdempotencyKey> existing = repository.lockByUserIdAndKey(scope.userId(), scope.key());
+                if (existing.isEmpty()) {
+                    IdempotencyKey row = new IdempotencyKey();
+                    row.setUserId(scope.userId());
+                    row.setIdempotencyKey(scope.key());
+                    return new Claim(repository.saveAndFlush(renew(row, requestHash, now)).getId(), null);
+                }
+
+                IdempotencyKey row = existing.get();
+                boolean expired = row.getExpiresAt().isBefore(now);
+                if (!expired && row.getState() == IdempotencyState.COMPLETED) {
+                    return new Claim(row.getId(), new Completed(row.getRequestHash(), row.getResponseBody()));
+                }
+                if (!expired && row.getClaimedAt().isAfter(now.minus(lease))) {
+                    throw inFlight();
+                }
+                return new Claim(renew(row, requestHash, now).getId(), null);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw inFlight();
+        }
+    }
+
+    private IdempotencyKey renew(IdempotencyKey row, String requestHash, LocalDateTime now) {
+        row.setRequestHash(requestHash);
+        row.setState(IdempotencyState.IN_PROGRESS);
+        row.setResponseBody(null);
+        row.setClaimedAt(now);
+        row.setExpiresAt(now.plus(ttl));
+        return row;
+    }
+
+    private void abandon(Long claimId) {
+        try {
+            claimTemplate.executeWithoutResult(status -> repository.deleteById(claimId));
+        } catch (RuntimeException ex) {
+            log.warn("Unable to release idempotency key {}, it will be reclaimable after its lease", claimId, ex);
+        }
+    }
+
+    private <T> Result<T> replay(Completed stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            outcomes.get(Outcome.MISMATCH).increment();
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key has already been used for a different request");
+        }
+        outcomes.get(Outcome.REPLAYED).increment();
+        try {
+            return new Result<>(objectMapper.readValue(stored.responseBody(), responseType), true);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to read stored idempotent response", ex);
+        }
+    }
+
+    private ResponseStatusException inFlight() {
+        outcomes.get(Outcome.IN_FLIGHT).increment();
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "A request with this Idempotency-Key is already being processed");
+    }
+
+    private String requireValid(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        return key;
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to fingerprint idempotent request", ex);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to store idempotent response", ex);
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purgeExpired();
+        } catch (RuntimeException ex) {
+            log.warn("Idempotency key purge failed", ex);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.AdventureTourBooking.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class BookingMetrics {
+
+    public enum Source {
+        API,
+        IMPORT,
+        QUEUE
+    }
+
+    public enum Outcome {
+        CREATED,
+        REJECTED,
+        OVER_CAPACITY
+    }
+
+    private final Map<Source, Map<Outcome, Counter>> counters = new EnumMap<>(Source.class);
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        for (Source source : Source.values()) {
+            Map<Outcome, Counter> bySource = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                bySource.put(outcome, Counter.builder("bookings.outcomes")
+                        .description("Booking attempts by result")
+                        .tag("source", source.name().toLowerCase(Locale.ROOT))
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry));
+            }
+            counters.put(source, bySource);
+        }
+    }
+
+    public void record(Source source, Outcome outcome) {
+        counters.get(source).get(outcome).increment();
+    }
+}
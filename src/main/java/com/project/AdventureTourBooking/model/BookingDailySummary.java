@@ -0,0 +1,59 @@
+package com.project.AdventureTourBooking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "booking_daily_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDailySummary {
+    @EmbeddedId
+    private BookingDailySummaryKey id;
+
+    @Column(name = "booking_count", nullable = false)
+    private Long bookingCount;
+
+    @Column(name = "seat_count", nullable = false)
+    private Long seatCount;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue;
+
+    public BookingDailySummaryKey getId() {
+        return id;
+    }
+
+    public void setId(BookingDailySummaryKey id) {
+        this.id = id;
+    }
+
+    public Long getBookingCount() {
+        return bookingCount;
+    }
+
+    public void setBookingCount(Long bookingCount) {
+        this.bookingCount = bookingCount;
+    }
+
+    public Long getSeatCount() {
+        return seatCount;
+    }
+
+    public void setSeatCount(Long seatCount) {
+        this.seatCount = seatCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
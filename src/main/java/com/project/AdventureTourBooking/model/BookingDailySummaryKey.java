@@ -0,0 +1,64 @@
+package com.project.AdventureTourBooking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDailySummaryKey implements Serializable, Comparable<BookingDailySummaryKey> {
+
+    private static final Comparator<BookingDailySummaryKey> ORDER = Comparator
+            .comparing(BookingDailySummaryKey::getTourId)
+            .thenComparing(BookingDailySummaryKey::getDay)
+            .thenComparing(BookingDailySummaryKey::getStatus);
+
+    @Column(name = "tour_id", nullable = false)
+    private Long tourId;
+
+    @Column(name = "booking_day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private BookingStatus status;
+
+    @Override
+    public int compareTo(BookingDailySummaryKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.AdventureTourBooking.model;
+
+public enum BookingQueueState {
+    QUEUED,
+    COMPLETED,
+    REJECTED
+}
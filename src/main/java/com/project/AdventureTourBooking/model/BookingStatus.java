@@ -4,5 +4,21 @@ public enum BookingStatus {
     PENDING,
     CONFIRMED,
     CANCELLED,
-    COMPLETED
+    COMPLETED;
+
+    public boolean holdsSeats() {
+        return this != CANCELLED;
+    }
+
+    public boolean isSale() {
+        return this == CONFIRMED || this == COMPLETED;
+    }
+
+    public boolean canTransitionTo(BookingStatus target) {
+        return switch (this) {
+            case PENDING -> target == CONFIRMED || target == CANCELLED;
+            case CONFIRMED -> target == COMPLETED || target == CANCELLED;
+            case CANCELLED, COMPLETED -> false;
+        };
+    }
 }
@@ -0,0 +1,6 @@
+package com.project.AdventureTourBooking.model;
+
+public enum IdempotencyState {
+    IN_PROGRESS,
+    COMPLETED
+}
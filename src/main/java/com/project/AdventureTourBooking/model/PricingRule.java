@@ -0,0 +1,121 @@
+package com.project.AdventureTourBooking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pricing_rules", indexes = @Index(name = "ix_pricing_rules_tour", columnList = "tour_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pricing_rules_seq")
+    @SequenceGenerator(name = "pricing_rules_seq", sequenceName = "pricing_rules_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "tour_id", nullable = false)
+    private Long tourId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PricingRuleType type;
+
+    @Column(nullable = false, precision = 6, scale = 4)
+    private BigDecimal multiplier;
+
+    @Column(name = "min_people")
+    private Integer minPeople;
+
+    @Column(name = "min_days_ahead")
+    private Integer minDaysAhead;
+
+    @Column(name = "starts_on")
+    private LocalDate startsOn;
+
+    @Column(name = "ends_on")
+    private LocalDate endsOn;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public PricingRuleType getType() {
+        return type;
+    }
+
+    public void setType(PricingRuleType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getMultiplier() {
+        return multiplier;
+    }
+
+    public void setMultiplier(BigDecimal multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    public Integer getMinPeople() {
+        return minPeople;
+    }
+
+    public void setMinPeople(Integer minPeople) {
+        this.minPeople = minPeople;
+    }
+
+    public Integer getMinDaysAhead() {
+        return minDaysAhead;
+    }
+
+    public void setMinDaysAhead(Integer minDaysAhead) {
+        this.minDaysAhead = minDaysAhead;
+    }
+
+    public LocalDate getStartsOn() {
+        return startsOn;
+    }
+
+    public void setStartsOn(LocalDate startsOn) {
+        this.startsOn = startsOn;
+    }
+
+    public LocalDate getEndsOn() {
+        return endsOn;
+    }
+
+    public void setEndsOn(LocalDate endsOn) {
+        this.endsOn = endsOn;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
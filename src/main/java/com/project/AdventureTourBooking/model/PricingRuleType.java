@@ -0,0 +1,7 @@
+package com.project.AdventureTourBooking.model;
+
+public enum PricingRuleType {
+    GROUP_DISCOUNT,
+    SEASONAL,
+    EARLY_BIRD
+}
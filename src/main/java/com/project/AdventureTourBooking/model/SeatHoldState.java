@@ -0,0 +1,8 @@
+package com.project.AdventureTourBooking.model;
+
+public enum SeatHoldState {
+    HELD,
+    CONVERTED,
+    RELEASED,
+    EXPIRED
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Tour {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tours_seq")
+    @SequenceGenerator(name = "tours_seq", sequenceName = "tours_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,9 +38,17 @@ public class Tour {
 
     private String location;
 
+    private Double latitude;
+
+    private Double longitude;
+
     @Column(name = "max_capacity")
     private Integer maxCapacity;
 
+    @ColumnDefault("0")
+    @Column(name = "booked_seats", nullable = false, updatable = false)
+    private Integer bookedSeats = 0;
+
     @Column(name = "available_from")
     private LocalDateTime availableFrom;
 
@@ -53,6 +63,11 @@ public class Tour {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public Long getId() {
         return id;
     }
@@ -101,6 +116,22 @@ public class Tour {
         this.location = location;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public Integer getMaxCapacity() {
         return maxCapacity;
     }
@@ -109,6 +140,14 @@ public class Tour {
         this.maxCapacity = maxCapacity;
     }
 
+    public Integer getBookedSeats() {
+        return bookedSeats;
+    }
+
+    public void setBookedSeats(Integer bookedSeats) {
+        this.bookedSeats = bookedSeats;
+    }
+
     public LocalDateTime getAvailableFrom() {
         return availableFrom;
     }
@@ -140,4 +179,12 @@ public class Tour {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,58 @@
+package com.project.AdventureTourBooking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "tour_departures", indexes = @Index(name = "ix_tour_departures_tour_departs_at",
+        columnList = "tour_id, departs_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourDeparture {
+    @EmbeddedId
+    private TourDepartureKey id;
+
+    @Column(name = "tour_id", nullable = false)
+    private Long tourId;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(name = "booked_seats", nullable = false)
+    private Integer bookedSeats;
+
+    public TourDepartureKey getId() {
+        return id;
+    }
+
+    public void setId(TourDepartureKey id) {
+        this.id = id;
+    }
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getBookedSeats() {
+        return bookedSeats;
+    }
+
+    public void setBookedSeats(Integer bookedSeats) {
+        this.bookedSeats = bookedSeats;
+    }
+}
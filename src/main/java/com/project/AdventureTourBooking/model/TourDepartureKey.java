@@ -0,0 +1,49 @@
+package com.project.AdventureTourBooking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourDepartureKey implements Serializable, Comparable<TourDepartureKey> {
+
+    private static final Comparator<TourDepartureKey> ORDER = Comparator
+            .comparing(TourDepartureKey::getScheduleId)
+            .thenComparing(TourDepartureKey::getDepartsAt);
+
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    @Column(name = "departs_at", nullable = false)
+    private LocalDateTime departsAt;
+
+    @Override
+    public int compareTo(TourDepartureKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public void setScheduleId(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+
+    public LocalDateTime getDepartsAt() {
+        return departsAt;
+    }
+
+    public void setDepartsAt(LocalDateTime departsAt) {
+        this.departsAt = departsAt;
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.AdventureTourBooking.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// A weekly recurrence rule: one departure at startTime on every selected weekday between startsOn and
+// endsOn (open-ended when endsOn is null). Departures are never stored up front; a tour_departures row
+// is only created once a booking takes seats on it.
+@Entity
+@Table(name = "tour_schedules", indexes = @Index(name = "ix_tour_schedules_tour", columnList = "tour_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TourSchedule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tour_schedules_seq")
+    @SequenceGenerator(name = "tour_schedules_seq", sequenceName = "tour_schedules_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "tour_id", nullable = false)
+    private Long tourId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    // Bit n - 1 is set for DayOfWeek.of(n), so Monday is bit 0.
+    @Column(name = "days_of_week", nullable = false)
+    private Integer daysOfWeek;
+
+    @Column(name = "starts_on", nullable = false)
+    private LocalDate startsOn;
+
+    @Column(name = "ends_on")
+    private LocalDate endsOn;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public static int dayBit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    public boolean runsOn(LocalDate date) {
+        return !date.isBefore(startsOn)
+                && (endsOn == null || !date.isAfter(endsOn))
+                && (daysOfWeek & dayBit(date.getDayOfWeek())) != 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTourId() {
+        return tourId;
+    }
+
+    public void setTourId(Long tourId) {
+        this.tourId = tourId;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public Integer getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(Integer daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public LocalDate getStartsOn() {
+        return startsOn;
+    }
+
+    public void setStartsOn(LocalDate startsOn) {
+        this.startsOn = startsOn;
+    }
+
+    public LocalDate getEndsOn() {
+        return endsOn;
+    }
+
+    public void setEndsOn(LocalDate endsOn) {
+        this.endsOn = endsOn;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.AdventureTourBooking.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final ObjectWriter writer;
+
+    public FileOutboxSink(Path path, ObjectMapper objectMapper) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to create the outbox directory for " + path, ex);
+        }
+        this.path = path;
+        this.writer = objectMapper.writerFor(OutboxMessage.class);
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (OutboxMessage message : messages) {
+                lines.append(writer.writeValueAsString(message)).append('\n');
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize outbox message", ex);
+        }
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to append outbox messages to " + path, ex);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.AdventureTourBooking.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public InMemoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        lock.lock();
+        try {
+            for (OutboxMessage message : batch) {
+                if (messages.size() == capacity) {
+                    messages.removeFirst();
+                }
+                messages.addLast(message);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<OutboxMessage> messages() {
+        lock.lock();
+        try {
+            return List.copyOf(messages);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            messages.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.AdventureTourBooking.outbox;
+
+import com.project.AdventureTourBooking.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {
+    public static OutboxMessage fromEntity(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.AdventureTourBooking.outbox;
+
+import com.project.AdventureTourBooking.model.OutboxEvent;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxSink sink,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.poll-interval:PT1S}") Duration pollInterval,
+                       @Value("${outbox.relay.retention:P3D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("outbox-relay-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::drain, pollInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    // Rows stay locked until the sink accepts the batch, so a second relay waits instead of
+    // overtaking and events for one aggregate are always handed over in id order.
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.lockUnpublished(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            sink.publish(events.stream().map(OutboxMessage::fromEntity).toList());
+            LocalDateTime publishedAt = LocalDateTime.now();
+            events.forEach(event -> event.setPublishedAt(publishedAt));
+            return events.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    public int purgePublished() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        return purged != null ? purged : 0;
+    }
+
+    private void drain() {
+        try {
+            while (relayBatch() == batchSize) {
+                // keep relaying while batches come back full
+            }
+            purgePublished();
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, unpublished events will be retried", ex);
+        }
+    }
+}
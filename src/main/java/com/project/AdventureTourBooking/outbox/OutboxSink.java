@@ -0,0 +1,7 @@
+package com.project.AdventureTourBooking.outbox;
+
+import java.util.List;
+
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages);
+}
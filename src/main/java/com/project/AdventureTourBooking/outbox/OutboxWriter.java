@@ -0,0 +1,73 @@
+package com.project.AdventureTourBooking.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.event.BookingChangedEvent;
+import com.project.AdventureTourBooking.event.TourChangedEvent;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.OutboxEvent;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+@Component
+public class OutboxWriter {
+
+    public static final String TOUR = "TOUR";
+    public static final String BOOKING = "BOOKING";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TourRepository tourRepository;
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository,
+                        TourRepository tourRepository,
+                        BookingRepository bookingRepository,
+                        ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.tourRepository = tourRepository;
+        this.bookingRepository = bookingRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTourChanged(TourChangedEvent event) {
+        Object payload = event.type() == TourChangedEvent.Type.DELETED
+                ? Map.of("id", event.tourId())
+                : tourRepository.findById(event.tourId()).map(TourResponse::fromEntity)
+                        .orElseThrow(() -> new IllegalStateException("Tour " + event.tourId() + " vanished before commit"));
+        append(TOUR, event.tourId(), event.type().name(), payload);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookingChanged(BookingChangedEvent event) {
+        Booking booking = bookingRepository.findById(event.bookingId())
+                .orElseThrow(() -> new IllegalStateException("Booking " + event.bookingId() + " vanished before commit"));
+        append(BOOKING, event.bookingId(), event.type().name(), new BookingPayload(
+                event.tourId(), BookingResponse.fromEntity(booking)));
+    }
+
+    private void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize outbox payload", ex);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    private record BookingPayload(Long tourId, BookingResponse booking) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.AdventureTourBooking.pricing;
+
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.event.PricingRulesChangedEvent;
+import com.project.AdventureTourBooking.model.PricingRule;
+import com.project.AdventureTourBooking.repository.PricingRuleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Prices are evaluated against a compiled snapshot of every pricing rule, so the booking path needs
+// no query beyond the tour it already loads. A committed change is fanned out on the pricing-rules
+// invalidation topic and every instance reloads just that tour's rules; the periodic full refresh is a
+// backstop.
+//
+// Reads and compilation happen outside the lock, which only orders the swaps: each read takes a sequence
+// number, and a snapshot never replaces data that was read later than it was.
+@Component
+public class PricingEngine implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PricingEngine.class);
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final CacheInvalidationChannel channel;
+    private final Duration refreshInterval;
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final AtomicLong reads = new AtomicLong();
+    // Guarded by swapLock: the sequence of the last full read applied, and of per-tour reads applied since.
+    private final Map<Long, Long> tourReads = new HashMap<>();
+    private long fullRead;
+    private volatile PricingRuleTable table = PricingRuleTable.EMPTY;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public PricingEngine(PricingRuleRepository pricingRuleRepository,
+                         CacheInvalidationChannel channel,
+                         @Value("${tours.pricing.refresh-interval:PT1M}") Duration refreshInterval) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.channel = channel;
+        this.refreshInterval = refreshInterval;
+        channel.subscribe(CacheInvalidationChannel.PRICING_RULES, key -> refreshTourQuietly(Long.valueOf(key)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresh();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("pricing-refresh-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPricingRulesChanged(PricingRulesChangedEvent event) {
+        channel.publish(CacheInvalidationChannel.PRICING_RULES, event.tourId().toString());
+    }
+
+    public void refresh() {
+        long read = reads.incrementAndGet();
+        PricingRuleTable compiled = PricingRuleTable.compile(pricingRuleRepository.findAll());
+        swapLock.lock();
+        try {
+            if (read < fullRead) {
+                return;
+            }
+            PricingRuleTable current = table;
+            for (Map.Entry<Long, Long> tourRead : tourReads.entrySet()) {
+                if (tourRead.getValue() > read) {
+                    compiled = compiled.withTourOf(current, tourRead.getKey());
+                }
+            }
+            tourReads.values().removeIf(tourRead -> tourRead <= read);
+            fullRead = read;
+            table = compiled;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    public void refreshTour(Long tourId) {
+        long read = reads.incrementAndGet();
+        List<PricingRule> rules = pricingRuleRepository.findByTourIdOrderById(tourId);
+        swapLock.lock();
+        try {
+            if (read < fullRead || read < tourReads.getOrDefault(tourId, 0L)) {
+                return;
+            }
+            tourReads.put(tourId, read);
+            table = table.withTour(tourId, rules);
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    public BigDecimal price(Long tourId, BigDecimal unitPrice, LocalDateTime startsAt, int people) {
+        return price(tourId, unitPrice, startsAt, people, LocalDate.now());
+    }
+
+    // A tour without a start date is priced as if it ran today.
+    public BigDecimal price(Long tourId, BigDecimal unitPrice, LocalDateTime startsAt, int people, LocalDate today) {
+        long todayEpochDay = today.toEpochDay();
+        long startEpochDay = startsAt != null ? startsAt.toLocalDate().toEpochDay() : todayEpochDay;
+        long unitCents = unitPrice.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        return BigDecimal.valueOf(table.totalCents(tourId, unitCents, people, startEpochDay, todayEpochDay), 2);
+    }
+
+    public int getRuleCount() {
+        return table.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tours.pricing.rules", this, PricingEngine::getRuleCount)
+                .description("Pricing rules in the compiled rule table")
+                .register(registry);
+    }
+
+    private void refreshTourQuietly(Long tourId) {
+        try {
+            refreshTour(tourId);
+        } catch (RuntimeException ex) {
+            log.warn("Pricing rule reload for tour {} failed, keeping the previous rules", tourId, ex);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Pricing rule refresh failed, keeping the previous rule table", ex);
+        }
+    }
+}
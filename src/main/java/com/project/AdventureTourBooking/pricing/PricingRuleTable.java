@@ -0,0 +1,141 @@
+package com.project.AdventureTourBooking.pricing;
+
+import com.project.AdventureTourBooking.model.PricingRule;
+import com.project.AdventureTourBooking.model.PricingRuleType;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Immutable snapshot of every tour's rules, flattened into sorted primitive arrays. Multipliers are
+// held in basis points and totals in cents, so evaluating a price only reads arrays and does
+// integer arithmetic.
+public final class PricingRuleTable {
+
+    public static final PricingRuleTable EMPTY = new PricingRuleTable(Map.of(), 0);
+
+    static final int ONE = 10_000;
+
+    private final Map<Long, TourRules> rulesByTour;
+    private final int ruleCount;
+
+    private PricingRuleTable(Map<Long, TourRules> rulesByTour, int ruleCount) {
+        this.rulesByTour = rulesByTour;
+        this.ruleCount = ruleCount;
+    }
+
+    public static PricingRuleTable compile(Collection<PricingRule> rules) {
+        Map<Long, List<PricingRule>> byTour = rules.stream().collect(Collectors.groupingBy(PricingRule::getTourId));
+        Map<Long, TourRules> compiled = new HashMap<>(byTour.size() * 2);
+        byTour.forEach((tourId, tourRules) -> compiled.put(tourId, TourRules.compile(tourRules)));
+        return new PricingRuleTable(Map.copyOf(compiled), rules.size());
+    }
+
+    // A copy with one tour's rules recompiled; the other tours' compiled rules are shared, not rebuilt.
+    public PricingRuleTable withTour(Long tourId, Collection<PricingRule> rules) {
+        return with(tourId, rules.isEmpty() ? null : TourRules.compile(List.copyOf(rules)));
+    }
+
+    // A copy carrying source's rules for one tour, or none if source has none.
+    PricingRuleTable withTourOf(PricingRuleTable source, Long tourId) {
+        return with(tourId, source.rulesByTour.get(tourId));
+    }
+
+    private PricingRuleTable with(Long tourId, TourRules rules) {
+        Map<Long, TourRules> copy = new HashMap<>(rulesByTour);
+        TourRules previous = rules != null ? copy.put(tourId, rules) : copy.remove(tourId);
+        int count = ruleCount - (previous != null ? previous.size() : 0) + (rules != null ? rules.size() : 0);
+        return new PricingRuleTable(Map.copyOf(copy), count);
+    }
+
+    // Group and early-bird rules use the highest threshold the booking reaches; among seasonal
+    // windows containing the tour date the one starting latest wins, so a holiday week can sit
+    // inside a wider season. The chosen multipliers compound, rounding half-up to the cent.
+    public long totalCents(Long tourId, long unitCents, int people, long startEpochDay, long todayEpochDay) {
+        long total = Math.multiplyExact(unitCents, people);
+        TourRules rules = rulesByTour.get(tourId);
+        if (rules == null) {
+            return total;
+        }
+        total = apply(total, pick(rules.groupMinPeople, rules.groupBasisPoints, people));
+        total = apply(total, pick(rules.earlyMinDays, rules.earlyBasisPoints, startEpochDay - todayEpochDay));
+        return apply(total, season(rules, startEpochDay));
+    }
+
+    public int size() {
+        return ruleCount;
+    }
+
+    private static int pick(long[] thresholds, int[] basisPoints, long value) {
+        int chosen = ONE;
+        for (int i = 0; i < thresholds.length && thresholds[i] <= value; i++) {
+            chosen = basisPoints[i];
+        }
+        return chosen;
+    }
+
+    private static int season(TourRules rules, long epochDay) {
+        int chosen = ONE;
+        for (int i = 0; i < rules.seasonStart.length && rules.seasonStart[i] <= epochDay; i++) {
+            if (epochDay <= rules.seasonEnd[i]) {
+                chosen = rules.seasonBasisPoints[i];
+            }
+        }
+        return chosen;
+    }
+
+    private static long apply(long cents, int basisPoints) {
+        if (basisPoints == ONE) {
+            return cents;
+        }
+        return (Math.multiplyExact(cents, basisPoints) + ONE / 2) / ONE;
+    }
+
+    private record TourRules(
+            long[] groupMinPeople,
+            int[] groupBasisPoints,
+            long[] earlyMinDays,
+            int[] earlyBasisPoints,
+            long[] seasonStart,
+            long[] seasonEnd,
+            int[] seasonBasisPoints,
+            int size
+    ) {
+        static TourRules compile(List<PricingRule> rules) {
+            List<PricingRule> group = sorted(rules, PricingRuleType.GROUP_DISCOUNT,
+                    Comparator.comparing(PricingRule::getMinPeople));
+            List<PricingRule> early = sorted(rules, PricingRuleType.EARLY_BIRD,
+                    Comparator.comparing(PricingRule::getMinDaysAhead));
+            List<PricingRule> seasonal = sorted(rules, PricingRuleType.SEASONAL,
+                    Comparator.comparing(PricingRule::getStartsOn));
+            return new TourRules(
+                    group.stream().mapToLong(PricingRule::getMinPeople).toArray(),
+                    basisPoints(group),
+                    early.stream().mapToLong(PricingRule::getMinDaysAhead).toArray(),
+                    basisPoints(early),
+                    seasonal.stream().mapToLong(rule -> rule.getStartsOn().toEpochDay()).toArray(),
+                    seasonal.stream().mapToLong(rule -> rule.getEndsOn().toEpochDay()).toArray(),
+                    basisPoints(seasonal),
+                    rules.size()
+            );
+        }
+
+        private static List<PricingRule> sorted(List<PricingRule> rules,
+                                                PricingRuleType type,
+                                                Comparator<PricingRule> order) {
+            return rules.stream()
+                    .filter(rule -> rule.getType() == type)
+                    .sorted(order.thenComparing(PricingRule::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+        }
+
+        private static int[] basisPoints(List<PricingRule> rules) {
+            return rules.stream()
+                    .mapToInt(rule -> rule.getMultiplier().movePointRight(4).intValueExact())
+                    .toArray();
+        }
+    }
+}
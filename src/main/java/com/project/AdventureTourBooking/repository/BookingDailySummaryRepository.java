@@ -0,0 +1,77 @@
+package com.project.AdventureTourBooking.repository;
+
+import com.project.AdventureTourBooking.model.BookingDailySummary;
+import com.project.AdventureTourBooking.model.BookingDailySummaryKey;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface BookingDailySummaryRepository extends JpaRepository<BookingDailySummary, BookingDailySummaryKey> {
+
+    interface TourTotals {
+        Long getTourId();
+        String getTitle();
+        BookingStatus getStatus();
+        Long getBookings();
+        Long getSeats();
+        BigDecimal getRevenue();
+    }
+
+    interface DayTotals {
+        LocalDate getDay();
+        BookingStatus getStatus();
+        Long getBookings();
+        Long getSeats();
+        BigDecimal getRevenue();
+    }
+
+    @Modifying
+    @Query("UPDATE BookingDailySummary s SET s.bookingCount = s.bookingCount + :bookings, " +
+            "s.seatCount = s.seatCount + :seats, s.revenue = s.revenue + :revenue " +
+            "WHERE s.id.tourId = :tourId AND s.id.day = :day AND s.id.status = :status")
+    int addDelta(@Param("tourId") Long tourId,
+                 @Param("day") LocalDate day,
+                 @Param("status") BookingStatus status,
+                 @Param("bookings") long bookings,
+                 @Param("seats") long seats,
+                 @Param("revenue") BigDecimal revenue);
+
+    // ON CONFLICT DO NOTHING waits for a concurrent insert of the same key instead of failing on
+    // it, so callers can follow a 0 result with addDelta.
+    @Modifying
+    @Query(value = "INSERT INTO booking_daily_summaries " +
+            "(tour_id, booking_day, status, booking_count, seat_count, revenue) " +
+            "VALUES (:tourId, :day, :status, :bookings, :seats, :revenue) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("tourId") Long tourId,
+                       @Param("day") LocalDate day,
+                       @Param("status") String status,
+                       @Param("bookings") long bookings,
+                       @Param("seats") long seats,
+                       @Param("revenue") BigDecimal revenue);
+
+    @Query("SELECT t.id AS tourId, t.title AS title, s.id.status AS status, SUM(s.bookingCount) AS bookings, " +
+            "SUM(s.seatCount) AS seats, SUM(s.revenue) AS revenue " +
+            "FROM BookingDailySummary s JOIN Tour t ON t.id = s.id.tourId " +
+            "WHERE t.operator.id = :operatorId " +
+            "GROUP BY t.id, t.title, s.id.status ORDER BY t.id")
+    List<TourTotals> findTourTotalsByOperatorId(@Param("operatorId") Long operatorId);
+
+    @Query("SELECT s.id.day AS day, s.id.status AS status, SUM(s.bookingCount) AS bookings, " +
+            "SUM(s.seatCount) AS seats, SUM(s.revenue) AS revenue " +
+            "FROM BookingDailySummary s JOIN Tour t ON t.id = s.id.tourId " +
+            "WHERE t.operator.id = :operatorId AND s.id.day BETWEEN :from AND :to " +
+            "GROUP BY s.id.day, s.id.status ORDER BY s.id.day")
+    List<DayTotals> findDayTotalsByOperatorId(@Param("operatorId") Long operatorId,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+}
@@ -0,0 +1,40 @@
+package com.project.AdventureTourBooking.repository;
+
+import com.project.AdventureTourBooking.model.BookingQueueItem;
+import com.project.AdventureTourBooking.model.BookingQueueState;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookingQueueRepository extends JpaRepository<BookingQueueItem, Long> {
+    Optional<BookingQueueItem> findByReference(String reference);
+
+    long countByState(BookingQueueState state);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT q FROM BookingQueueItem q WHERE q.state = 'QUEUED' " +
+            "AND (q.nextAttemptAt IS NULL OR q.nextAttemptAt <= :now) ORDER BY q.id")
+    List<BookingQueueItem> claimQueued(@Param("now") LocalDateTime now, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT q FROM BookingQueueItem q WHERE q.id = :id AND q.state = 'QUEUED'")
+    Optional<BookingQueueItem> claimQueuedById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM BookingQueueItem q WHERE q.state <> 'QUEUED' AND q.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,25 @@
 package com.project.AdventureTourBooking.repository;
 
+import com.project.AdventureTourBooking.dto.BookingResponse;
 import com.project.AdventureTourBooking.model.Booking;
 import com.project.AdventureTourBooking.model.BookingStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -17,8 +29,36 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.tour.id = :tourId")
     List<Booking> findByTourId(@Param("tourId") Long tourId);
 
-    @Query("SELECT b FROM Booking b WHERE b.tour.operator.id = :operatorId")
-    List<Booking> findByTourOperatorId(@Param("operatorId") Long operatorId);
+    @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.scheduleId = :scheduleId")
+    boolean existsByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    @Query("SELECT new com.project.AdventureTourBooking.dto.BookingResponse(" +
+            "b.id, b.status, b.numberOfPeople, b.totalPrice, b.bookingDate, b.createdAt, b.version, b.departsAt) " +
+            "FROM Booking b WHERE b.tour.operator.id = :operatorId ORDER BY b.id")
+    List<BookingResponse> findResponsesByOperatorId(@Param("operatorId") Long operatorId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.AdventureTourBooking.dto.BookingResponse(" +
+            "b.id, b.status, b.numberOfPeople, b.totalPrice, b.bookingDate, b.createdAt, b.version, b.departsAt) " +
+            "FROM Booking b WHERE b.tour.operator.id = :operatorId ORDER BY b.id")
+    Stream<BookingResponse> streamResponsesByOperatorId(@Param("operatorId") Long operatorId);
+
+    @EntityGraph(attributePaths = "tour")
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findWithTourById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id IN :ids ORDER BY b.id")
+    List<Booking> lockAllById(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status, b.version = b.version + 1, b.updatedAt = :now WHERE b.id IN :ids")
+    int updateStatuses(@Param("ids") Collection<Long> ids,
+                       @Param("status") BookingStatus status,
+                       @Param("now") LocalDateTime now);
 
     List<Booking> findByStatus(BookingStatus status);
 
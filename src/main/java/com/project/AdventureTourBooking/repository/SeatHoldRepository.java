@@ -0,0 +1,39 @@
+package com.project.AdventureTourBooking.repository;
+
+import com.project.AdventureTourBooking.dto.SeatHoldDeadline;
+import com.project.AdventureTourBooking.model.SeatHold;
+import com.project.AdventureTourBooking.model.SeatHoldState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+    Optional<SeatHold> findByReference(String reference);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.reference = :reference")
+    Optional<SeatHold> lockByReference(@Param("reference") String reference);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id IN :ids AND h.state = 'HELD' AND h.expiresAt <= :now ORDER BY h.id")
+    List<SeatHold> lockExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.project.AdventureTourBooking.dto.SeatHoldDeadline(h.id, h.expiresAt) " +
+            "FROM SeatHold h WHERE h.state = 'HELD'")
+    List<SeatHoldDeadline> findActiveDeadlines();
+
+    @Query("SELECT h.id FROM SeatHold h WHERE h.state = 'HELD' AND h.expiresAt <= :now ORDER BY h.expiresAt")
+    List<Long> findOverdueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    long countByUserIdAndState(Long userId, SeatHoldState state);
+}
@@ -0,0 +1,51 @@
+package com.project.AdventureTourBooking.repository;
+
+import com.project.AdventureTourBooking.model.TourDeparture;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TourDepartureRepository extends JpaRepository<TourDeparture, TourDepartureKey> {
+
+    @Modifying
+    @Query(value = "INSERT INTO tour_departures (schedule_id, departs_at, tour_id, capacity, booked_seats) " +
+            "VALUES (:scheduleId, :departsAt, :tourId, :capacity, 0) " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int materialize(@Param("scheduleId") Long scheduleId,
+                    @Param("departsAt") LocalDateTime departsAt,
+                    @Param("tourId") Long tourId,
+                    @Param("capacity") int capacity);
+
+    @Modifying
+    @Query("UPDATE TourDeparture d SET d.bookedSeats = d.bookedSeats + :seats " +
+            "WHERE d.id.scheduleId = :scheduleId AND d.id.departsAt = :departsAt " +
+            "AND d.bookedSeats + :seats <= d.capacity")
+    int reserveSeats(@Param("scheduleId") Long scheduleId,
+                     @Param("departsAt") LocalDateTime departsAt,
+                     @Param("seats") int seats);
+
+    @Modifying
+    @Query("UPDATE TourDeparture d SET d.bookedSeats = d.bookedSeats - :seats " +
+            "WHERE d.id.scheduleId = :scheduleId AND d.id.departsAt = :departsAt AND d.bookedSeats >= :seats")
+    int releaseSeats(@Param("scheduleId") Long scheduleId,
+                     @Param("departsAt") LocalDateTime departsAt,
+                     @Param("seats") int seats);
+
+    @Query("SELECT d FROM TourDeparture d WHERE d.id.departsAt >= :from AND d.bookedSeats > 0")
+    List<TourDeparture> findBookedFrom(@Param("from") LocalDateTime from);
+
+    @Query("SELECT d FROM TourDeparture d WHERE d.tourId = :tourId AND d.id.departsAt >= :from AND d.bookedSeats > 0")
+    List<TourDeparture> findBookedByTourIdFrom(@Param("tourId") Long tourId, @Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("DELETE FROM TourDeparture d WHERE d.id.scheduleId = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+}
@@ -1,27 +1,61 @@
 package com.project.AdventureTourBooking.repository;
 
+import com.project.AdventureTourBooking.dto.CatalogVersion;
+import com.project.AdventureTourBooking.dto.TourAvailabilityResponse;
+import com.project.AdventureTourBooking.dto.TourPricing;
+import com.project.AdventureTourBooking.dto.TourVersion;
 import com.project.AdventureTourBooking.model.Tour;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface TourRepository extends JpaRepository<Tour, Long> {
     @Query("SELECT t FROM Tour t WHERE t.operator.id = :operatorId")
     List<Tour> findByOperatorId(@Param("operatorId") Long operatorId);
 
+    @Query("SELECT t FROM Tour t WHERE t.id > :afterId ORDER BY t.id")
+    List<Tour> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
     List<Tour> findByLocation(String location);
 
-    @Query("SELECT t FROM Tour t WHERE " +
-            "(:location IS NULL OR t.location LIKE %:location%) AND " +
-            "(:minPrice IS NULL OR t.price >= :minPrice) AND " +
-            "(:maxPrice IS NULL OR t.price <= :maxPrice)")
-    List<Tour> searchTours(
-            @Param("location") String location,
-            @Param("minPrice") Double minPrice,
-            @Param("maxPrice") Double maxPrice
-    );
+    @Query("SELECT new com.project.AdventureTourBooking.dto.TourVersion(t.id, t.version, t.updatedAt) FROM Tour t WHERE t.id = :id")
+    Optional<TourVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.project.AdventureTourBooking.dto.CatalogVersion(COUNT(t), MAX(t.updatedAt)) FROM Tour t")
+    CatalogVersion findCatalogVersion();
+
+    @Query("SELECT new com.project.AdventureTourBooking.dto.TourPricing(t.id, t.price, t.availableFrom) " +
+            "FROM Tour t WHERE t.id IN :ids")
+    List<TourPricing> findPricingByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM Tour t WHERE t.id IN :ids AND t.operator.id = :operatorId")
+    Set<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids, @Param("operatorId") Long operatorId);
+
+    @Query("SELECT new com.project.AdventureTourBooking.dto.TourAvailabilityResponse(" +
+            "t.id, t.price, t.maxCapacity, t.maxCapacity - t.bookedSeats, false) " +
+            "FROM Tour t WHERE t.id IN :ids")
+    List<TourAvailabilityResponse> findAvailabilityByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Tour t SET t.bookedSeats = t.bookedSeats + :seats " +
+            "WHERE t.id = :tourId AND (t.maxCapacity IS NULL OR t.bookedSeats + :seats <= t.maxCapacity)")
+    int reserveSeats(@Param("tourId") Long tourId, @Param("seats") int seats);
+
+    @Modifying
+    @Query("UPDATE Tour t SET t.maxCapacity = :maxCapacity WHERE t.id = :tourId AND t.bookedSeats <= :maxCapacity")
+    int updateMaxCapacity(@Param("tourId") Long tourId, @Param("maxCapacity") int maxCapacity);
+
+    @Modifying
+    @Query("UPDATE Tour t SET t.bookedSeats = t.bookedSeats - :seats " +
+            "WHERE t.id = :tourId AND t.bookedSeats >= :seats")
+    int releaseSeats(@Param("tourId") Long tourId, @Param("seats") int seats);
 }
@@ -0,0 +1,18 @@
+package com.project.AdventureTourBooking.repository;
+
+import com.project.AdventureTourBooking.model.TourSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TourScheduleRepository extends JpaRepository<TourSchedule, Long> {
+    List<TourSchedule> findByTourIdOrderById(Long tourId);
+
+    @Query("SELECT s FROM TourSchedule s WHERE s.endsOn IS NULL OR s.endsOn >= :day")
+    List<TourSchedule> findRunningOnOrAfter(@Param("day") LocalDate day);
+}
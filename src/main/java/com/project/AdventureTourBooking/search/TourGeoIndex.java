@@ -0,0 +1,177 @@
+package com.project.AdventureTourBooking.search;
+
+import com.project.AdventureTourBooking.dto.TourResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Tours bucketed into a fixed latitude/longitude grid. A radius query only visits the cells that
+// overlap the circle's bounding box, then keeps the nearest offset + limit matches in a bounded heap.
+@Component
+public class TourGeoIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public TourGeoIndex(@Value("${tours.nearby.cell-degrees:0.5}") double cellDegrees) {
+        // Columns have to tile the full circle so that a box crossing the antimeridian wraps cleanly.
+        if (cellDegrees <= 0 || cellDegrees > 90 || Math.abs(360 / cellDegrees - Math.rint(360 / cellDegrees)) > 1e-9) {
+            throw new IllegalArgumentException("cellDegrees must be at most 90 and divide 360");
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.rint(360 / cellDegrees);
+    }
+
+    public void index(TourResponse tour) {
+        if (tour.latitude() == null || tour.longitude() == null) {
+            remove(tour.id());
+            return;
+        }
+        Entry entry = new Entry(tour, Math.toRadians(tour.latitude()), Math.toRadians(tour.longitude()),
+                Math.cos(Math.toRadians(tour.latitude())), cellOf(tour.latitude(), tour.longitude()));
+        writeLock.lock();
+        try {
+            removeEntry(tour.id());
+            cells.computeIfAbsent(entry.cell(), key -> new ConcurrentHashMap<>()).put(tour.id(), entry);
+            entries.put(tour.id(), entry);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long tourId) {
+        writeLock.lock();
+        try {
+            removeEntry(tourId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            entries.clear();
+            cells.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public NearbyResult nearby(double latitude, double longitude, double radiusKm, int offset, int limit) {
+        double angle = radiusKm / EARTH_RADIUS_KM;
+        double latDelta = Math.toDegrees(angle);
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+        int firstColumn = 0;
+        int columnSpan = columns;
+        if (minLat > -90 && maxLat < 90) {
+            double lonDelta = Math.toDegrees(Math.asin(Math.min(Math.sin(angle) / Math.cos(Math.toRadians(latitude)), 1)));
+            if (lonDelta < 180) {
+                long first = (long) Math.floor((longitude - lonDelta + 180) / cellDegrees);
+                long last = (long) Math.floor((longitude + lonDelta + 180) / cellDegrees);
+                firstColumn = (int) Math.floorMod(first, columns);
+                columnSpan = (int) Math.min(last - first + 1, columns);
+            }
+        }
+
+        // Haversine compared on its inner term, so the asin only runs for tours inside the radius.
+        double latRadians = Math.toRadians(latitude);
+        double lonRadians = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRadians);
+        double halfChord = Math.sin(Math.min(angle, Math.PI) / 2);
+        double maxTerm = halfChord * halfChord;
+        int wanted = offset + limit;
+        PriorityQueue<Hit> worstFirst = new PriorityQueue<>(Hit.NEAREST_FIRST.reversed());
+        long total = 0;
+
+        int lastRow = rowOf(maxLat);
+        for (int row = rowOf(minLat); row <= lastRow; row++) {
+            for (int step = 0; step < columnSpan; step++) {
+                Map<Long, Entry> cell = cells.get((long) row * columns + (firstColumn + step) % columns);
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.values()) {
+                    double sinLat = Math.sin((entry.latRadians() - latRadians) / 2);
+                    double sinLon = Math.sin((entry.lonRadians() - lonRadians) / 2);
+                    double term = sinLat * sinLat + cosLat * entry.cosLat() * sinLon * sinLon;
+                    if (term > maxTerm) {
+                        continue;
+                    }
+                    total++;
+                    offer(worstFirst, new Hit(entry.tour(),
+                            2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(term, 1)))), wanted);
+                }
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(worstFirst);
+        ranked.sort(Hit.NEAREST_FIRST);
+        return new NearbyResult(ranked.stream().skip(offset).toList(), total);
+    }
+
+    private void removeEntry(Long tourId) {
+        Entry previous = entries.remove(tourId);
+        if (previous == null) {
+            return;
+        }
+        cells.computeIfPresent(previous.cell(), (key, cell) -> {
+            cell.remove(tourId);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return (long) rowOf(latitude) * columns + columnOf(longitude);
+    }
+
+    private int rowOf(double latitude) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int columnOf(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private static void offer(PriorityQueue<Hit> worstFirst, Hit hit, int capacity) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (worstFirst.size() < capacity) {
+            worstFirst.add(hit);
+        } else if (Hit.NEAREST_FIRST.compare(hit, worstFirst.peek()) < 0) {
+            worstFirst.poll();
+            worstFirst.add(hit);
+        }
+    }
+
+    public record NearbyResult(List<Hit> items, long total) {
+    }
+
+    public record Hit(TourResponse tour, double distanceKm) {
+        static final Comparator<Hit> NEAREST_FIRST = Comparator.comparingDouble(Hit::distanceKm)
+                .thenComparing(hit -> hit.tour().id());
+    }
+
+    private record Entry(TourResponse tour, double latRadians, double lonRadians, double cosLat, long cell) {
+    }
+}
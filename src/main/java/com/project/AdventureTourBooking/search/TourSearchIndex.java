@@ -0,0 +1,196 @@
+package com.project.AdventureTourBooking.search;
+
+import com.project.AdventureTourBooking.dto.TourResponse;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+@Component
+public class TourSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public void index(TourResponse tour) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, tour.title(), TITLE_WEIGHT);
+        addTerms(frequencies, tour.location(), LOCATION_WEIGHT);
+        addTerms(frequencies, tour.description(), DESCRIPTION_WEIGHT);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        writeLock.lock();
+        try {
+            removeDocument(tour.id());
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(tour.id(), frequency));
+            documents.put(tour.id(), new Document(tour, frequencies.keySet().toArray(String[]::new), length));
+            totalLength.addAndGet(length);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long tourId) {
+        writeLock.lock();
+        try {
+            removeDocument(tourId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength.set(0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public SearchResult search(String text, Predicate<TourResponse> filter, int offset, int limit) {
+        List<String> terms = tokenize(text).stream().distinct().toList();
+        int wanted = offset + limit;
+        PriorityQueue<Hit> worstFirst;
+        long total = 0;
+
+        if (terms.isEmpty()) {
+            worstFirst = new PriorityQueue<>(Hit.BEST_FIRST.reversed());
+            for (Document document : documents.values()) {
+                if (filter.test(document.tour())) {
+                    total++;
+                    offer(worstFirst, new Hit(document.tour(), 0), wanted);
+                }
+            }
+        } else {
+            Map<Long, Double> scores = score(terms, filter);
+            total = scores.size();
+            worstFirst = new PriorityQueue<>(Hit.BEST_FIRST.reversed());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                Document document = documents.get(entry.getKey());
+                if (document != null) {
+                    offer(worstFirst, new Hit(document.tour(), entry.getValue()), wanted);
+                }
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(worstFirst);
+        ranked.sort(Hit.BEST_FIRST);
+        List<TourResponse> items = ranked.stream()
+                .skip(offset)
+                .map(Hit::tour)
+                .toList();
+        return new SearchResult(items, total);
+    }
+
+    private Map<Long, Double> score(List<String> terms, Predicate<TourResponse> filter) {
+        int documentCount = Math.max(documents.size(), 1);
+        double averageLength = Math.max((double) totalLength.get() / documentCount, 1.0);
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Boolean> accepted = new HashMap<>();
+
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach((tourId, frequency) -> {
+                Document document = documents.get(tourId);
+                if (document == null || !accepted.computeIfAbsent(tourId, id -> filter.test(document.tour()))) {
+                    return;
+                }
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                scores.merge(tourId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    private void removeDocument(Long tourId) {
+        Document previous = documents.remove(tourId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            postings.computeIfPresent(term, (key, posting) -> {
+                posting.remove(tourId);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+        totalLength.addAndGet(-previous.length());
+    }
+
+    private static void offer(PriorityQueue<Hit> worstFirst, Hit hit, int capacity) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (worstFirst.size() < capacity) {
+            worstFirst.add(hit);
+        } else if (Hit.BEST_FIRST.compare(hit, worstFirst.peek()) < 0) {
+            worstFirst.poll();
+            worstFirst.add(hit);
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String term : tokenize(text)) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (token.length() > 1) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    public record SearchResult(List<TourResponse> items, long total) {
+    }
+
+    private record Document(TourResponse tour, String[] terms, int length) {
+    }
+
+    private record Hit(TourResponse tour, double score) {
+        static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(hit -> hit.tour().id());
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.AdventureTourBooking.search;
+
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.datasource.PrimaryReads;
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+public class TourSearchIndexer {
+
+    private final TourSearchIndex index;
+    private final TourGeoIndex geoIndex;
+    private final TourRepository tourRepository;
+    private final TransactionTemplate readTransaction;
+    private final int batchSize;
+
+    public TourSearchIndexer(TourSearchIndex index,
+                             TourGeoIndex geoIndex,
+                             TourRepository tourRepository,
+                             PlatformTransactionManager transactionManager,
+                             CacheInvalidationChannel channel,
+                             @Value("${tours.search.rebuild-batch-size:1000}") int batchSize) {
+        this.index = index;
+        this.geoIndex = geoIndex;
+        this.tourRepository = tourRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setName("TourSearchIndexer.read");
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        channel.subscribe(CacheInvalidationChannel.TOURS, key -> reindex(Long.valueOf(key)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        geoIndex.clear();
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            List<TourResponse> batch = read(status ->
+                    tourRepository.findPageAfter(cursor, Limit.of(batchSize)).stream()
+                            .map(TourResponse::fromEntity)
+                            .toList());
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            batch.forEach(this::indexTour);
+            afterId = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    // Driven by the tours invalidation topic, so every instance re-reads a changed tour, not just the
+    // one that committed it. A missing row means the tour was deleted.
+    void reindex(Long tourId) {
+        TourResponse tour = read(status -> tourRepository.findById(tourId)
+                .map(TourResponse::fromEntity)
+                .orElse(null));
+        if (tour == null) {
+            removeTour(tourId);
+        } else {
+            indexTour(tour);
+        }
+    }
+
+    // Index snapshots must not come from a lagging replica, and a programmatic transaction is out of
+    // reach of @ReadFromPrimary.
+    private <T> T read(TransactionCallback<T> callback) {
+        return PrimaryReads.call(() -> readTransaction.execute(callback));
+    }
+
+    private void indexTour(TourResponse tour) {
+        index.index(tour);
+        geoIndex.index(tour);
+    }
+
+    private void removeTour(Long tourId) {
+        index.remove(tourId);
+        geoIndex.remove(tourId);
+    }
+}
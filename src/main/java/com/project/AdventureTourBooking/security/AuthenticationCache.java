@@ -0,0 +1,121 @@
+package com.project.AdventureTourBooking.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AuthenticationCache implements MeterBinder {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    // Entries are keyed by user id so a credential change evicts in O(1); the username index may hold
+    // stale ids, which simply miss.
+    private final Cache<Long, Entry> entries;
+    private final Cache<String, Long> userIds;
+    // Generation at which each user was last invalidated. A login that started verifying before that
+    // generation must not cache what it loaded, or it would resurrect the credentials just evicted.
+    private final Cache<Long, Long> invalidations;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long invalidatedAll;
+    private final SecretKey key;
+
+    public AuthenticationCache(
+            @Value("${security.credential-cache.ttl:PT5M}") Duration ttl,
+            @Value("${security.credential-cache.max-size:10000}") long maxSize
+    ) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.userIds = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        try {
+            this.key = KeyGenerator.getInstance(ALGORITHM).generateKey();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", ex);
+        }
+    }
+
+    public CustomUserDetails get(String username, String password) {
+        Long userId = userIds.getIfPresent(username);
+        Entry entry = userId != null ? entries.getIfPresent(userId) : null;
+        if (entry == null || !entry.username().equals(username)
+                || !MessageDigest.isEqual(entry.digest(), digest(username, password))) {
+            return null;
+        }
+        return entry.principal();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // Runs under the per-user invalidation mapping so an invalidateUser cannot slip in between the
+    // generation check and the write.
+    public void put(String username, String password, CustomUserDetails principal, long loadedAt) {
+        Entry entry = new Entry(username, digest(username, password), principal);
+        invalidations.asMap().compute(principal.getId(), (userId, invalidatedAt) -> {
+            if ((invalidatedAt == null || invalidatedAt <= loadedAt) && invalidatedAll <= loadedAt) {
+                entries.put(userId, entry);
+                userIds.put(username, userId);
+            }
+            return invalidatedAt;
+        });
+    }
+
+    public void invalidateUser(Long userId) {
+        invalidations.asMap().compute(userId, (id, invalidatedAt) -> {
+            entries.invalidate(id);
+            return generation.incrementAndGet();
+        });
+    }
+
+    public void invalidateAll() {
+        invalidatedAll = generation.incrementAndGet();
+        entries.invalidateAll();
+        userIds.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, "credentials",
+                Tags.of("cache.manager", "authenticationCache", "name", "credentials"));
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to digest credentials", ex);
+        }
+    }
+
+    private record Entry(String username, byte[] digest, CustomUserDetails principal) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.AdventureTourBooking.security;
+
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// The JPA callbacks fire at flush, before the change is visible to anyone else, so the eviction waits
+// for commit and is then fanned out on the users topic to every instance's credential cache.
+@Component
+public class UserCredentialsListener {
+
+    private final CacheInvalidationChannel channel;
+
+    public UserCredentialsListener(AuthenticationCache authenticationCache, CacheInvalidationChannel channel) {
+        this.channel = channel;
+        channel.subscribe(CacheInvalidationChannel.USERS, key -> authenticationCache.invalidateUser(Long.valueOf(key)));
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String userId = user.getId().toString();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            channel.publish(CacheInvalidationChannel.USERS, userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                channel.publish(CacheInvalidationChannel.USERS, userId);
+            }
+        });
+    }
+}
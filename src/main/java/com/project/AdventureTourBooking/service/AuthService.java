@@ -1,11 +1,14 @@
 package com.project.AdventureTourBooking.service;
 
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.datasource.ReadFromPrimary;
 import com.project.AdventureTourBooking.dto.AuthResponse;
 import com.project.AdventureTourBooking.dto.LoginRequest;
 import com.project.AdventureTourBooking.dto.RegisterRequest;
 import com.project.AdventureTourBooking.model.User;
 import com.project.AdventureTourBooking.repository.UserRepository;
 import com.project.AdventureTourBooking.security.CustomUserDetails;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
@@ -20,6 +23,7 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class AuthService {
 
     private final UserRepository userRepository;
@@ -51,6 +55,7 @@ public class AuthService {
         return new AuthResponse(saved.getId(), saved.getName(), saved.getEmail(), saved.getRole());
     }
 
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
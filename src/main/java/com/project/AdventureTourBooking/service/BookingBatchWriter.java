@@ -0,0 +1,149 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.TourPricing;
+import com.project.AdventureTourBooking.event.BookingChangedEvent;
+import com.project.AdventureTourBooking.metrics.BookingMetrics;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.pricing.PricingEngine;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class BookingBatchWriter {
+
+    public static final String DEPARTURES_NOT_SUPPORTED = "Scheduled departures must be booked through POST /api/bookings";
+    public static final String STATUS_NOT_ALLOWED = "New bookings must be PENDING";
+
+    private final BookingRepository bookingRepository;
+    private final TourRepository tourRepository;
+    private final UserRepository userRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingSummaryService bookingSummaryService;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookingBatchWriter(
+            BookingRepository bookingRepository,
+            TourRepository tourRepository,
+            UserRepository userRepository,
+            SeatInventoryService seatInventoryService,
+            BookingSummaryService bookingSummaryService,
+            PricingEngine pricingEngine,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.tourRepository = tourRepository;
+        this.userRepository = userRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingSummaryService = bookingSummaryService;
+        this.pricingEngine = pricingEngine;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public record PendingBooking(Long userId, BookingRequest request) {
+    }
+
+    public record Result(Long bookingId, String error) {
+        public BookingMetrics.Outcome outcome() {
+            if (bookingId != null) {
+                return BookingMetrics.Outcome.CREATED;
+            }
+            return SeatInventoryService.NOT_ENOUGH_SEATS.equals(error)
+                    ? BookingMetrics.Outcome.OVER_CAPACITY
+                    : BookingMetrics.Outcome.REJECTED;
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Result> write(List<PendingBooking> pending) {
+        Map<Long, TourPricing> tours = tourRepository.findPricingByIds(pending.stream()
+                        .map(booking -> booking.request().tourId())
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(TourPricing::id, Function.identity()));
+        Set<Long> existingUserIds = userRepository.findExistingIds(pending.stream()
+                .map(PendingBooking::userId)
+                .collect(Collectors.toSet()));
+
+        Result[] results = new Result[pending.size()];
+        Map<Long, List<Integer>> seatRowsByTour = new TreeMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            PendingBooking booking = pending.get(i);
+            BookingRequest request = booking.request();
+            if (!existingUserIds.contains(booking.userId())) {
+                results[i] = new Result(null, "User not found");
+                continue;
+            }
+            if (!tours.containsKey(request.tourId())) {
+                results[i] = new Result(null, "Tour not found");
+                continue;
+            }
+            if (request.departsAt() != null) {
+                results[i] = new Result(null, DEPARTURES_NOT_SUPPORTED);
+                continue;
+            }
+            if (request.status() != null && request.status() != BookingStatus.PENDING) {
+                results[i] = new Result(null, STATUS_NOT_ALLOWED);
+                continue;
+            }
+            seatRowsByTour.computeIfAbsent(request.tourId(), id -> new ArrayList<>()).add(i);
+        }
+
+        // Tours are reserved in ascending id order so import chunks and queue workers lock tour rows
+        // in the same sequence; rows of one tour keep their input order.
+        seatRowsByTour.forEach((tourId, rows) -> {
+            for (int i : rows) {
+                if (!seatInventoryService.tryReserve(tourId, pending.get(i).request().numberOfPeople())) {
+                    results[i] = new Result(null, SeatInventoryService.NOT_ENOUGH_SEATS);
+                }
+            }
+        });
+
+        List<Booking> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            PendingBooking booking = pending.get(i);
+            BookingRequest request = booking.request();
+            TourPricing tour = tours.get(request.tourId());
+
+            Booking entity = new Booking();
+            entity.setTour(tourRepository.getReferenceById(request.tourId()));
+            entity.setUser(userRepository.getReferenceById(booking.userId()));
+            entity.setStatus(BookingStatus.PENDING);
+            entity.setNumberOfPeople(request.numberOfPeople());
+            entity.setTotalPrice(pricingEngine.price(tour.id(), tour.price(), tour.availableFrom(),
+                    request.numberOfPeople()));
+            entity.setBookingDate(request.bookingDate());
+            accepted.add(entity);
+            acceptedIndexes.add(i);
+        }
+
+        bookingRepository.saveAll(accepted);
+        bookingSummaryService.recordCreated(accepted);
+        for (int j = 0; j < accepted.size(); j++) {
+            Booking booking = accepted.get(j);
+            results[acceptedIndexes.get(j)] = new Result(booking.getId(), null);
+            eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), booking.getTour().getId(),
+                    BookingChangedEvent.Type.CREATED));
+        }
+        return Arrays.asList(results);
+    }
+}
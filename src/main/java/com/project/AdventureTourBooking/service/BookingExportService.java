@@ -0,0 +1,82 @@
+package com.project.AdventureTourBooking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class BookingExportService {
+
+    private static final String CSV_HEADER = "id,status,numberOfPeople,totalPrice,bookingDate,createdAt,version,departsAt";
+
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final ObjectWriter responseWriter;
+
+    public BookingExportService(
+            BookingRepository bookingRepository,
+            UserRepository userRepository,
+            ObjectMapper objectMapper
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.userRepository = userRepository;
+        this.responseWriter = objectMapper.writerFor(BookingResponse.class);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportBookingsForOperator(Long operatorId, BookingFileFormat format, OutputStream out) throws IOException {
+        requireOperator(operatorId);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == BookingFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<BookingResponse> bookings = bookingRepository.streamResponsesByOperatorId(operatorId)) {
+            Iterator<BookingResponse> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                BookingResponse booking = iterator.next();
+                writer.write(format == BookingFileFormat.CSV ? toCsv(booking) : responseWriter.writeValueAsString(booking));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private String toCsv(BookingResponse booking) {
+        return booking.id() + "," + booking.status() + "," + booking.numberOfPeople() + ","
+                + booking.totalPrice() + "," + booking.bookingDate() + ","
+                + (booking.createdAt() != null ? booking.createdAt() : "") + ","
+                + (booking.version() != null ? booking.version() : "") + ","
+                + (booking.departsAt() != null ? booking.departsAt() : "");
+    }
+
+    private void requireOperator(Long operatorId) {
+        User operator = userRepository.findById(operatorId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Operator not found"));
+
+        if (operator.getRole() != UserRole.OPERATOR) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "User does not have operator permissions");
+        }
+    }
+}
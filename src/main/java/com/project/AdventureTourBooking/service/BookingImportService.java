@@ -0,0 +1,291 @@
+package com.project.AdventureTourBooking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.dto.BookingImportResult;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.metrics.BookingMetrics;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class BookingImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingImportService.class);
+
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("tourId", "numberOfPeople", "bookingDate");
+
+    private final UserRepository userRepository;
+    private final BookingBatchWriter bookingBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetry optimisticRetry;
+    private final Validator validator;
+    private final BookingMetrics bookingMetrics;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+    private final int chunkSize;
+
+    public BookingImportService(
+            UserRepository userRepository,
+            BookingBatchWriter bookingBatchWriter,
+            TransactionTemplate transactionTemplate,
+            OptimisticRetry optimisticRetry,
+            Validator validator,
+            BookingMetrics bookingMetrics,
+            ObjectMapper objectMapper,
+            @Value("${bookings.import.chunk-size:500}") int chunkSize
+    ) {
+        this.userRepository = userRepository;
+        this.bookingBatchWriter = bookingBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.optimisticRetry = optimisticRetry;
+        this.validator = validator;
+        this.bookingMetrics = bookingMetrics;
+        this.requestReader = objectMapper.readerFor(BookingRequest.class);
+        this.resultWriter = objectMapper.writerFor(BookingImportResult.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public void importBookings(BookingFileFormat format, InputStream body, Long userId, OutputStream out) throws IOException {
+        requireCustomer(userId);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        RowParser parser;
+        if (format == BookingFileFormat.CSV) {
+            parser = new CsvRowParser(reader.readLine());
+            lineNumber++;
+        } else {
+            parser = this::parseJson;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(parseRow(lineNumber, line, parser));
+            if (chunk.size() == chunkSize) {
+                writeResults(processChunk(chunk, userId), writer);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeResults(processChunk(chunk, userId), writer);
+        }
+        writer.flush();
+    }
+
+    private ImportRow parseRow(long lineNumber, String line, RowParser parser) {
+        BookingRequest request;
+        try {
+            request = parser.parse(line);
+        } catch (IOException ex) {
+            return ImportRow.rejected(lineNumber, "Malformed JSON row");
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            return ImportRow.rejected(lineNumber, ex.getMessage());
+        }
+
+        Set<ConstraintViolation<BookingRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return ImportRow.rejected(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return new ImportRow(lineNumber, request, null);
+    }
+
+    private BookingRequest parseJson(String line) throws IOException {
+        BookingRequest request = requestReader.readValue(line);
+        if (request == null) {
+            throw new IOException("Empty row");
+        }
+        return request;
+    }
+
+    // A chunk that fails as a whole is replayed one row per transaction, so only the rows that
+    // fail on their own are rejected.
+    private List<BookingImportResult> processChunk(List<ImportRow> rows, Long userId) {
+        try {
+            return optimisticRetry.execute(() -> transactionTemplate.execute(status -> insertChunk(rows, userId)));
+        } catch (RuntimeException ex) {
+            log.warn("Booking import chunk of {} rows failed, retrying row by row", rows.size(), ex);
+        }
+        List<BookingImportResult> results = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.error() != null) {
+                results.add(BookingImportResult.rejected(row.line(), row.error()));
+                continue;
+            }
+            try {
+                results.addAll(optimisticRetry.execute(
+                        () -> transactionTemplate.execute(status -> insertChunk(List.of(row), userId))));
+            } catch (RuntimeException ex) {
+                log.warn("Booking import row {} could not be saved", row.line(), ex);
+                results.add(BookingImportResult.rejected(row.line(), "Row could not be saved"));
+            }
+        }
+        return results;
+    }
+
+    private List<BookingImportResult> insertChunk(List<ImportRow> rows, Long userId) {
+        List<BookingBatchWriter.PendingBooking> pending = rows.stream()
+                .filter(row -> row.error() == null)
+                .map(row -> new BookingBatchWriter.PendingBooking(userId, row.request()))
+                .toList();
+        Iterator<BookingBatchWriter.Result> written = pending.isEmpty()
+                ? Collections.emptyIterator()
+                : bookingBatchWriter.write(pending).iterator();
+
+        List<BookingImportResult> results = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.error() != null) {
+                results.add(BookingImportResult.rejected(row.line(), row.error()));
+                continue;
+            }
+            BookingBatchWriter.Result result = written.next();
+            results.add(result.bookingId() != null
+                    ? BookingImportResult.created(row.line(), result.bookingId())
+                    : BookingImportResult.rejected(row.line(), result.error()));
+        }
+        return results;
+    }
+
+    private void writeResults(List<BookingImportResult> results, Writer writer) throws IOException {
+        for (BookingImportResult result : results) {
+            recordOutcome(result);
+            writer.write(resultWriter.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private void recordOutcome(BookingImportResult result) {
+        BookingMetrics.Outcome outcome;
+        if (result.outcome() == BookingImportResult.Outcome.CREATED) {
+            outcome = BookingMetrics.Outcome.CREATED;
+        } else if (SeatInventoryService.NOT_ENOUGH_SEATS.equals(result.error())) {
+            outcome = BookingMetrics.Outcome.OVER_CAPACITY;
+        } else {
+            outcome = BookingMetrics.Outcome.REJECTED;
+        }
+        bookingMetrics.record(BookingMetrics.Source.IMPORT, outcome);
+    }
+
+    private void requireCustomer(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+
+        if (user.getRole() != UserRole.CUSTOMER) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only customers can create bookings");
+        }
+    }
+
+    private record ImportRow(long line, BookingRequest request, String error) {
+        static ImportRow rejected(long line, String error) {
+            return new ImportRow(line, null, error);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        BookingRequest parse(String line) throws IOException;
+    }
+
+    private static final class CsvRowParser implements RowParser {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvRowParser(String header) {
+            if (header == null || header.isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is required");
+            }
+            String[] names = split(header.replace("\uFEFF", ""));
+            for (int i = 0; i < names.length; i++) {
+                columns.put(names[i], i);
+            }
+            List<String> missing = CSV_REQUIRED_COLUMNS.stream()
+                    .filter(column -> !columns.containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "CSV header is missing columns: " + String.join(", ", missing));
+            }
+        }
+
+        @Override
+        public BookingRequest parse(String line) {
+            String[] values = split(line);
+            return new BookingRequest(
+                    value(values, "tourId", Long::valueOf),
+                    value(values, "numberOfPeople", Integer::valueOf),
+                    value(values, "bookingDate", LocalDateTime::parse),
+                    value(values, "status", BookingStatus::valueOf)
+            );
+        }
+
+        private <T> T value(String[] values, String column, Function<String, T> converter) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.length || values[index].isEmpty()) {
+                return null;
+            }
+            try {
+                return converter.apply(values[index]);
+            } catch (IllegalArgumentException | DateTimeException ex) {
+                throw new IllegalArgumentException("Invalid value for " + column);
+            }
+        }
+
+        private static String[] split(String line) {
+            String[] values = line.split(",", -1);
+            for (int i = 0; i < values.length; i++) {
+                String value = values[i].trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1).trim();
+                }
+                values[i] = value;
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.AdventureTourBooking.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+public class BookingQueueFullException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public BookingQueueFullException(Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Booking queue is full, retry later");
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
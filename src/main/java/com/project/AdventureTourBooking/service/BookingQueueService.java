@@ -0,0 +1,218 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.dto.BookingQueueResponse;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.metrics.BookingMetrics;
+import com.project.AdventureTourBooking.model.BookingQueueItem;
+import com.project.AdventureTourBooking.model.BookingQueueState;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.repository.BookingQueueRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class BookingQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingQueueService.class);
+
+    private final BookingQueueRepository queueRepository;
+    private final BookingBatchWriter bookingBatchWriter;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetry optimisticRetry;
+    private final int batchSize;
+    private final long maxDepth;
+    private final Duration retryAfter;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final AtomicLong depth = new AtomicLong();
+
+    public BookingQueueService(
+            BookingQueueRepository queueRepository,
+            BookingBatchWriter bookingBatchWriter,
+            BookingMetrics bookingMetrics,
+            TransactionTemplate transactionTemplate,
+            OptimisticRetry optimisticRetry,
+            @Value("${bookings.queue.batch-size:100}") int batchSize,
+            @Value("${bookings.queue.max-depth:10000}") long maxDepth,
+            @Value("${bookings.queue.retry-after:PT5S}") Duration retryAfter,
+            @Value("${bookings.queue.max-attempts:5}") int maxAttempts,
+            @Value("${bookings.queue.retry-backoff:PT5S}") Duration retryBackoff
+    ) {
+        this.queueRepository = queueRepository;
+        this.bookingBatchWriter = bookingBatchWriter;
+        this.bookingMetrics = bookingMetrics;
+        this.transactionTemplate = transactionTemplate;
+        this.optimisticRetry = optimisticRetry;
+        this.batchSize = batchSize;
+        this.maxDepth = maxDepth;
+        this.retryAfter = retryAfter;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Transactional
+    public BookingQueueResponse enqueue(BookingRequest request, Long userId) {
+        if (depth.get() >= maxDepth) {
+            throw new BookingQueueFullException(retryAfter);
+        }
+        if (request.departsAt() != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, BookingBatchWriter.DEPARTURES_NOT_SUPPORTED);
+        }
+        if (request.status() != null && request.status() != BookingStatus.PENDING) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, BookingBatchWriter.STATUS_NOT_ALLOWED);
+        }
+
+        BookingQueueItem item = new BookingQueueItem();
+        item.setReference(UUID.randomUUID().toString());
+        item.setUserId(userId);
+        item.setTourId(request.tourId());
+        item.setNumberOfPeople(request.numberOfPeople());
+        item.setBookingDate(request.bookingDate());
+        item.setRequestedStatus(request.status());
+        item.setState(BookingQueueState.QUEUED);
+
+        BookingQueueItem saved = queueRepository.save(item);
+        depth.incrementAndGet();
+        return BookingQueueResponse.fromEntity(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public BookingQueueResponse getStatus(String reference, Long userId) {
+        return queueRepository.findByReference(reference)
+                .filter(item -> item.getUserId().equals(userId))
+                .map(BookingQueueResponse::fromEntity)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking request not found"));
+    }
+
+    // A batch that fails as a whole (a deadlock, or a user deleted before the flush) is replayed one
+    // row per transaction, so only the rows that keep failing are backed off and eventually rejected.
+    public int processBatch() {
+        List<Long> claimedIds = new ArrayList<>();
+        List<BookingBatchWriter.Result> results;
+        try {
+            results = optimisticRetry.execute(() -> transactionTemplate.execute(status -> {
+                claimedIds.clear();
+                List<BookingQueueItem> claimed = queueRepository.claimQueued(LocalDateTime.now(), Limit.of(batchSize));
+                if (claimed.isEmpty()) {
+                    return List.of();
+                }
+                claimed.forEach(item -> claimedIds.add(item.getId()));
+
+                List<BookingBatchWriter.Result> written = bookingBatchWriter.write(claimed.stream()
+                        .map(BookingQueueService::toPending)
+                        .toList());
+
+                LocalDateTime processedAt = LocalDateTime.now();
+                for (int i = 0; i < claimed.size(); i++) {
+                    complete(claimed.get(i), written.get(i), processedAt);
+                }
+                return written;
+            }));
+        } catch (RuntimeException ex) {
+            if (claimedIds.isEmpty()) {
+                throw ex;
+            }
+            log.warn("Booking queue batch of {} items failed, retrying them one at a time", claimedIds.size(), ex);
+            claimedIds.forEach(this::processItem);
+            refreshDepth();
+            return claimedIds.size();
+        }
+
+        results.forEach(result -> bookingMetrics.record(BookingMetrics.Source.QUEUE, result.outcome()));
+        if (results.size() < batchSize) {
+            refreshDepth();
+        } else {
+            depth.updateAndGet(current -> Math.max(0, current - results.size()));
+        }
+        return results.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getDepth() {
+        return depth.get();
+    }
+
+    public void refreshDepth() {
+        depth.set(queueRepository.countByState(BookingQueueState.QUEUED));
+    }
+
+    private void processItem(Long id) {
+        BookingBatchWriter.Result result;
+        try {
+            result = optimisticRetry.execute(() -> transactionTemplate.execute(status -> queueRepository.claimQueuedById(id)
+                    .map(item -> {
+                        BookingBatchWriter.Result written = bookingBatchWriter.write(List.of(toPending(item))).get(0);
+                        complete(item, written, LocalDateTime.now());
+                        return written;
+                    })
+                    .orElse(null)));
+        } catch (RuntimeException ex) {
+            log.warn("Booking queue item {} failed", id, ex);
+            result = recordFailure(id);
+        }
+        if (result != null) {
+            bookingMetrics.record(BookingMetrics.Source.QUEUE, result.outcome());
+        }
+    }
+
+    // Returns a rejection once the item has used up its attempts, otherwise pushes it back with an
+    // exponential delay and returns null.
+    private BookingBatchWriter.Result recordFailure(Long id) {
+        return transactionTemplate.execute(status -> queueRepository.claimQueuedById(id)
+                .map(item -> {
+                    int attempts = item.getAttempts() + 1;
+                    item.setAttempts(attempts);
+                    if (attempts < maxAttempts) {
+                        item.setNextAttemptAt(LocalDateTime.now()
+                                .plus(retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 16))));
+                        return null;
+                    }
+                    BookingBatchWriter.Result rejected = new BookingBatchWriter.Result(null,
+                            "Booking could not be processed after " + attempts + " attempts");
+                    complete(item, rejected, LocalDateTime.now());
+                    return rejected;
+                })
+                .orElse(null));
+    }
+
+    private static BookingBatchWriter.PendingBooking toPending(BookingQueueItem item) {
+        return new BookingBatchWriter.PendingBooking(item.getUserId(), new BookingRequest(
+                item.getTourId(),
+                item.getNumberOfPeople(),
+                item.getBookingDate(),
+                item.getRequestedStatus()));
+    }
+
+    private static void complete(BookingQueueItem item, BookingBatchWriter.Result result, LocalDateTime processedAt) {
+        item.setState(result.bookingId() != null ? BookingQueueState.COMPLETED : BookingQueueState.REJECTED);
+        item.setBookingId(result.bookingId());
+        item.setError(result.error());
+        item.setProcessedAt(processedAt);
+    }
+
+    @Transactional
+    public int purgeProcessed(Duration retention) {
+        return queueRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+}
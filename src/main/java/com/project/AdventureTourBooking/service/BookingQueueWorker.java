@@ -0,0 +1,77 @@
+package com.project.AdventureTourBooking.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class BookingQueueWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingQueueWorker.class);
+
+    private final BookingQueueService queueService;
+    private final int workers;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public BookingQueueWorker(
+            BookingQueueService queueService,
+            @Value("${bookings.queue.workers:2}") int workers,
+            @Value("${bookings.queue.poll-interval:PT0.2S}") Duration pollInterval,
+            @Value("${bookings.queue.retention:P7D}") Duration retention
+    ) {
+        this.queueService = queueService;
+        this.workers = workers;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        queueService.refreshDepth();
+        if (workers <= 0) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(workers + 1);
+        scheduler.setThreadNamePrefix("booking-queue-");
+        scheduler.initialize();
+        for (int i = 0; i < workers; i++) {
+            scheduler.scheduleWithFixedDelay(this::drain, pollInterval);
+        }
+        scheduler.scheduleWithFixedDelay(this::purge, Duration.ofHours(1));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (queueService.processBatch() == queueService.getBatchSize()) {
+                // keep draining while batches come back full
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Booking queue batch failed, it will be retried", ex);
+        }
+    }
+
+    private void purge() {
+        try {
+            queueService.purgeProcessed(retention);
+        } catch (RuntimeException ex) {
+            log.warn("Booking queue purge failed", ex);
+        }
+    }
+}
@@ -1,81 +1,311 @@
 package com.project.AdventureTourBooking.service;
 
+import com.project.AdventureTourBooking.config.MetricsConfig;
 import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.dto.BookingStatusBulkUpdateResponse;
+import com.project.AdventureTourBooking.event.BookingChangedEvent;
+import com.project.AdventureTourBooking.metrics.BookingMetrics;
 import com.project.AdventureTourBooking.model.Booking;
 import com.project.AdventureTourBooking.model.BookingStatus;
 import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
 import com.project.AdventureTourBooking.model.User;
 import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.pricing.PricingEngine;
 import com.project.AdventureTourBooking.repository.BookingRepository;
 import com.project.AdventureTourBooking.repository.TourRepository;
 import com.project.AdventureTourBooking.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final TourRepository tourRepository;
     private final UserRepository userRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final DepartureService departureService;
+    private final BookingMetrics bookingMetrics;
+    private final BookingSummaryService bookingSummaryService;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBulkStatusSize;
 
     public BookingService(
             BookingRepository bookingRepository,
             TourRepository tourRepository,
-            UserRepository userRepository
+            UserRepository userRepository,
+            SeatInventoryService seatInventoryService,
+            DepartureService departureService,
+            BookingMetrics bookingMetrics,
+            BookingSummaryService bookingSummaryService,
+            PricingEngine pricingEngine,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${bookings.bulk-status.max-size:500}") int maxBulkStatusSize
     ) {
         this.bookingRepository = bookingRepository;
         this.tourRepository = tourRepository;
         this.userRepository = userRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.departureService = departureService;
+        this.bookingMetrics = bookingMetrics;
+        this.bookingSummaryService = bookingSummaryService;
+        this.pricingEngine = pricingEngine;
+        this.eventPublisher = eventPublisher;
+        this.maxBulkStatusSize = maxBulkStatusSize;
     }
 
     @Transactional
     public Booking createBooking(BookingRequest request, Long userId) {
+        try {
+            Booking booking = insertBooking(request, userId, false);
+            recordCreatedAfterCommit();
+            return booking;
+        } catch (ResponseStatusException ex) {
+            bookingMetrics.record(BookingMetrics.Source.API, ex.getStatusCode() == HttpStatus.CONFLICT
+                    ? BookingMetrics.Outcome.OVER_CAPACITY
+                    : BookingMetrics.Outcome.REJECTED);
+            throw ex;
+        }
+    }
+
+    // The seats were already taken off the tour by a seat hold; the booking inherits them instead
+    // of reserving a second time.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Booking createHeldBooking(BookingRequest request, Long userId) {
+        Booking booking = insertBooking(request, userId, true);
+        recordCreatedAfterCommit();
+        return booking;
+    }
+
+    // A booking only counts as created once its transaction commits; a rollback later in the
+    // caller's transaction must not leave a CREATED sample behind.
+    private void recordCreatedAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bookingMetrics.record(BookingMetrics.Source.API, BookingMetrics.Outcome.CREATED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bookingMetrics.record(BookingMetrics.Source.API, BookingMetrics.Outcome.CREATED);
+            }
+        });
+    }
+
+    private Booking insertBooking(BookingRequest request, Long userId, boolean seatsHeld) {
+        // Confirming and completing are operator transitions, a customer can only ask for a booking.
+        if (request.status() != null && request.status() != BookingStatus.PENDING) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, BookingBatchWriter.STATUS_NOT_ALLOWED);
+        }
         User user = getCustomer(userId);
 
         Tour tour = tourRepository.findById(request.tourId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found"));
 
-        BookingStatus status = request.status() != null ? request.status() : BookingStatus.PENDING;
+        TourDepartureKey departure = request.departsAt() != null
+                ? departureService.resolve(tour, request.departsAt())
+                : null;
+        if (!seatsHeld) {
+            if (departure != null) {
+                departureService.reserve(tour.getId(), departure, request.numberOfPeople());
+            } else {
+                seatInventoryService.reserve(tour.getId(), request.numberOfPeople());
+            }
+        }
 
         Booking booking = new Booking();
         booking.setTour(tour);
         booking.setUser(user);
-        booking.setStatus(status);
+        booking.setStatus(BookingStatus.PENDING);
         booking.setNumberOfPeople(request.numberOfPeople());
-        booking.setTotalPrice(request.totalPrice());
+        booking.setTotalPrice(pricingEngine.price(tour.getId(), tour.getPrice(),
+                departure != null ? departure.getDepartsAt() : tour.getAvailableFrom(), request.numberOfPeople()));
         booking.setBookingDate(request.bookingDate());
+        if (departure != null) {
+            booking.setScheduleId(departure.getScheduleId());
+            booking.setDepartsAt(departure.getDepartsAt());
+        }
 
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        bookingSummaryService.recordCreated(List.of(saved));
+        eventPublisher.publishEvent(new BookingChangedEvent(saved.getId(), tour.getId(),
+                BookingChangedEvent.Type.CREATED));
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public List<Booking> getBookingsForOperator(Long operatorId) {
+    public List<BookingResponse> getBookingsForOperator(Long operatorId) {
         User operator = getOperator(operatorId);
-        return bookingRepository.findByTourOperatorId(operator.getId());
+        return bookingRepository.findResponsesByOperatorId(operator.getId());
     }
 
     @Transactional
     public Booking updateBookingStatus(Long bookingId, BookingStatus status, Long operatorId) {
+        return updateBookingStatus(bookingId, status, operatorId, null);
+    }
+
+    @Transactional
+    public Booking updateBookingStatus(Long bookingId, BookingStatus status, Long operatorId, Long expectedVersion) {
         if (status == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status must be provided");
         }
 
         User operator = getOperator(operatorId);
 
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithTourById(bookingId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Booking not found"));
 
         if (!booking.getTour().getOperator().getId().equals(operator.getId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Cannot modify bookings for other operators");
         }
+        if (expectedVersion != null && !expectedVersion.equals(booking.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Booking has been modified since it was read");
+        }
 
+        BookingStatus previous = booking.getStatus();
+        if (previous != status && !previous.canTransitionTo(status)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Cannot change booking from " + previous + " to " + status);
+        }
+        adjustSeats(List.of(booking), status);
         booking.setStatus(status);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        bookingSummaryService.recordStatusChange(saved, previous, status);
+        eventPublisher.publishEvent(new BookingChangedEvent(saved.getId(), saved.getTour().getId(),
+                BookingChangedEvent.Type.STATUS_CHANGED));
+        return saved;
+    }
+
+    // One ownership check and one locking read cover the whole batch; the transition itself is a
+    // single UPDATE, and seat and summary adjustments are aggregated per tour and per summary row.
+    @Transactional
+    public BookingStatusBulkUpdateResponse updateBookingStatuses(Collection<Long> bookingIds, BookingStatus status,
+                                                                 Long operatorId) {
+        if (status == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status must be provided");
+        }
+        Set<Long> ids = new LinkedHashSet<>(bookingIds);
+        if (ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one booking id must be provided");
+        }
+        if (ids.size() > maxBulkStatusSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Cannot update more than " + maxBulkStatusSize + " bookings at once");
+        }
+
+        User operator = getOperator(operatorId);
+        Map<Long, Booking> bookings = bookingRepository.lockAllById(ids).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Set<Long> tourIds = bookings.values().stream()
+                .map(booking -> booking.getTour().getId())
+                .collect(Collectors.toSet());
+        Set<Long> ownedTourIds = tourIds.isEmpty() ? Set.of() : tourRepository.findIdsOwnedBy(tourIds, operator.getId());
+
+        List<Booking> changing = new ArrayList<>();
+        for (Long id : ids) {
+            Booking booking = bookings.get(id);
+            if (booking != null && ownedTourIds.contains(booking.getTour().getId())
+                    && booking.getStatus().canTransitionTo(status)) {
+                changing.add(booking);
+            }
+        }
+
+        Map<Long, Booking> updated = Map.of();
+        if (!changing.isEmpty()) {
+            List<Long> changingIds = changing.stream().map(Booking::getId).toList();
+            adjustSeats(changing, status);
+            bookingSummaryService.recordStatusChanges(changing, status);
+            bookingRepository.updateStatuses(changingIds, status, LocalDateTime.now());
+            // The bulk update cleared the persistence context; reloading here keeps later readers
+            // in this transaction (the outbox writer) on the first-level cache.
+            updated = bookingRepository.findAllById(changingIds).stream()
+                    .collect(Collectors.toMap(Booking::getId, Function.identity()));
+            for (Booking booking : changing) {
+                eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), booking.getTour().getId(),
+                        BookingChangedEvent.Type.STATUS_CHANGED));
+            }
+        }
+
+        List<BookingStatusBulkUpdateResponse.Result> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            results.add(bulkResult(id, bookings.get(id), updated.get(id), ownedTourIds, status));
+        }
+        return new BookingStatusBulkUpdateResponse(status, updated.size(), results);
+    }
+
+    private BookingStatusBulkUpdateResponse.Result bulkResult(Long id, Booking booking, Booking updated,
+                                                             Set<Long> ownedTourIds, BookingStatus status) {
+        if (booking == null) {
+            return new BookingStatusBulkUpdateResponse.Result(id, BookingStatusBulkUpdateResponse.Outcome.NOT_FOUND, null, null);
+        }
+        if (!ownedTourIds.contains(booking.getTour().getId())) {
+            return new BookingStatusBulkUpdateResponse.Result(id, BookingStatusBulkUpdateResponse.Outcome.FORBIDDEN, null, null);
+        }
+        if (updated != null) {
+            return new BookingStatusBulkUpdateResponse.Result(id, BookingStatusBulkUpdateResponse.Outcome.UPDATED,
+                    updated.getStatus(), updated.getVersion());
+        }
+        BookingStatusBulkUpdateResponse.Outcome outcome = booking.getStatus() == status
+                ? BookingStatusBulkUpdateResponse.Outcome.UNCHANGED
+                : BookingStatusBulkUpdateResponse.Outcome.INVALID_TRANSITION;
+        return new BookingStatusBulkUpdateResponse.Result(id, outcome, booking.getStatus(), booking.getVersion());
+    }
+
+    private void adjustSeats(List<Booking> bookings, BookingStatus to) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        Map<TourDepartureKey, Integer> departureDeltas = new TreeMap<>();
+        Map<TourDepartureKey, Long> departureTours = new HashMap<>();
+        for (Booking booking : bookings) {
+            boolean held = booking.getStatus() != null && booking.getStatus().holdsSeats();
+            if (held != to.holdsSeats()) {
+                int delta = held ? -booking.getNumberOfPeople() : booking.getNumberOfPeople();
+                if (booking.getScheduleId() != null) {
+                    TourDepartureKey departure = new TourDepartureKey(booking.getScheduleId(), booking.getDepartsAt());
+                    departureDeltas.merge(departure, delta, Integer::sum);
+                    departureTours.put(departure, booking.getTour().getId());
+                } else {
+                    deltas.merge(booking.getTour().getId(), delta, Integer::sum);
+                }
+            }
+        }
+        deltas.forEach((tourId, delta) -> {
+            if (delta > 0) {
+                seatInventoryService.reserve(tourId, delta);
+            } else if (delta < 0) {
+                seatInventoryService.release(tourId, -delta);
+            }
+        });
+        departureDeltas.forEach((departure, delta) -> {
+            if (delta > 0) {
+                departureService.reserve(departureTours.get(departure), departure, delta);
+            } else if (delta < 0) {
+                departureService.release(departureTours.get(departure), departure, -delta);
+            }
+        });
     }
 
     private User getCustomer(Long userId) {
@@ -0,0 +1,172 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.dto.OperatorBookingSummaryResponse;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingDailySummaryKey;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class BookingSummaryService {
+
+    private final BookingDailySummaryRepository summaryRepository;
+    private final int defaultDays;
+    private final int maxDays;
+
+    public BookingSummaryService(BookingDailySummaryRepository summaryRepository,
+                                 @Value("${bookings.summary.default-days:30}") int defaultDays,
+                                 @Value("${bookings.summary.max-days:366}") int maxDays) {
+        this.summaryRepository = summaryRepository;
+        this.defaultDays = defaultDays;
+        this.maxDays = maxDays;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Booking> bookings) {
+        Map<BookingDailySummaryKey, Delta> deltas = new TreeMap<>();
+        for (Booking booking : bookings) {
+            add(deltas, booking, booking.getStatus(), 1);
+        }
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Booking booking, BookingStatus from, BookingStatus to) {
+        if (from == to) {
+            return;
+        }
+        Map<BookingDailySummaryKey, Delta> deltas = new TreeMap<>();
+        add(deltas, booking, from, -1);
+        add(deltas, booking, to, 1);
+        apply(deltas);
+    }
+
+    // Bookings are expected to still carry their previous status.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Collection<Booking> bookings, BookingStatus to) {
+        Map<BookingDailySummaryKey, Delta> deltas = new TreeMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getStatus() != to) {
+                add(deltas, booking, booking.getStatus(), -1);
+                add(deltas, booking, to, 1);
+            }
+        }
+        apply(deltas);
+    }
+
+    @Transactional(readOnly = true)
+    public OperatorBookingSummaryResponse getOperatorSummary(Long operatorId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultDays - 1L);
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Summary range cannot exceed " + maxDays + " days");
+        }
+
+        Accumulator overall = new Accumulator();
+        Map<Long, String> titles = new LinkedHashMap<>();
+        Map<Long, Accumulator> tours = new LinkedHashMap<>();
+        for (BookingDailySummaryRepository.TourTotals row : summaryRepository.findTourTotalsByOperatorId(operatorId)) {
+            titles.putIfAbsent(row.getTourId(), row.getTitle());
+            tours.computeIfAbsent(row.getTourId(), id -> new Accumulator())
+                    .add(row.getStatus(), row.getBookings(), row.getSeats(), row.getRevenue());
+            overall.add(row.getStatus(), row.getBookings(), row.getSeats(), row.getRevenue());
+        }
+
+        Map<LocalDate, Accumulator> days = new LinkedHashMap<>();
+        List<BookingDailySummaryRepository.DayTotals> dayRows =
+                summaryRepository.findDayTotalsByOperatorId(operatorId, start, end);
+        for (BookingDailySummaryRepository.DayTotals row : dayRows) {
+            days.computeIfAbsent(row.getDay(), day -> new Accumulator())
+                    .add(row.getStatus(), row.getBookings(), row.getSeats(), row.getRevenue());
+        }
+
+        return new OperatorBookingSummaryResponse(
+                start,
+                end,
+                overall.toTotals(),
+                tours.entrySet().stream()
+                        .map(entry -> new OperatorBookingSummaryResponse.TourSummary(
+                                entry.getKey(), titles.get(entry.getKey()), entry.getValue().toTotals()))
+                        .toList(),
+                days.entrySet().stream()
+                        .map(entry -> new OperatorBookingSummaryResponse.DaySummary(entry.getKey(), entry.getValue().toTotals()))
+                        .toList()
+        );
+    }
+
+    private void add(Map<BookingDailySummaryKey, Delta> deltas, Booking booking, BookingStatus status, int sign) {
+        LocalDateTime createdAt = booking.getCreatedAt() != null ? booking.getCreatedAt() : LocalDateTime.now();
+        BookingDailySummaryKey key = new BookingDailySummaryKey(booking.getTour().getId(), createdAt.toLocalDate(), status);
+        deltas.computeIfAbsent(key, k -> new Delta()).add(sign, booking.getNumberOfPeople(), booking.getTotalPrice());
+    }
+
+    // Keys are applied in sorted order so two transactions touching the same summary rows
+    // always lock them in the same sequence. When the row is missing and a concurrent transaction
+    // creates it first, the insert is a no-op and the second update lands on the committed row.
+    private void apply(Map<BookingDailySummaryKey, Delta> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (summaryRepository.addDelta(key.getTourId(), key.getDay(), key.getStatus(),
+                    delta.bookings, delta.seats, delta.revenue) > 0) {
+                return;
+            }
+            if (summaryRepository.insertIfAbsent(key.getTourId(), key.getDay(), key.getStatus().name(),
+                    delta.bookings, delta.seats, delta.revenue) == 0) {
+                summaryRepository.addDelta(key.getTourId(), key.getDay(), key.getStatus(),
+                        delta.bookings, delta.seats, delta.revenue);
+            }
+        });
+    }
+
+    private static final class Delta {
+        private long bookings;
+        private long seats;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(int sign, int people, BigDecimal price) {
+            bookings += sign;
+            seats += (long) sign * people;
+            revenue = revenue.add(sign > 0 ? price : price.negate());
+        }
+    }
+
+    private static final class Accumulator {
+        private final EnumMap<BookingStatus, Long> bookingsByStatus = new EnumMap<>(BookingStatus.class);
+        private long seatsSold;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(BookingStatus status, Long bookings, Long seats, BigDecimal amount) {
+            bookingsByStatus.merge(status, bookings, Long::sum);
+            if (status.isSale()) {
+                seatsSold += seats;
+                revenue = revenue.add(amount);
+            }
+        }
+
+        private OperatorBookingSummaryResponse.Totals toTotals() {
+            return new OperatorBookingSummaryResponse.Totals(new EnumMap<>(bookingsByStatus), seatsSold, revenue);
+        }
+    }
+}
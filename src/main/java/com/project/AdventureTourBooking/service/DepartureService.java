@@ -0,0 +1,192 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.departure.DepartureAvailabilityIndex;
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.dto.TourScheduleRequest;
+import com.project.AdventureTourBooking.dto.TourScheduleResponse;
+import com.project.AdventureTourBooking.event.DepartureChangedEvent;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import com.project.AdventureTourBooking.model.TourSchedule;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.TourScheduleRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class DepartureService {
+
+    private final TourRepository tourRepository;
+    private final TourScheduleRepository scheduleRepository;
+    private final TourDepartureRepository departureRepository;
+    private final BookingRepository bookingRepository;
+    private final DepartureAvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRangeDays;
+    private final int maxTours;
+
+    public DepartureService(TourRepository tourRepository,
+                            TourScheduleRepository scheduleRepository,
+                            TourDepartureRepository departureRepository,
+                            BookingRepository bookingRepository,
+                            DepartureAvailabilityIndex availabilityIndex,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${tours.departures.max-range-days:62}") int maxRangeDays,
+                            @Value("${tours.departures.max-tours:500}") int maxTours) {
+        this.tourRepository = tourRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.departureRepository = departureRepository;
+        this.bookingRepository = bookingRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.eventPublisher = eventPublisher;
+        this.maxRangeDays = maxRangeDays;
+        this.maxTours = maxTours;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TourScheduleResponse> getSchedules(Long tourId) {
+        if (!tourRepository.existsById(tourId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found");
+        }
+        return scheduleRepository.findByTourIdOrderById(tourId).stream()
+                .map(TourScheduleResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public TourScheduleResponse createSchedule(Long tourId, TourScheduleRequest request, Long operatorId) {
+        Tour tour = getOwnedTour(tourId, operatorId);
+        if (request.endsOn() != null && request.endsOn().isBefore(request.startsOn())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endsOn must not be before startsOn");
+        }
+        Integer capacity = request.capacity() != null ? request.capacity() : tour.getMaxCapacity();
+        if (capacity == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "capacity is required when the tour has no maximum capacity");
+        }
+
+        int daysOfWeek = 0;
+        for (DayOfWeek day : request.daysOfWeek()) {
+            daysOfWeek |= TourSchedule.dayBit(day);
+        }
+        TourSchedule schedule = new TourSchedule();
+        schedule.setTourId(tourId);
+        schedule.setStartTime(request.startTime());
+        schedule.setDaysOfWeek(daysOfWeek);
+        schedule.setStartsOn(request.startsOn());
+        schedule.setEndsOn(request.endsOn());
+        schedule.setCapacity(capacity);
+
+        TourSchedule saved = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new DepartureChangedEvent(tourId));
+        return TourScheduleResponse.fromEntity(saved);
+    }
+
+    @Transactional
+    public void deleteSchedule(Long tourId, Long scheduleId, Long operatorId) {
+        getOwnedTour(tourId, operatorId);
+        TourSchedule schedule = scheduleRepository.findById(scheduleId)
+                .filter(existing -> existing.getTourId().equals(tourId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Schedule not found"));
+        // Bookings keep pointing at their departure after they are cancelled or have run, so any
+        // booking at all pins the schedule.
+        if (bookingRepository.existsByScheduleId(scheduleId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Schedule has bookings and cannot be deleted");
+        }
+        departureRepository.deleteByScheduleId(scheduleId);
+        scheduleRepository.delete(schedule);
+        eventPublisher.publishEvent(new DepartureChangedEvent(tourId));
+    }
+
+    // Checks the requested time against the tour's schedules and creates the departure row the
+    // first time anyone books it.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TourDepartureKey resolve(Tour tour, LocalDateTime departsAt) {
+        if (departsAt.isBefore(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Departure has already left");
+        }
+        TourSchedule schedule = scheduleRepository.findByTourIdOrderById(tour.getId()).stream()
+                .filter(candidate -> candidate.runsOn(departsAt.toLocalDate())
+                        && candidate.getStartTime().equals(departsAt.toLocalTime()))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Tour has no departure at " + departsAt));
+        departureRepository.materialize(schedule.getId(), departsAt, tour.getId(), schedule.getCapacity());
+        return new TourDepartureKey(schedule.getId(), departsAt);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Long tourId, TourDepartureKey departure, int seats) {
+        requirePositive(seats);
+        if (departureRepository.reserveSeats(departure.getScheduleId(), departure.getDepartsAt(), seats) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, SeatInventoryService.NOT_ENOUGH_SEATS);
+        }
+        eventPublisher.publishEvent(new DepartureChangedEvent(tourId, departure));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long tourId, TourDepartureKey departure, int seats) {
+        requirePositive(seats);
+        if (departureRepository.releaseSeats(departure.getScheduleId(), departure.getDepartsAt(), seats) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Departure has fewer booked seats than released");
+        }
+        eventPublisher.publishEvent(new DepartureChangedEvent(tourId, departure));
+    }
+
+    // Answered from the in-memory index; days before today are never returned.
+    public List<DepartureAvailabilityResponse> findAvailability(Collection<Long> tourIds, LocalDate from, LocalDate to,
+                                                                Integer people) {
+        Set<Long> ids = new LinkedHashSet<>(tourIds);
+        if (ids.isEmpty() || ids.size() > maxTours) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + maxTours + " tour ids must be provided");
+        }
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Date range cannot span more than " + maxRangeDays + " days");
+        }
+        if (people != null && people < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "people must be positive");
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate start = from.isBefore(today) ? today : from;
+        return availabilityIndex.find(ids, start, to, people != null ? people : 0);
+    }
+
+    private Tour getOwnedTour(Long tourId, Long operatorId) {
+        Tour tour = tourRepository.findById(tourId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found"));
+        if (!tour.getOperator().getId().equals(operatorId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Operators can only schedule their own tours");
+        }
+        return tour;
+    }
+
+    private void requirePositive(int seats) {
+        if (seats <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Number of people must be positive");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.AdventureTourBooking.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class OptimisticRetry {
+
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final Counter retried;
+    private final Counter exhausted;
+
+    public OptimisticRetry(@Value("${persistence.optimistic-retry.max-attempts:3}") int maxAttempts,
+                           @Value("${persistence.optimistic-retry.backoff:PT0.01S}") Duration backoff,
+                           MeterRegistry meterRegistry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("persistence.optimistic-retry.max-attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffNanos = backoff.toNanos();
+        this.retried = Counter.builder("persistence.optimistic.conflicts")
+                .description("Optimistic lock conflicts by result")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("persistence.optimistic.conflicts")
+                .description("Optimistic lock conflicts by result")
+                .tag("outcome", "exhausted")
+                .register(meterRegistry);
+    }
+
+    // Each attempt must be a complete transaction of its own: a version conflict surfaces at
+    // flush/commit and marks the surrounding transaction rollback-only, so retrying inside an
+    // outer transaction could never succeed.
+    public <T> T execute(Supplier<T> operation) {
+        return execute(operation, maxAttempts);
+    }
+
+    // For unconditional client writes: a replay would re-read and silently overwrite the edit it
+    // collided with, so the conflict is reported instead.
+    public <T> T executeOnce(Supplier<T> operation) {
+        return execute(operation, 1);
+    }
+
+    private <T> T execute(Supplier<T> operation, int maxAttempts) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Optimistic retries must start outside a transaction");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "The resource is being modified concurrently, please retry", ex);
+                }
+                retried.increment();
+                pause(attempt);
+            }
+        }
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    // Linear backoff with full jitter keeps writers that collided once from colliding again in lockstep.
+    private void pause(int attempt) {
+        if (backoffNanos <= 0) {
+            return;
+        }
+        long nanos = ThreadLocalRandom.current().nextLong(backoffNanos * attempt + 1);
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while retrying update", ex);
+        }
+    }
+}
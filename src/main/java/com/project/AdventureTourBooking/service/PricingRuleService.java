@@ -0,0 +1,118 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.dto.PriceQuoteResponse;
+import com.project.AdventureTourBooking.dto.PricingRuleRequest;
+import com.project.AdventureTourBooking.dto.PricingRuleResponse;
+import com.project.AdventureTourBooking.event.PricingRulesChangedEvent;
+import com.project.AdventureTourBooking.model.PricingRule;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.pricing.PricingEngine;
+import com.project.AdventureTourBooking.repository.PricingRuleRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class PricingRuleService {
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final TourRepository tourRepository;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRulesPerTour;
+
+    public PricingRuleService(PricingRuleRepository pricingRuleRepository,
+                              TourRepository tourRepository,
+                              PricingEngine pricingEngine,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${tours.pricing.max-rules-per-tour:50}") int maxRulesPerTour) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.tourRepository = tourRepository;
+        this.pricingEngine = pricingEngine;
+        this.eventPublisher = eventPublisher;
+        this.maxRulesPerTour = maxRulesPerTour;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PricingRuleResponse> getRules(Long tourId, Long operatorId) {
+        getOwnedTour(tourId, operatorId);
+        return pricingRuleRepository.findByTourIdOrderById(tourId).stream()
+                .map(PricingRuleResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public PricingRuleResponse createRule(Long tourId, PricingRuleRequest request, Long operatorId) {
+        getOwnedTour(tourId, operatorId);
+        if (pricingRuleRepository.findByTourIdOrderById(tourId).size() >= maxRulesPerTour) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "A tour cannot have more than " + maxRulesPerTour + " pricing rules");
+        }
+
+        PricingRule rule = new PricingRule();
+        rule.setTourId(tourId);
+        rule.setType(request.type());
+        rule.setMultiplier(request.multiplier());
+        switch (request.type()) {
+            case GROUP_DISCOUNT -> rule.setMinPeople(require(request.minPeople(), "minPeople"));
+            case EARLY_BIRD -> rule.setMinDaysAhead(require(request.minDaysAhead(), "minDaysAhead"));
+            case SEASONAL -> {
+                rule.setStartsOn(require(request.startsOn(), "startsOn"));
+                rule.setEndsOn(require(request.endsOn(), "endsOn"));
+                if (rule.getEndsOn().isBefore(rule.getStartsOn())) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endsOn must not be before startsOn");
+                }
+            }
+        }
+
+        PricingRule saved = pricingRuleRepository.save(rule);
+        eventPublisher.publishEvent(new PricingRulesChangedEvent(tourId));
+        return PricingRuleResponse.fromEntity(saved);
+    }
+
+    @Transactional
+    public void deleteRule(Long tourId, Long ruleId, Long operatorId) {
+        getOwnedTour(tourId, operatorId);
+        PricingRule rule = pricingRuleRepository.findById(ruleId)
+                .filter(existing -> existing.getTourId().equals(tourId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pricing rule not found"));
+        pricingRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new PricingRulesChangedEvent(tourId));
+    }
+
+    @Transactional(readOnly = true)
+    public PriceQuoteResponse quote(Long tourId, int numberOfPeople) {
+        if (numberOfPeople < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "people must be positive");
+        }
+        Tour tour = tourRepository.findById(tourId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found"));
+        return new PriceQuoteResponse(tour.getId(), numberOfPeople, tour.getPrice(),
+                pricingEngine.price(tour.getId(), tour.getPrice(), tour.getAvailableFrom(), numberOfPeople));
+    }
+
+    private Tour getOwnedTour(Long tourId, Long operatorId) {
+        Tour tour = tourRepository.findById(tourId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found"));
+        if (!tour.getOperator().getId().equals(operatorId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Operators can only price their own tours");
+        }
+        return tour;
+    }
+
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " is required for this rule type");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,165 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.datasource.ReadFromPrimary;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.SeatHoldConfirmRequest;
+import com.project.AdventureTourBooking.dto.SeatHoldDeadline;
+import com.project.AdventureTourBooking.dto.SeatHoldRequest;
+import com.project.AdventureTourBooking.dto.SeatHoldResponse;
+import com.project.AdventureTourBooking.event.SeatHoldChangedEvent;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.SeatHold;
+import com.project.AdventureTourBooking.model.SeatHoldState;
+import com.project.AdventureTourBooking.repository.SeatHoldRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final UserRepository userRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingService bookingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final long maxActivePerUser;
+
+    public SeatHoldService(
+            SeatHoldRepository seatHoldRepository,
+            UserRepository userRepository,
+            SeatInventoryService seatInventoryService,
+            BookingService bookingService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${bookings.holds.ttl:PT10M}") Duration ttl,
+            @Value("${bookings.holds.max-active-per-user:5}") long maxActivePerUser
+    ) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.userRepository = userRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingService = bookingService;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.maxActivePerUser = maxActivePerUser;
+    }
+
+    @Transactional
+    public SeatHoldResponse hold(SeatHoldRequest request, Long userId) {
+        // The user row serialises a customer's concurrent holds, so the count below cannot go stale.
+        userRepository.lockById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        if (seatHoldRepository.countByUserIdAndState(userId, SeatHoldState.HELD) >= maxActivePerUser) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many active seat holds");
+        }
+        seatInventoryService.reserve(request.tourId(), request.numberOfPeople());
+
+        SeatHold hold = new SeatHold();
+        hold.setReference(UUID.randomUUID().toString());
+        hold.setTourId(request.tourId());
+        hold.setUserId(userId);
+        hold.setNumberOfPeople(request.numberOfPeople());
+        hold.setState(SeatHoldState.HELD);
+        hold.setExpiresAt(LocalDateTime.now().plus(ttl).truncatedTo(ChronoUnit.MILLIS));
+
+        SeatHold saved = seatHoldRepository.save(hold);
+        eventPublisher.publishEvent(new SeatHoldChangedEvent(saved.getId(), saved.getTourId(),
+                saved.getState(), saved.getExpiresAt()));
+        return SeatHoldResponse.fromEntity(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public SeatHoldResponse getHold(String reference, Long userId) {
+        return seatHoldRepository.findByReference(reference)
+                .filter(hold -> hold.getUserId().equals(userId))
+                .map(SeatHoldResponse::fromEntity)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Seat hold not found"));
+    }
+
+    @Transactional
+    public void release(String reference, Long userId) {
+        SeatHold hold = lockOwned(reference, userId);
+        if (hold.getState() == SeatHoldState.CONVERTED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat hold has already been booked");
+        }
+        if (hold.getState() == SeatHoldState.HELD) {
+            seatInventoryService.release(hold.getTourId(), hold.getNumberOfPeople());
+            resolve(hold, SeatHoldState.RELEASED);
+        }
+    }
+
+    // Locking the hold row serializes confirmation against release and the expiry sweep, so the
+    // held seats move to exactly one booking or back to the tour.
+    @Transactional
+    public Booking confirm(String reference, SeatHoldConfirmRequest request, Long userId) {
+        SeatHold hold = lockOwned(reference, userId);
+        if (hold.getState() == SeatHoldState.CONVERTED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat hold has already been booked");
+        }
+        if (hold.getState() != SeatHoldState.HELD || !hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Seat hold has expired");
+        }
+        Booking booking = bookingService.createHeldBooking(new BookingRequest(hold.getTourId(),
+                hold.getNumberOfPeople(), request.bookingDate(), BookingStatus.PENDING), userId);
+        hold.setBookingId(booking.getId());
+        resolve(hold, SeatHoldState.CONVERTED);
+        return booking;
+    }
+
+    @Transactional
+    public int expire(Collection<Long> holdIds) {
+        if (holdIds.isEmpty()) {
+            return 0;
+        }
+        List<SeatHold> expired = seatHoldRepository.lockExpired(holdIds, LocalDateTime.now());
+        Map<Long, Integer> seats = new TreeMap<>();
+        for (SeatHold hold : expired) {
+            seats.merge(hold.getTourId(), hold.getNumberOfPeople(), Integer::sum);
+            resolve(hold, SeatHoldState.EXPIRED);
+        }
+        seats.forEach(seatInventoryService::release);
+        return expired.size();
+    }
+
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public List<SeatHoldDeadline> findActiveDeadlines() {
+        return seatHoldRepository.findActiveDeadlines();
+    }
+
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public List<Long> findOverdueIds(int limit) {
+        return seatHoldRepository.findOverdueIds(LocalDateTime.now(), Limit.of(limit));
+    }
+
+    private SeatHold lockOwned(String reference, Long userId) {
+        return seatHoldRepository.lockByReference(reference)
+                .filter(hold -> hold.getUserId().equals(userId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Seat hold not found"));
+    }
+
+    private void resolve(SeatHold hold, SeatHoldState state) {
+        hold.setState(state);
+        hold.setResolvedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new SeatHoldChangedEvent(hold.getId(), hold.getTourId(), state, hold.getExpiresAt()));
+    }
+}
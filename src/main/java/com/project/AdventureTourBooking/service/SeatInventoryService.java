@@ -0,0 +1,48 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.repository.TourRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class SeatInventoryService {
+
+    public static final String NOT_ENOUGH_SEATS = "Not enough seats available for this tour";
+
+    private final TourRepository tourRepository;
+
+    public SeatInventoryService(TourRepository tourRepository) {
+        this.tourRepository = tourRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Long tourId, int seats) {
+        if (!tryReserve(tourId, seats)) {
+            if (!tourRepository.existsById(tourId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found");
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, NOT_ENOUGH_SEATS);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryReserve(Long tourId, int seats) {
+        requirePositive(seats);
+        return tourRepository.reserveSeats(tourId, seats) > 0;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long tourId, int seats) {
+        requirePositive(seats);
+        tourRepository.releaseSeats(tourId, seats);
+    }
+
+    private void requirePositive(int seats) {
+        if (seats <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Number of people must be positive");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.dto.TourDistanceResponse;
+import com.project.AdventureTourBooking.dto.TourNearbyRequest;
+import com.project.AdventureTourBooking.dto.TourNearbyResponse;
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.dto.TourSearchRequest;
+import com.project.AdventureTourBooking.dto.TourSearchResponse;
+import com.project.AdventureTourBooking.search.TourGeoIndex;
+import com.project.AdventureTourBooking.search.TourSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class TourSearchService {
+
+    private final TourSearchIndex searchIndex;
+    private final TourGeoIndex geoIndex;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxRadiusKm;
+
+    public TourSearchService(TourSearchIndex searchIndex,
+                             TourGeoIndex geoIndex,
+                             @Value("${tours.catalog.default-page-size:20}") int defaultPageSize,
+                             @Value("${tours.catalog.max-page-size:100}") int maxPageSize,
+                             @Value("${tours.nearby.max-radius-km:500}") int maxRadiusKm) {
+        this.searchIndex = searchIndex;
+        this.geoIndex = geoIndex;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxRadiusKm = maxRadiusKm;
+    }
+
+    public TourSearchResponse search(TourSearchRequest request) {
+        int page = request.page() != null ? request.page() : 0;
+        int size = request.size() != null ? Math.min(request.size(), maxPageSize) : defaultPageSize;
+        if (page < 0 || size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must be non-negative and size positive");
+        }
+        validateRanges(request);
+
+        TourSearchIndex.SearchResult result = searchIndex.search(request.q(), facets(request), offset(page, size), size);
+        return new TourSearchResponse(result.items(), page, size, result.total());
+    }
+
+    public TourNearbyResponse nearby(TourNearbyRequest request) {
+        int page = request.page() != null ? request.page() : 0;
+        int size = request.size() != null ? Math.min(request.size(), maxPageSize) : defaultPageSize;
+        if (page < 0 || size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must be non-negative and size positive");
+        }
+        if (request.lat() == null || request.lon() == null || request.radiusKm() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat, lon and radiusKm are required");
+        }
+        if (!(Math.abs(request.lat()) <= 90 && Math.abs(request.lon()) <= 180)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat or lon is out of range");
+        }
+        if (!(request.radiusKm() > 0 && request.radiusKm() <= maxRadiusKm)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "radiusKm must be positive and at most " + maxRadiusKm);
+        }
+
+        TourGeoIndex.NearbyResult result = geoIndex.nearby(request.lat(), request.lon(), request.radiusKm(),
+                offset(page, size), size);
+        List<TourDistanceResponse> items = result.items().stream()
+                .map(hit -> new TourDistanceResponse(hit.tour(), Math.round(hit.distanceKm() * 1000) / 1000.0))
+                .toList();
+        return new TourNearbyResponse(items, page, size, result.total());
+    }
+
+    // The indexes rank offset + size hits, so that sum has to fit in an int as well.
+    private static int offset(int page, int size) {
+        try {
+            return Math.addExact(Math.multiplyExact(page, size), size) - size;
+        } catch (ArithmeticException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page is too large");
+        }
+    }
+
+    private Predicate<TourResponse> facets(TourSearchRequest request) {
+        return tour -> (request.minPrice() == null || tour.price().compareTo(request.minPrice()) >= 0)
+                && (request.maxPrice() == null || tour.price().compareTo(request.maxPrice()) <= 0)
+                && (request.minDuration() == null
+                    || (tour.durationHours() != null && tour.durationHours() >= request.minDuration()))
+                && (request.maxDuration() == null
+                    || (tour.durationHours() != null && tour.durationHours() <= request.maxDuration()))
+                && (request.from() == null
+                    || (tour.availableFrom() != null && !tour.availableFrom().isBefore(request.from())))
+                && (request.to() == null
+                    || (tour.availableFrom() != null && !tour.availableFrom().isAfter(request.to())));
+    }
+
+    private void validateRanges(TourSearchRequest request) {
+        if (request.minPrice() != null && request.maxPrice() != null
+                && request.minPrice().compareTo(request.maxPrice()) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minPrice must not exceed maxPrice");
+        }
+        if (request.minDuration() != null && request.maxDuration() != null
+                && request.minDuration() > request.maxDuration()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minDuration must not exceed maxDuration");
+        }
+        if (request.from() != null && request.to() != null && request.from().isAfter(request.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+    }
+}
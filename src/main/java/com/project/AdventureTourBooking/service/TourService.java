@@ -1,32 +1,92 @@
 package com.project.AdventureTourBooking.service;
 
+import com.project.AdventureTourBooking.config.CacheConfig;
+import com.project.AdventureTourBooking.config.MetricsConfig;
+import com.project.AdventureTourBooking.datasource.ReadFromPrimary;
+import com.project.AdventureTourBooking.dto.CatalogVersion;
+import com.project.AdventureTourBooking.dto.TourPageResponse;
 import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.dto.TourResponse;
+import com.project.AdventureTourBooking.dto.TourVersion;
+import com.project.AdventureTourBooking.event.TourChangedEvent;
 import com.project.AdventureTourBooking.model.Tour;
 import com.project.AdventureTourBooking.model.User;
 import com.project.AdventureTourBooking.model.UserRole;
 import com.project.AdventureTourBooking.repository.TourRepository;
 import com.project.AdventureTourBooking.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class TourService {
 
     private final TourRepository tourRepository;
     private final UserRepository userRepository;
-
-    public TourService(TourRepository tourRepository, UserRepository userRepository) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public TourService(TourRepository tourRepository,
+                       UserRepository userRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${tours.catalog.default-page-size:20}") int defaultPageSize,
+                       @Value("${tours.catalog.max-page-size:100}") int maxPageSize) {
         this.tourRepository = tourRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.TOUR_PAGES, key = "#cursor + ':' + #size")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public TourPageResponse getTourPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long afterId = decodeCursor(cursor);
+
+        List<Tour> tours = tourRepository.findPageAfter(afterId, Limit.of(pageSize + 1));
+        boolean hasNext = tours.size() > pageSize;
+        List<TourResponse> items = tours.stream()
+                .limit(pageSize)
+                .map(TourResponse::fromEntity)
+                .toList();
+        String next = hasNext ? encodeCursor(items.get(items.size() - 1).id()) : null;
+        return new TourPageResponse(items, next);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TOURS, key = "#id")
+    @ReadFromPrimary
     @Transactional(readOnly = true)
-    public List<Tour> getAllTours() {
-        return tourRepository.findAll();
+    public TourResponse getTourResponse(Long id) {
+        return TourResponse.fromEntity(getTourById(id));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.TOUR_VERSIONS, key = "#id")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public TourVersion getTourVersion(Long id) {
+        return tourRepository.findVersionById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Tour not found"));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATALOG_VERSION, key = "'catalog'")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public CatalogVersion getCatalogVersion() {
+        return tourRepository.findCatalogVersion();
     }
 
     @Transactional(readOnly = true)
@@ -44,6 +104,7 @@ public class TourService {
     @Transactional
     public Tour createTour(TourRequest request, Long operatorId) {
         User operator = getOperator(operatorId);
+        validateCoordinates(request);
 
         Tour tour = new Tour();
         tour.setOperator(operator);
@@ -51,27 +112,49 @@ public class TourService {
         tour.setDescription(request.description());
         tour.setPrice(request.price());
         tour.setLocation(request.location());
+        tour.setLatitude(request.latitude());
+        tour.setLongitude(request.longitude());
         tour.setMaxCapacity(request.maxCapacity());
         tour.setDurationHours(request.durationHour());
         tour.setAvailableFrom(request.availableFrom());
 
-        return tourRepository.save(tour);
+        Tour saved = tourRepository.save(tour);
+        eventPublisher.publishEvent(new TourChangedEvent(saved.getId(), TourChangedEvent.Type.CREATED));
+        return saved;
     }
 
     @Transactional
     public Tour updateTour(Long tourId, TourRequest request, Long operatorId) {
+        return updateTour(tourId, request, operatorId, null);
+    }
+
+    @Transactional
+    public Tour updateTour(Long tourId, TourRequest request, Long operatorId, Long expectedVersion) {
         Tour existingTour = getTourById(tourId);
         ensureOperatorOwnership(existingTour, operatorId);
+        if (expectedVersion != null && !expectedVersion.equals(existingTour.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Tour has been modified since it was read");
+        }
+        validateCoordinates(request);
+        // reserveSeats does not bump the version, so the booked seats read above can already be stale;
+        // the capacity is checked and written in one statement that also holds the row until commit.
+        if (tourRepository.updateMaxCapacity(tourId, request.maxCapacity()) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Capacity cannot be lower than seats already booked");
+        }
 
         existingTour.setTitle(request.title());
         existingTour.setDescription(request.description());
         existingTour.setPrice(request.price());
         existingTour.setLocation(request.location());
+        existingTour.setLatitude(request.latitude());
+        existingTour.setLongitude(request.longitude());
         existingTour.setMaxCapacity(request.maxCapacity());
         existingTour.setDurationHours(request.durationHour());
         existingTour.setAvailableFrom(request.availableFrom());
 
-        return tourRepository.save(existingTour);
+        Tour saved = tourRepository.save(existingTour);
+        eventPublisher.publishEvent(new TourChangedEvent(saved.getId(), TourChangedEvent.Type.UPDATED));
+        return saved;
     }
 
     @Transactional
@@ -79,6 +162,39 @@ public class TourService {
         Tour existingTour = getTourById(tourId);
         ensureOperatorOwnership(existingTour, operatorId);
         tourRepository.delete(existingTour);
+        eventPublisher.publishEvent(new TourChangedEvent(tourId, TourChangedEvent.Type.DELETED));
+    }
+
+    private void validateCoordinates(TourRequest request) {
+        if ((request.latitude() == null) != (request.longitude() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "latitude and longitude must be provided together");
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be positive");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
 
     private User getOperator(Long operatorId) {
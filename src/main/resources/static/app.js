@@ -1,4 +1,5 @@
 const tourList = document.querySelector('#tourList');
+const loadMoreButton = document.querySelector('#loadMoreTours');
 const loginToggle = document.querySelector('#loginToggle');
 const loginPanel = document.querySelector('#loginPanel');
 const loginForm = document.querySelector('#loginForm');
@@ -22,6 +23,9 @@ const detailTip = document.querySelector('#tourDetailTip');
 const OPERATOR_SESSION_KEY = 'operatorSession';
 let currentUser = null;
 let lastFocusedCard = null;
+let nextTourCursor = null;
+let availabilityStream = null;
+const renderedTours = new Map();
 
 const demoTours = [
     {
@@ -126,6 +130,13 @@ const durationText = (hours) => {
 
 const capacityText = (capacity) => (capacity ? `${capacity} guests` : 'Flexible');
 
+const availabilityText = (tour) => {
+    if (tour.remainingSeats === null || tour.remainingSeats === undefined) {
+        return capacityText(tour.maxCapacity);
+    }
+    return tour.remainingSeats > 0 ? `${tour.remainingSeats} of ${tour.maxCapacity} left` : 'Sold out';
+};
+
 const priceText = (price) => {
     const value = Number(price);
     if (!Number.isFinite(value)) {
@@ -237,17 +248,33 @@ async function handleLogout() {
     togglePanel(false);
 }
 
+async function fetchTourPage(cursor) {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await fetch(`/api/tours${query}`);
+    if (!response.ok) {
+        throw new Error('Unable to fetch tours.');
+    }
+    return response.json();
+}
+
+function updateLoadMore(cursor) {
+    nextTourCursor = cursor || null;
+    if (loadMoreButton) {
+        loadMoreButton.classList.toggle('hidden', !nextTourCursor);
+    }
+}
+
 async function loadTours() {
     tourList.innerHTML = '<p class="state">Loading tours…</p>';
     try {
-        const response = await fetch('/api/tours');
-        if (!response.ok) {
-            throw new Error('Unable to fetch tours.');
-        }
-        const tours = await response.json();
-        renderTours(tours);
+        const page = await fetchTourPage();
+        renderedTours.clear();
+        renderTours(page.items);
+        updateLoadMore(page.next);
+        subscribeToAvailability();
     } catch (error) {
         renderTours(demoTours);
+        updateLoadMore(null);
         const notice = document.createElement('p');
         notice.className = 'state error';
         notice.textContent = `${error.message} Showing demo data instead.`;
@@ -255,9 +282,27 @@ async function loadTours() {
     }
 }
 
-function renderTours(tours) {
+async function loadMoreTours() {
+    if (!nextTourCursor) {
+        return;
+    }
+    loadMoreButton.disabled = true;
+    try {
+        const page = await fetchTourPage(nextTourCursor);
+        renderTours(page.items, { append: true });
+        updateLoadMore(page.next);
+    } catch (error) {
+        console.warn('Unable to load more tours', error);
+    } finally {
+        loadMoreButton.disabled = false;
+    }
+}
+
+function renderTours(tours, { append = false } = {}) {
     if (!tours.length) {
-        tourList.innerHTML = '<p class="state">No tours available yet.</p>';
+        if (!append) {
+            tourList.innerHTML = '<p class="state">No tours available yet.</p>';
+        }
         return;
     }
 
@@ -272,8 +317,12 @@ function renderTours(tours) {
         node.querySelector('.tour-description').textContent = tour.description || 'Stay tuned for more details.';
 
         node.querySelector('.tour-price').textContent = priceText(tour.price);
-        node.querySelector('.tour-capacity').textContent = capacityText(tour.maxCapacity);
+        node.querySelector('.tour-capacity').textContent = availabilityText(tour);
         node.querySelector('.tour-duration').textContent = durationText(tour.durationHours);
+        if (tour.id) {
+            node.dataset.tourId = tour.id;
+            renderedTours.set(String(tour.id), { tour, node });
+        }
 
         const handleOpenDetail = () => openTourDetail(tour, node);
         node.addEventListener('click', handleOpenDetail);
@@ -286,10 +335,45 @@ function renderTours(tours) {
         fragment.appendChild(node);
     });
 
-    tourList.innerHTML = '';
+    if (!append) {
+        tourList.innerHTML = '';
+    }
     tourList.appendChild(fragment);
 }
 
+function applyAvailability(update) {
+    const entry = renderedTours.get(String(update.id));
+    if (!entry) {
+        return;
+    }
+    if (update.removed) {
+        entry.node.remove();
+        renderedTours.delete(String(update.id));
+        return;
+    }
+    Object.assign(entry.tour, {
+        price: update.price,
+        maxCapacity: update.maxCapacity,
+        remainingSeats: update.remainingSeats,
+    });
+    entry.node.querySelector('.tour-price').textContent = priceText(entry.tour.price);
+    entry.node.querySelector('.tour-capacity').textContent = availabilityText(entry.tour);
+}
+
+function subscribeToAvailability() {
+    if (availabilityStream || typeof EventSource === 'undefined') {
+        return;
+    }
+    availabilityStream = new EventSource('/api/tours/availability/stream');
+    availabilityStream.addEventListener('availability', (event) => {
+        try {
+            JSON.parse(event.data).forEach(applyAvailability);
+        } catch (error) {
+            console.warn('Ignoring malformed availability update', error);
+        }
+    });
+}
+
 function renderHighlights(items = []) {
     detailHighlights.innerHTML = '';
     const list = items.length ? items : ['More highlight info coming soon.'];
@@ -312,7 +396,7 @@ function openTourDetail(tour, triggerElement) {
     detailLocation.textContent = tour.location || 'Location TBA';
     detailDescription.textContent = tour.description || 'Stay tuned for more details.';
     detailPrice.textContent = priceText(tour.price);
-    detailCapacity.textContent = capacityText(tour.maxCapacity);
+    detailCapacity.textContent = availabilityText(tour);
     detailDuration.textContent = durationText(tour.durationHours);
     setChip(detailActivity, tour.activityLevel ? `${tour.activityLevel} intensity` : 'All levels welcome');
     setChip(detailGear, tour.whatToBring ? `Bring ${tour.whatToBring}` : 'Gear provided');
@@ -396,6 +480,9 @@ if (operatorHeaderLogout) {
         window.location.hash = 'allTours';
     });
 }
+if (loadMoreButton) {
+    loadMoreButton.addEventListener('click', loadMoreTours);
+}
 tourDetailClose.addEventListener('click', closeTourDetail);
 tourDetailOverlay.addEventListener('click', (event) => {
     if (event.target === tourDetailOverlay) {
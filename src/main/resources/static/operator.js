@@ -5,6 +5,9 @@ const operatorStatus = document.querySelector('#operatorStatus');
 const createStatus = document.querySelector('#createStatus');
 const greeting = document.querySelector('#operatorGreeting');
 const logoutButton = document.querySelector('#operatorLogout');
+const dashboardStatus = document.querySelector('#dashboardStatus');
+const dashboardTotals = document.querySelector('#dashboardTotals');
+const dashboardTours = document.querySelector('#dashboardTours');
 
 const priceFormatter = new Intl.NumberFormat('en-US', {
     style: 'currency',
@@ -138,6 +141,64 @@ async function loadTours() {
     }
 }
 
+function countBookings(totals) {
+    return Object.values(totals.bookingsByStatus || {}).reduce((sum, count) => sum + count, 0);
+}
+
+function renderDashboard(summary) {
+    const last30Days = summary.days.reduce(
+        (sum, day) => ({ seats: sum.seats + day.totals.seatsSold, revenue: sum.revenue + Number(day.totals.revenue) }),
+        { seats: 0, revenue: 0 },
+    );
+    const byStatus = summary.totals.bookingsByStatus || {};
+    const tiles = [
+        ['Bookings', countBookings(summary.totals)],
+        ['Pending', byStatus.PENDING || 0],
+        ['Seats sold', summary.totals.seatsSold],
+        ['Revenue', formatPrice(summary.totals.revenue)],
+        ['Revenue · 30 days', formatPrice(last30Days.revenue)],
+    ];
+    dashboardTotals.innerHTML = '';
+    tiles.forEach(([label, value]) => {
+        const tile = document.createElement('div');
+        const term = document.createElement('dt');
+        const detail = document.createElement('dd');
+        term.textContent = label;
+        detail.textContent = value;
+        tile.append(term, detail);
+        dashboardTotals.appendChild(tile);
+    });
+
+    dashboardTours.innerHTML = '';
+    summary.tours.forEach((tour) => {
+        const row = document.createElement('tr');
+        [tour.title, countBookings(tour.totals), tour.totals.seatsSold, formatPrice(tour.totals.revenue)]
+            .forEach((value) => {
+                const cell = document.createElement('td');
+                cell.textContent = value;
+                row.appendChild(cell);
+            });
+        dashboardTours.appendChild(row);
+    });
+}
+
+async function loadDashboard() {
+    showStatus(dashboardStatus, 'Loading booking totals…');
+    try {
+        const response = await fetch('/api/bookings/operator/summary', {
+            headers: authHeaders(),
+        });
+        if (!response.ok) {
+            throw new Error('Unable to load booking totals.');
+        }
+        const summary = await response.json();
+        renderDashboard(summary);
+        showStatus(dashboardStatus, summary.tours.length ? '' : 'No bookings yet.');
+    } catch (error) {
+        showStatus(dashboardStatus, error.message, 'error');
+    }
+}
+
 function renderTours(tours = []) {
     operatorTourList.innerHTML = '';
     if (!tours.length) {
@@ -239,7 +300,7 @@ function renderTours(tours = []) {
 
         form.addEventListener('submit', (event) => {
             event.preventDefault();
-            handleUpdateTour(tour.id, new FormData(form), statusLine);
+            handleUpdateTour(tour, new FormData(form), statusLine);
         });
 
         deleteButton.addEventListener('click', () => {
@@ -320,18 +381,27 @@ async function handleCreateTour(event) {
     }
 }
 
-async function handleUpdateTour(id, formData, statusElement) {
+async function handleUpdateTour(tour, formData, statusElement) {
     showStatus(statusElement, 'Saving changes…');
     try {
         const payload = buildPayloadFromForm(formData);
-        const response = await fetch(`/api/tours/${id}`, {
+        const headers = jsonHeaders();
+        if (tour.version !== undefined && tour.version !== null) {
+            headers['If-Match'] = `"tour-${tour.id}-v${tour.version}"`;
+        }
+        const response = await fetch(`/api/tours/${tour.id}`, {
             method: 'PUT',
-            headers: jsonHeaders(),
+            headers,
             body: JSON.stringify(payload),
         });
         if (response.status === 401 || response.status === 403) {
             throw new Error('unauthorized');
         }
+        if (response.status === 412) {
+            await loadTours();
+            showStatus(operatorStatus, 'That tour was changed elsewhere. The latest version has been reloaded.', 'error');
+            return;
+        }
         if (!response.ok) {
             throw new Error('Unable to update tour.');
         }
@@ -381,4 +451,5 @@ if (session) {
     });
     createForm.addEventListener('submit', handleCreateTour);
     loadTours();
+    loadDashboard();
 }
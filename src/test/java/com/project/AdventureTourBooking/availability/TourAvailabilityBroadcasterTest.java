@@ -0,0 +1,126 @@
+package com.project.AdventureTourBooking.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.cache.LocalCacheInvalidationChannel;
+import com.project.AdventureTourBooking.dto.TourAvailabilityResponse;
+import com.project.AdventureTourBooking.event.BookingChangedEvent;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TourAvailabilityBroadcasterTest {
+
+    @Mock
+    private TourRepository tourRepository;
+
+    @Mock
+    private TourDepartureRepository departureRepository;
+
+    private final CacheInvalidationChannel channel = new LocalCacheInvalidationChannel();
+
+    private TourAvailabilityBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new TourAvailabilityBroadcaster(tourRepository, departureRepository, new ObjectMapper(),
+                channel, Duration.ofHours(1),
+                Duration.ofHours(1), Duration.ofMinutes(30), 2, 3, Duration.ofSeconds(10), 1);
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    void subscribe_beyondLimit_isRejected() {
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, broadcaster::subscribe);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+    }
+
+    @Test
+    void flush_dropsSubscriberWhoseQueueOverflows() throws Exception {
+        when(tourRepository.findAvailabilityByIds(anyCollection())).thenReturn(List.of(
+                new TourAvailabilityResponse(1L, BigDecimal.TEN, 10, 5, false)));
+        StuckEmitter stuck = new StuckEmitter();
+        broadcaster.register(stuck);
+
+        try {
+            publishUpdate();
+            assertThat(stuck.sending.await(1, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 4; i++) {
+                publishUpdate();
+            }
+
+            assertThat(broadcaster.getSubscriberCount()).isZero();
+        } finally {
+            stuck.release.countDown();
+        }
+    }
+
+    @Test
+    void flush_picksUpChangesPublishedByOtherInstances() {
+        when(tourRepository.findAvailabilityByIds(anyCollection())).thenReturn(List.of(
+                new TourAvailabilityResponse(1L, BigDecimal.TEN, 10, 5, false),
+                new TourAvailabilityResponse(2L, BigDecimal.TEN, 10, 10, false)));
+        broadcaster.subscribe();
+
+        channel.publish(CacheInvalidationChannel.AVAILABILITY, "1");
+        channel.publish(CacheInvalidationChannel.TOURS, "2");
+
+        assertThat(broadcaster.flush()).isEqualTo(2);
+        assertThat(broadcaster.flush()).isZero();
+    }
+
+    private void publishUpdate() {
+        broadcaster.onBookingChanged(new BookingChangedEvent(null, 1L, BookingChangedEvent.Type.STATUS_CHANGED));
+        broadcaster.flush();
+    }
+
+    // Stands in for a client whose socket stopped draining: the first frame never finishes writing.
+    private static class StuckEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.AdventureTourBooking.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.outbox.FileOutboxSink;
+import com.project.AdventureTourBooking.outbox.InMemoryOutboxSink;
+import com.project.AdventureTourBooking.outbox.OutboxSink;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(OutboxConfig.class)
+            .withBean(ObjectMapper.class);
+
+    @Test
+    void startupFailsWithoutAConfiguredSink() {
+        runner.run(context -> assertThat(context).hasFailed()
+                .getFailure().hasRootCauseMessage("No outbox sink configured, set outbox.sink.file"));
+    }
+
+    @Test
+    void checkedInConfigurationStartsWithTheFileSink() {
+        runner.withInitializer(new ConfigDataApplicationContextInitializer())
+                .run(context -> assertThat(context.getBean(OutboxSink.class)).isInstanceOf(FileOutboxSink.class));
+    }
+
+    @Test
+    void fileSinkIsUsedWhenAPathIsConfigured() {
+        runner.withPropertyValues("outbox.sink.file=target/outbox.jsonl")
+                .run(context -> assertThat(context.getBean(OutboxSink.class)).isInstanceOf(FileOutboxSink.class));
+    }
+
+    @Test
+    void inMemorySinkHasToBeEnabledExplicitly() {
+        runner.withPropertyValues("outbox.sink.in-memory=true")
+                .run(context -> assertThat(context.getBean(OutboxSink.class)).isInstanceOf(InMemoryOutboxSink.class));
+    }
+
+    @Test
+    void testProfileUsesTheInMemorySinkOverTheInheritedFile() {
+        runner.withInitializer(new ConfigDataApplicationContextInitializer())
+                .withPropertyValues("spring.profiles.active=test")
+                .run(context -> assertThat(context.getBean(OutboxSink.class)).isInstanceOf(InMemoryOutboxSink.class));
+    }
+}
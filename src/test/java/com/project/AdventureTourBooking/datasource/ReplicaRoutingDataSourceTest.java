@@ -0,0 +1,128 @@
+package com.project.AdventureTourBooking.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicReference<String> currentUser = new AtomicReference<>();
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary");
+        DataSource replica = database("routing_replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        primaryJdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        primaryJdbc.update("INSERT INTO node VALUES ('primary')");
+        replicaJdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        replicaJdbc.update("INSERT INTO node VALUES ('replica')");
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-1", replica), "SELECT seconds FROM replica_lag",
+                Duration.ofSeconds(5), Duration.ofHours(1));
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), lagMonitor,
+                new ReadYourWritesTracker(Duration.ofMinutes(1), 100), currentUser::get, new SimpleMeterRegistry());
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routingDataSource.close();
+        primaryJdbc.execute("DROP ALL OBJECTS");
+        replicaJdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(nodeIn(readTransaction)).isEqualTo("replica");
+        assertThat(nodeIn(writeTransaction)).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void userReadsTheirOwnWritesFromThePrimary() {
+        currentUser.set("alice@example.com");
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertThat(nodeIn(readTransaction)).isEqualTo("primary");
+
+        currentUser.set("bob@example.com");
+        assertThat(nodeIn(readTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotMakeTheUserSticky() {
+        currentUser.set("carol@example.com");
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(nodeIn(readTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 30");
+        lagMonitor.probe();
+        assertThat(nodeIn(readTransaction)).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0.5");
+        lagMonitor.probe();
+        assertThat(nodeIn(readTransaction)).isEqualTo("replica");
+
+        replicaJdbc.execute("DROP TABLE replica_lag");
+        lagMonitor.probe();
+        assertThat(lagMonitor.getHealthyReplicas()).isEmpty();
+        assertThat(nodeIn(readTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedReadsStayOnThePrimary() {
+        assertThat(PrimaryReads.call(() -> nodeIn(readTransaction))).isEqualTo("primary");
+        assertThat(PrimaryReads.isPinned()).isFalse();
+        assertThat(nodeIn(readTransaction)).isEqualTo("replica");
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
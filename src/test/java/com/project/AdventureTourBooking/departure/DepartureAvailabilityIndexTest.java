@@ -0,0 +1,137 @@
+package com.project.AdventureTourBooking.departure;
+
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.model.TourDeparture;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import com.project.AdventureTourBooking.model.TourSchedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DepartureAvailabilityIndexTest {
+
+    // A Monday.
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    @Test
+    void find_expandsWeeklyRecurrencesWithinTheRangeAndScheduleBounds() {
+        DepartureAvailabilityIndex index = new DepartureAvailabilityIndex();
+        index.replace(1L, List.of(schedule(10L, 1L, LocalTime.of(9, 0), MONDAY.plusDays(1), MONDAY.plusDays(16), 8,
+                DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SATURDAY)), List.of());
+
+        List<DepartureAvailabilityResponse> departures = index.find(List.of(1L), MONDAY, MONDAY.plusDays(30), 0);
+
+        assertThat(departures)
+                .extracting(DepartureAvailabilityResponse::departsAt)
+                .containsExactly(
+                        MONDAY.plusDays(2).atTime(9, 0),
+                        MONDAY.plusDays(5).atTime(9, 0),
+                        MONDAY.plusDays(7).atTime(9, 0),
+                        MONDAY.plusDays(9).atTime(9, 0),
+                        MONDAY.plusDays(12).atTime(9, 0),
+                        MONDAY.plusDays(14).atTime(9, 0),
+                        MONDAY.plusDays(16).atTime(9, 0));
+        assertThat(departures).allSatisfy(departure -> assertThat(departure.remainingSeats()).isEqualTo(8));
+    }
+
+    @Test
+    void find_subtractsBookedSeatsAndFiltersByParty() {
+        DepartureAvailabilityIndex index = new DepartureAvailabilityIndex();
+        LocalDateTime tuesday = MONDAY.plusDays(1).atTime(14, 30);
+        LocalDateTime wednesday = MONDAY.plusDays(2).atTime(14, 30);
+        index.replace(1L,
+                List.of(schedule(10L, 1L, LocalTime.of(14, 30), MONDAY, null, 6, DayOfWeek.values())),
+                List.of(departure(10L, 1L, wednesday, 6, 2), departure(10L, 1L, tuesday, 6, 6)));
+
+        assertThat(index.find(List.of(1L), MONDAY, MONDAY.plusDays(2), 0))
+                .extracting(DepartureAvailabilityResponse::departsAt, DepartureAvailabilityResponse::remainingSeats)
+                .containsExactly(
+                        tuple(MONDAY.atTime(14, 30), 6),
+                        tuple(tuesday, 0),
+                        tuple(wednesday, 4));
+        assertThat(index.find(List.of(1L), MONDAY, MONDAY.plusDays(2), 5))
+                .extracting(DepartureAvailabilityResponse::departsAt)
+                .containsExactly(MONDAY.atTime(14, 30));
+    }
+
+    @Test
+    void find_mergesSchedulesOfATourInTimeOrderAndKeepsTourOrder() {
+        DepartureAvailabilityIndex index = new DepartureAvailabilityIndex();
+        index.replace(2L, List.of(
+                schedule(20L, 2L, LocalTime.of(15, 0), MONDAY, null, 4, DayOfWeek.MONDAY, DayOfWeek.TUESDAY),
+                schedule(21L, 2L, LocalTime.of(8, 0), MONDAY, null, 4, DayOfWeek.TUESDAY)), List.of());
+        index.replace(1L, List.of(schedule(10L, 1L, LocalTime.of(9, 0), MONDAY, null, 4, DayOfWeek.MONDAY)), List.of());
+
+        assertThat(index.find(List.of(2L, 1L, 3L), MONDAY, MONDAY.plusDays(1), 0))
+                .extracting(DepartureAvailabilityResponse::tourId, DepartureAvailabilityResponse::scheduleId,
+                        DepartureAvailabilityResponse::departsAt)
+                .containsExactly(
+                        tuple(2L, 20L, MONDAY.atTime(15, 0)),
+                        tuple(2L, 21L, MONDAY.plusDays(1).atTime(8, 0)),
+                        tuple(2L, 20L, MONDAY.plusDays(1).atTime(15, 0)),
+                        tuple(1L, 10L, MONDAY.atTime(9, 0)));
+    }
+
+    @Test
+    void updateDeparture_changesOnlyThatDay() {
+        DepartureAvailabilityIndex index = new DepartureAvailabilityIndex();
+        index.replace(1L,
+                List.of(schedule(10L, 1L, LocalTime.NOON, MONDAY, null, 6, DayOfWeek.values())),
+                List.of(departure(10L, 1L, MONDAY.plusDays(2).atTime(12, 0), 6, 1)));
+
+        assertThat(index.updateDeparture(1L, 10L, MONDAY.plusDays(1), 4)).isTrue();
+        assertThat(index.updateDeparture(1L, 10L, MONDAY.plusDays(2), 6)).isTrue();
+        assertThat(index.updateDeparture(1L, 11L, MONDAY, 1)).isFalse();
+        assertThat(index.updateDeparture(2L, 10L, MONDAY, 1)).isFalse();
+
+        assertThat(index.find(List.of(1L), MONDAY, MONDAY.plusDays(3), 0))
+                .extracting(DepartureAvailabilityResponse::remainingSeats)
+                .containsExactly(6, 2, 0, 6);
+    }
+
+    @Test
+    void replaceAll_dropsToursWithoutSchedules() {
+        DepartureAvailabilityIndex index = new DepartureAvailabilityIndex();
+        index.replace(1L, List.of(schedule(10L, 1L, LocalTime.NOON, MONDAY, null, 4, DayOfWeek.MONDAY)), List.of());
+
+        index.replaceAll(List.of(schedule(20L, 2L, LocalTime.NOON, MONDAY, null, 4, DayOfWeek.MONDAY)), List.of());
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find(List.of(1L, 2L), MONDAY, MONDAY, 0))
+                .extracting(DepartureAvailabilityResponse::tourId)
+                .containsExactly(2L);
+    }
+
+    private static TourSchedule schedule(Long id, Long tourId, LocalTime startTime, LocalDate startsOn, LocalDate endsOn,
+                                         int capacity, DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= TourSchedule.dayBit(day);
+        }
+        TourSchedule schedule = new TourSchedule();
+        schedule.setId(id);
+        schedule.setTourId(tourId);
+        schedule.setStartTime(startTime);
+        schedule.setDaysOfWeek(mask);
+        schedule.setStartsOn(startsOn);
+        schedule.setEndsOn(endsOn);
+        schedule.setCapacity(capacity);
+        return schedule;
+    }
+
+    private static TourDeparture departure(Long scheduleId, Long tourId, LocalDateTime departsAt, int capacity, int booked) {
+        TourDeparture departure = new TourDeparture();
+        departure.setId(new TourDepartureKey(scheduleId, departsAt));
+        departure.setTourId(tourId);
+        departure.setCapacity(capacity);
+        departure.setBookedSeats(booked);
+        return departure;
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.AdventureTourBooking.departure;
+
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.dto.DepartureAvailabilityResponse;
+import com.project.AdventureTourBooking.model.TourDeparture;
+import com.project.AdventureTourBooking.model.TourDepartureKey;
+import com.project.AdventureTourBooking.model.TourSchedule;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DepartureIndexerTest {
+
+    // A Monday.
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+    private static final LocalDateTime DEPARTS_AT = MONDAY.atTime(LocalTime.NOON);
+    private static final TourDepartureKey DEPARTURE = new TourDepartureKey(10L, DEPARTS_AT);
+    private static final String DEPARTURE_KEY = "1/10/" + DEPARTS_AT;
+
+    @Mock
+    private TourScheduleRepository scheduleRepository;
+
+    @Mock
+    private TourDepartureRepository departureRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheInvalidationChannel channel;
+
+    private DepartureAvailabilityIndex index;
+
+    private DepartureIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        index = new DepartureAvailabilityIndex();
+        indexer = new DepartureIndexer(index, scheduleRepository, departureRepository, transactionManager, channel,
+                Duration.ofMinutes(5));
+        index.replace(1L, List.of(schedule()), List.of(departure(1)));
+    }
+
+    @Test
+    void rebuild_readBeforeADepartureUpdate_doesNotOverwriteIt() {
+        when(scheduleRepository.findRunningOnOrAfter(any())).thenReturn(List.of(schedule()));
+        when(departureRepository.findById(DEPARTURE)).thenReturn(Optional.of(departure(5)));
+        when(departureRepository.findBookedFrom(any())).thenAnswer(invocation -> {
+            indexer.onInvalidated(DEPARTURE_KEY);
+            return List.of(departure(1));
+        });
+
+        indexer.rebuild();
+
+        assertThat(remainingSeats()).isEqualTo(1);
+    }
+
+    @Test
+    void onInvalidated_olderDepartureReadAppliedLast_isDropped() {
+        when(departureRepository.findById(DEPARTURE))
+                .thenAnswer(invocation -> {
+                    indexer.onInvalidated(DEPARTURE_KEY);
+                    return Optional.of(departure(3));
+                })
+                .thenReturn(Optional.of(departure(5)));
+
+        indexer.onInvalidated(DEPARTURE_KEY);
+
+        assertThat(remainingSeats()).isEqualTo(1);
+    }
+
+    @Test
+    void reload_readBeforeADepartureUpdate_keepsTheNewerSeats() {
+        when(scheduleRepository.findByTourIdOrderById(1L)).thenReturn(List.of(schedule()));
+        when(departureRepository.findById(DEPARTURE)).thenReturn(Optional.of(departure(5)));
+        when(departureRepository.findBookedByTourIdFrom(eq(1L), any())).thenAnswer(invocation -> {
+            indexer.onInvalidated(DEPARTURE_KEY);
+            return List.of(departure(3));
+        });
+
+        indexer.reload(1L);
+
+        assertThat(remainingSeats()).isEqualTo(1);
+    }
+
+    private int remainingSeats() {
+        return index.find(List.of(1L), MONDAY, MONDAY, 0).stream()
+                .mapToInt(DepartureAvailabilityResponse::remainingSeats)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static TourSchedule schedule() {
+        TourSchedule schedule = new TourSchedule();
+        schedule.setId(10L);
+        schedule.setTourId(1L);
+        schedule.setStartTime(LocalTime.NOON);
+        schedule.setDaysOfWeek(TourSchedule.dayBit(DayOfWeek.MONDAY));
+        schedule.setStartsOn(MONDAY);
+        schedule.setCapacity(6);
+        return schedule;
+    }
+
+    private static TourDeparture departure(int booked) {
+        TourDeparture departure = new TourDeparture();
+        departure.setId(DEPARTURE);
+        departure.setTourId(1L);
+        departure.setCapacity(6);
+        departure.setBookedSeats(booked);
+        return departure;
+    }
+}
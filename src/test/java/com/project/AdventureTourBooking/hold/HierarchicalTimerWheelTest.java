@@ -0,0 +1,68 @@
+package com.project.AdventureTourBooking.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimerWheelTest {
+
+    @Test
+    void advance_firesTimersOnlyOnceTheirDeadlineHasPassed() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, 0);
+        wheel.schedule("soon", 2_500);
+        wheel.schedule("later", 90_000);
+
+        assertThat(wheel.advance(2_999)).isEmpty();
+        assertThat(wheel.advance(3_000)).containsExactly("soon");
+        assertThat(wheel.advance(89_999)).isEmpty();
+        assertThat(wheel.advance(90_000)).containsExactly("later");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelAndReschedule_replaceThePendingDeadline() {
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(1000, 0);
+        wheel.schedule(1L, 5_000);
+        wheel.schedule(2L, 5_000);
+        wheel.schedule(2L, 700_000);
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        assertThat(wheel.advance(10_000)).isEmpty();
+        assertThat(wheel.advance(700_000)).containsExactly(2L);
+    }
+
+    @Test
+    void schedule_inThePastFiresOnTheNextAdvance() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1000, 60_000);
+        wheel.schedule("overdue", 1_000);
+
+        assertThat(wheel.advance(60_000)).containsExactly("overdue");
+    }
+
+    @Test
+    void advance_matchesDeadlinesAcrossEveryLevelAndBeyondTheHorizon() {
+        HierarchicalTimerWheel<Integer> wheel = new HierarchicalTimerWheel<>(1, 0);
+        Random random = new Random(42);
+        long[] deadlines = new long[2_000];
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = 1 + (long) (Math.pow(random.nextDouble(), 4) * 40_000_000L);
+            wheel.schedule(i, deadlines[i]);
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        for (long now = 0; now <= 40_000_000L; now += 997) {
+            for (Integer key : wheel.advance(now)) {
+                assertThat(deadlines[key]).isLessThanOrEqualTo(now).isGreaterThan(now - 997);
+                fired.add(key);
+            }
+        }
+
+        assertThat(fired).hasSize(deadlines.length).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+}
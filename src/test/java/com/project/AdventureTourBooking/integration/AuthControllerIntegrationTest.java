@@ -82,4 +82,32 @@ class AuthControllerIntegrationTest {
                 .andExpect(jsonPath("$.email").value("bob@example.com"))
                 .andExpect(jsonPath("$.role").value("OPERATOR"));
     }
+
+    @Test
+    void loginUser_afterPasswordChange_rejectsOldPassword() throws Exception {
+        User user = new User();
+        user.setName("Carol Customer");
+        user.setEmail("carol@example.com");
+        user.setPassword(passwordEncoder.encode("first-secret"));
+        user.setRole(UserRole.CUSTOMER);
+        userRepository.save(user);
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("carol@example.com", "first-secret"))))
+                .andExpect(status().isOk());
+
+        User persisted = userRepository.findByEmail("carol@example.com").orElseThrow();
+        persisted.setPassword(passwordEncoder.encode("second-secret"));
+        userRepository.save(persisted);
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("carol@example.com", "first-secret"))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("carol@example.com", "second-secret"))))
+                .andExpect(status().isOk());
+    }
 }
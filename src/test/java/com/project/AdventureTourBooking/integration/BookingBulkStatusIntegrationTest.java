@@ -0,0 +1,195 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.BookingStatusBulkUpdateRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.OutboxEvent;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.outbox.OutboxWriter;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingBulkStatusIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        summaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void bulkTransition_updatesOwnedBookingsAndReportsPerIdResults() throws Exception {
+        User operator = persistUser("bulk-operator@example.com", UserRole.OPERATOR);
+        User otherOperator = persistUser("bulk-other@example.com", UserRole.OPERATOR);
+        User customer = persistUser("bulk-customer@example.com", UserRole.CUSTOMER);
+        Tour rafting = persistTour(operator, "Bulk Rafting");
+        Tour foreign = persistTour(otherOperator, "Bulk Foreign");
+
+        Booking first = book(rafting, customer, 2, BookingStatus.PENDING);
+        Booking second = book(rafting, customer, 3, BookingStatus.PENDING);
+        Booking cancelled = book(rafting, customer, 1, BookingStatus.CANCELLED);
+        Booking notMine = book(foreign, customer, 4, BookingStatus.PENDING);
+        outboxEventRepository.deleteAll();
+
+        mockMvc.perform(patch("/api/bookings/status")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingStatusBulkUpdateRequest(
+                                List.of(first.getId(), second.getId(), cancelled.getId(), notMine.getId(), -1L),
+                                BookingStatus.CANCELLED))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[0].status").value("CANCELLED"))
+                .andExpect(jsonPath("$.results[0].version").value(1))
+                .andExpect(jsonPath("$.results[1].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[2].outcome").value("UNCHANGED"))
+                .andExpect(jsonPath("$.results[3].outcome").value("FORBIDDEN"))
+                .andExpect(jsonPath("$.results[3].status").doesNotExist())
+                .andExpect(jsonPath("$.results[4].outcome").value("NOT_FOUND"));
+
+        assertThat(bookingRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(bookingRepository.findById(notMine.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.PENDING);
+        assertThat(tourRepository.findById(rafting.getId()).orElseThrow().getBookedSeats()).isZero();
+        assertThat(tourRepository.findById(foreign.getId()).orElseThrow().getBookedSeats()).isEqualTo(4);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(2)
+                .allSatisfy(event -> {
+                    assertThat(event.getAggregateType()).isEqualTo(OutboxWriter.BOOKING);
+                    assertThat(event.getPayload()).contains("\"status\":\"CANCELLED\"");
+                });
+
+        mockMvc.perform(get("/api/bookings/operator/summary").with(authenticate(operator)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals.bookingsByStatus.PENDING").value(0))
+                .andExpect(jsonPath("$.totals.bookingsByStatus.CANCELLED").value(3));
+    }
+
+    @Test
+    void bulkTransition_rejectsTransitionsOutOfTerminalStates() throws Exception {
+        User operator = persistUser("bulk-terminal@example.com", UserRole.OPERATOR);
+        User customer = persistUser("bulk-terminal-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, "Bulk Terminal");
+        Booking completed = book(tour, customer, 2, BookingStatus.PENDING);
+        bookingService.updateBookingStatus(completed.getId(), BookingStatus.CONFIRMED, operator.getId());
+        bookingService.updateBookingStatus(completed.getId(), BookingStatus.COMPLETED, operator.getId());
+
+        mockMvc.perform(patch("/api/bookings/status")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingStatusBulkUpdateRequest(
+                                List.of(completed.getId()), BookingStatus.PENDING))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(0))
+                .andExpect(jsonPath("$.results[0].outcome").value("INVALID_TRANSITION"))
+                .andExpect(jsonPath("$.results[0].status").value("COMPLETED"));
+
+        mockMvc.perform(patch("/api/bookings/" + completed.getId() + "/status")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"PENDING\"}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(patch("/api/bookings/status")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[],\"status\":\"CONFIRMED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Booking book(Tour tour, User customer, int people, BookingStatus status) {
+        Booking booking = bookingService.createBooking(new BookingRequest(tour.getId(), people,
+                LocalDateTime.now().plusDays(9), null), customer.getId());
+        if (status != BookingStatus.PENDING) {
+            booking = bookingService.updateBookingStatus(booking.getId(), status, tour.getOperator().getId());
+        }
+        return booking;
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, String title) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle(title);
+        tour.setDescription(title + " description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(20);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(5));
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.service.BookingService;
+import com.project.AdventureTourBooking.service.TourService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingCapacityConcurrencyIntegrationTest {
+
+    private static final int CAPACITY = 150;
+    private static final int ATTEMPTS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createBooking_underConcurrentLoad_neverExceedsCapacity() throws Exception {
+        User operator = persistUser("capacity-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("capacity-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            int people = i % 3 + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                BookingRequest request = new BookingRequest(
+                        tour.getId(),
+                        people,
+                        LocalDateTime.now().plusDays(3),
+                        null
+                );
+                try {
+                    bookingService.createBooking(request, customer.getId());
+                    created.incrementAndGet();
+                } catch (ResponseStatusException ex) {
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Booking> bookings = bookingRepository.findByTourId(tour.getId());
+        int seatsSold = bookings.stream().mapToInt(Booking::getNumberOfPeople).sum();
+        Tour reloaded = tourRepository.findById(tour.getId()).orElseThrow();
+
+        assertThat(created.get() + rejected.get()).isEqualTo(ATTEMPTS);
+        assertThat(bookings).hasSize(created.get());
+        assertThat(seatsSold).isLessThanOrEqualTo(CAPACITY);
+        assertThat(seatsSold).isGreaterThan(CAPACITY - 3);
+        assertThat(reloaded.getBookedSeats()).isEqualTo(seatsSold);
+    }
+
+    @Test
+    void updateTour_reservationDuringCapacityChange_cannotOverbookTheNewCapacity() throws Exception {
+        User operator = persistUser("capacity-operator@example.com", UserRole.OPERATOR);
+        Tour tour = persistTour(operator);
+        transactionTemplate.executeWithoutResult(status -> tourRepository.reserveSeats(tour.getId(), 4));
+        TourRequest request = new TourRequest(tour.getTitle(), tour.getDescription(), tour.getPrice(),
+                tour.getLocation(), 4, tour.getAvailableFrom(), tour.getDurationHours());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Integer> reserved = transactionTemplate.execute(status -> {
+            tourService.updateTour(tour.getId(), request, operator.getId());
+            // A reservation arriving before the capacity change commits.
+            Future<Integer> pending = executor.submit(() -> transactionTemplate.execute(
+                    inner -> tourRepository.reserveSeats(tour.getId(), 2)));
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return pending;
+        });
+        int reservedRows = reserved.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Tour reloaded = tourRepository.findById(tour.getId()).orElseThrow();
+        assertThat(reservedRows).isZero();
+        assertThat(reloaded.getMaxCapacity()).isEqualTo(4);
+        assertThat(reloaded.getBookedSeats()).isEqualTo(4);
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Flash Sale Summit");
+        tour.setDescription("Limited seats");
+        tour.setPrice(BigDecimal.valueOf(50.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(CAPACITY);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(4);
+        return tourRepository.save(tour);
+    }
+}
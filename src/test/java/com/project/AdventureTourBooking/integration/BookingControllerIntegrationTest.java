@@ -73,7 +73,6 @@ class BookingControllerIntegrationTest {
         BookingRequest request = new BookingRequest(
                 tour.getId(),
                 3,
-                BigDecimal.valueOf(540.00),
                 LocalDateTime.now().plusDays(2),
                 null
         );
@@ -0,0 +1,166 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void exportNdjson_streamsOnlyOperatorBookingsInIdOrder() throws Exception {
+        User operator = persistUser("export-operator@example.com", UserRole.OPERATOR);
+        User otherOperator = persistUser("export-other@example.com", UserRole.OPERATOR);
+        User customer = persistUser("export-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator);
+        Tour otherTour = persistTour(otherOperator);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            bookings.add(newBooking(i % 2 == 0 ? tour : otherTour, customer));
+        }
+        bookingRepository.saveAll(bookings);
+
+        String body = mockMvc.perform(get("/api/bookings/operator/export").with(authenticate(operator)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings.ndjson\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode booking = objectMapper.readTree(line);
+            ids.add(booking.get("id").asLong());
+        }
+        assertThat(ids).hasSize(15).isSorted();
+        assertThat(ids).containsExactlyElementsOf(bookings.stream()
+                .filter(booking -> booking.getTour().getId().equals(tour.getId()))
+                .map(Booking::getId)
+                .toList());
+    }
+
+    @Test
+    void exportCsv_writesHeaderAndOneRowPerBooking() throws Exception {
+        User operator = persistUser("export-csv-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("export-csv-customer@example.com", UserRole.CUSTOMER);
+        Booking booking = bookingRepository.save(newBooking(persistTour(operator), customer));
+
+        String body = mockMvc.perform(get("/api/bookings/operator/export")
+                        .param("format", "csv")
+                        .with(authenticate(operator)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("id,status,numberOfPeople,totalPrice,bookingDate,createdAt,version,departsAt");
+        assertThat(lines[1]).startsWith(booking.getId() + ",PENDING,2,160.00,");
+        assertThat(lines[1]).endsWith("," + booking.getVersion() + ",");
+    }
+
+    @Test
+    void export_withUnknownFormat_isBadRequest() throws Exception {
+        User operator = persistUser("export-bad-operator@example.com", UserRole.OPERATOR);
+
+        mockMvc.perform(get("/api/bookings/operator/export")
+                        .param("format", "xml")
+                        .with(authenticate(operator)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Export Tour");
+        tour.setDescription("Export Tour description");
+        tour.setPrice(BigDecimal.valueOf(80.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(100);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private Booking newBooking(Tour tour, User customer) {
+        Booking booking = new Booking();
+        booking.setTour(tour);
+        booking.setUser(customer);
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setNumberOfPeople(2);
+        booking.setTotalPrice(new BigDecimal("160.00"));
+        booking.setBookingDate(LocalDateTime.now().plusDays(7));
+        return booking;
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void importNdjson_reportsEachRowAndEnforcesCapacity() throws Exception {
+        User customer = persistUser("import-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(persistUser("import-operator@example.com", UserRole.OPERATOR), 5);
+        String date = LocalDateTime.now().plusDays(3).toString();
+
+        String body = String.join("\n",
+                "{\"tourId\":" + tour.getId() + ",\"numberOfPeople\":3,\"totalPrice\":300.00,\"bookingDate\":\"" + date + "\"}",
+                "{\"tourId\":" + tour.getId() + ",\"numberOfPeople\":0,\"totalPrice\":0,\"bookingDate\":\"" + date + "\"}",
+                "{not json",
+                "",
+                "{\"tourId\":999999,\"numberOfPeople\":1,\"totalPrice\":100.00,\"bookingDate\":\"" + date + "\"}",
+                "{\"tourId\":" + tour.getId() + ",\"numberOfPeople\":4,\"totalPrice\":400.00,\"bookingDate\":\"" + date + "\"}",
+                "{\"tourId\":" + tour.getId() + ",\"numberOfPeople\":2,\"totalPrice\":200.00,\"bookingDate\":\"" + date + "\"}");
+
+        List<JsonNode> results = importBookings(customer, MediaType.APPLICATION_NDJSON_VALUE, body);
+
+        assertThat(results).extracting(result -> result.get("line").asInt()).containsExactly(1, 2, 3, 5, 6, 7);
+        assertThat(results).extracting(result -> result.get("outcome").asText())
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "REJECTED", "REJECTED", "CREATED");
+        assertThat(results.get(1).get("error").asText()).isEqualTo("numberOfPeople must be greater than 0");
+        assertThat(results.get(2).get("error").asText()).isEqualTo("Malformed JSON row");
+        assertThat(results.get(3).get("error").asText()).isEqualTo("Tour not found");
+        assertThat(results.get(4).get("error").asText()).isEqualTo("Not enough seats available for this tour");
+        assertThat(bookingRepository.count()).isEqualTo(2);
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isEqualTo(5);
+    }
+
+    @Test
+    void importCsv_mapsColumnsByHeader() throws Exception {
+        User customer = persistUser("import-csv-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(persistUser("import-csv-operator@example.com", UserRole.OPERATOR), 10);
+        String date = LocalDateTime.now().plusDays(3).toString();
+
+        String body = String.join("\n",
+                "bookingDate,tourId,numberOfPeople,totalPrice,status",
+                "\"" + date + "\"," + tour.getId() + ",2,250.00,PENDING",
+                date + "," + tour.getId() + ",1,125.00,",
+                "tomorrow," + tour.getId() + ",1,125.00,",
+                date + "," + tour.getId() + ",1,125.00,UNKNOWN",
+                date + "," + tour.getId() + ",1,125.00,CONFIRMED");
+
+        List<JsonNode> results = importBookings(customer, "text/csv", body);
+
+        assertThat(results).extracting(result -> result.get("outcome").asText())
+                .containsExactly("CREATED", "CREATED", "REJECTED", "REJECTED", "REJECTED");
+        assertThat(results.get(2).get("error").asText()).isEqualTo("Invalid value for bookingDate");
+        assertThat(results.get(3).get("error").asText()).isEqualTo("Invalid value for status");
+        assertThat(results.get(4).get("error").asText()).isEqualTo("New bookings must be PENDING");
+        assertThat(results.get(0).get("line").asInt()).isEqualTo(2);
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isEqualTo(3);
+    }
+
+    @Test
+    void importCsv_withoutRequiredColumns_isRejected() throws Exception {
+        User customer = persistUser("import-bad-customer@example.com", UserRole.CUSTOMER);
+
+        mockMvc.perform(post("/api/bookings/import")
+                        .with(authenticate(customer))
+                        .contentType("text/csv")
+                        .content("tourId,numberOfPeople\n1,2"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(bookingRepository.count()).isZero();
+    }
+
+    private List<JsonNode> importBookings(User customer, String contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/api/bookings/import")
+                        .with(authenticate(customer))
+                        .contentType(contentType)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, int capacity) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Import Tour");
+        tour.setDescription("Import Tour description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(capacity);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(4);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.model.BookingQueueState;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingQueueRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.BookingQueueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingQueueIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingQueueService bookingQueueService;
+
+    @Autowired
+    private BookingQueueRepository bookingQueueRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookingQueueRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+        bookingQueueService.refreshDepth();
+    }
+
+    @Test
+    void asyncBooking_isAcceptedQueuedAndCompletedByWorker() throws Exception {
+        User customer = persistUser("queue-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(persistUser("queue-operator@example.com", UserRole.OPERATOR), 4);
+
+        String body = mockMvc.perform(post("/api/bookings")
+                        .with(authenticate(customer))
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(tour, 3))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.state").value("QUEUED"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String reference = objectMapper.readTree(body).get("reference").asText();
+        assertThat(bookingRepository.count()).isZero();
+
+        mockMvc.perform(get("/api/bookings/queue/" + reference).with(authenticate(customer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+
+        assertThat(bookingQueueService.processBatch()).isEqualTo(1);
+
+        JsonNode processed = objectMapper.readTree(mockMvc.perform(get("/api/bookings/queue/" + reference)
+                        .with(authenticate(customer)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+        assertThat(processed.get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(bookingRepository.existsById(processed.get("bookingId").asLong())).isTrue();
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isEqualTo(3);
+    }
+
+    @Test
+    void queuedBooking_overCapacity_isRejectedAndHiddenFromOtherCustomers() throws Exception {
+        User customer = persistUser("queue-full-customer@example.com", UserRole.CUSTOMER);
+        User otherCustomer = persistUser("queue-other-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(persistUser("queue-full-operator@example.com", UserRole.OPERATOR), 2);
+
+        String reference = bookingQueueService.enqueue(request(tour, 3), customer.getId()).reference();
+        bookingQueueService.processBatch();
+
+        mockMvc.perform(get("/api/bookings/queue/" + reference).with(authenticate(customer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("REJECTED"))
+                .andExpect(jsonPath("$.error").value("Not enough seats available for this tour"));
+        mockMvc.perform(get("/api/bookings/queue/" + reference).with(authenticate(otherCustomer)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void concurrentWorkers_processEachQueuedBookingOnce() throws Exception {
+        User customer = persistUser("queue-concurrent-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(persistUser("queue-concurrent-operator@example.com", UserRole.OPERATOR), 500);
+        int queued = 350;
+        for (int i = 0; i < queued; i++) {
+            bookingQueueService.enqueue(request(tour, 1), customer.getId());
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> drains = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                drains.add(workers.submit(() -> {
+                    int processed = 0;
+                    int batch;
+                    while ((batch = bookingQueueService.processBatch()) > 0) {
+                        processed += batch;
+                    }
+                    return processed;
+                }));
+            }
+            int processed = 0;
+            for (Future<Integer> drain : drains) {
+                processed += drain.get();
+            }
+            assertThat(processed).isEqualTo(queued);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        assertThat(bookingQueueRepository.countByState(BookingQueueState.COMPLETED)).isEqualTo(queued);
+        assertThat(bookingRepository.count()).isEqualTo(queued);
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isEqualTo(queued);
+        assertThat(bookingQueueService.getDepth()).isZero();
+    }
+
+    private BookingRequest request(Tour tour, int people) {
+        return new BookingRequest(tour.getId(), people, LocalDateTime.now().plusDays(3), null);
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, int capacity) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Queue Tour");
+        tour.setDescription("Queue Tour description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(capacity);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(2);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
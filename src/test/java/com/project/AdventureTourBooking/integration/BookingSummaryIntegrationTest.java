@@ -0,0 +1,217 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.BookingImportService;
+import com.project.AdventureTourBooking.service.BookingService;
+import com.project.AdventureTourBooking.service.BookingFileFormat;
+import com.project.AdventureTourBooking.service.BookingSummaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookingSummaryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingImportService bookingImportService;
+
+    @Autowired
+    private BookingSummaryService bookingSummaryService;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        summaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void summary_reflectsCreatesStatusChangesAndImports() throws Exception {
+        User operator = persistUser("summary-operator@example.com", UserRole.OPERATOR);
+        User otherOperator = persistUser("summary-other@example.com", UserRole.OPERATOR);
+        User customer = persistUser("summary-customer@example.com", UserRole.CUSTOMER);
+        Tour kayak = persistTour(operator, "Summary Kayak");
+        Tour hike = persistTour(operator, "Summary Hike");
+        Tour foreign = persistTour(otherOperator, "Foreign Tour");
+
+        Booking first = book(kayak, customer, 2, BookingStatus.PENDING);
+        book(kayak, customer, 3, BookingStatus.CONFIRMED);
+        Booking cancelled = book(hike, customer, 1, BookingStatus.CONFIRMED);
+        book(foreign, customer, 4, BookingStatus.CONFIRMED);
+
+        bookingService.updateBookingStatus(first.getId(), BookingStatus.CONFIRMED, operator.getId());
+        bookingService.updateBookingStatus(cancelled.getId(), BookingStatus.CANCELLED, operator.getId());
+        String ndjson = "{\"tourId\":" + hike.getId() + ",\"numberOfPeople\":5,"
+                + "\"bookingDate\":\"" + LocalDateTime.now().plusDays(9) + "\"}\n";
+        bookingImportService.importBookings(BookingFileFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), customer.getId(),
+                new ByteArrayOutputStream());
+        Booking imported = bookingRepository.findByTourId(hike.getId()).stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.PENDING)
+                .findFirst().orElseThrow();
+        bookingService.updateBookingStatus(imported.getId(), BookingStatus.CONFIRMED, operator.getId());
+        bookingService.updateBookingStatus(imported.getId(), BookingStatus.COMPLETED, operator.getId());
+
+        String today = LocalDate.now().toString();
+        mockMvc.perform(get("/api/bookings/operator/summary").with(authenticate(operator)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals.bookingsByStatus.CONFIRMED").value(2))
+                .andExpect(jsonPath("$.totals.bookingsByStatus.CANCELLED").value(1))
+                .andExpect(jsonPath("$.totals.bookingsByStatus.COMPLETED").value(1))
+                .andExpect(jsonPath("$.totals.bookingsByStatus.PENDING").value(0))
+                .andExpect(jsonPath("$.totals.seatsSold").value(10))
+                .andExpect(jsonPath("$.totals.revenue").value(1000.0))
+                .andExpect(jsonPath("$.tours.length()").value(2))
+                .andExpect(jsonPath("$.tours[0].tourId").value(kayak.getId()))
+                .andExpect(jsonPath("$.tours[0].totals.seatsSold").value(5))
+                .andExpect(jsonPath("$.tours[1].title").value("Summary Hike"))
+                .andExpect(jsonPath("$.tours[1].totals.revenue").value(500.0))
+                .andExpect(jsonPath("$.days.length()").value(1))
+                .andExpect(jsonPath("$.days[0].day").value(today))
+                .andExpect(jsonPath("$.days[0].totals.seatsSold").value(10));
+    }
+
+    @Test
+    void recordCreated_concurrentFirstBookingsForSameRow_allCounted() throws Exception {
+        User operator = persistUser("summary-race@example.com", UserRole.OPERATOR);
+        Tour tour = persistTour(operator, "Summary Race");
+        int threads = 8;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> transaction.executeWithoutResult(status -> {
+                Booking booking = new Booking();
+                booking.setTour(tour);
+                booking.setNumberOfPeople(2);
+                booking.setTotalPrice(BigDecimal.valueOf(200L));
+                booking.setStatus(BookingStatus.PENDING);
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+                bookingSummaryService.recordCreated(List.of(booking));
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(summaryRepository.findAll()).singleElement().satisfies(row -> {
+            assertThat(row.getBookingCount()).isEqualTo((long) threads);
+            assertThat(row.getSeatCount()).isEqualTo(2L * threads);
+        });
+    }
+
+    @Test
+    void summary_rejectsInvertedRange() throws Exception {
+        User operator = persistUser("summary-range@example.com", UserRole.OPERATOR);
+
+        mockMvc.perform(get("/api/bookings/operator/summary")
+                        .param("from", "2026-03-10")
+                        .param("to", "2026-03-01")
+                        .with(authenticate(operator)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Booking book(Tour tour, User customer, int people, BookingStatus status) {
+        Booking booking = bookingService.createBooking(new BookingRequest(tour.getId(), people,
+                LocalDateTime.now().plusDays(9), null), customer.getId());
+        if (status != BookingStatus.PENDING) {
+            booking = bookingService.updateBookingStatus(booking.getId(), status, tour.getOperator().getId());
+        }
+        return booking;
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, String title) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle(title);
+        tour.setDescription(title + " description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(20);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(2);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
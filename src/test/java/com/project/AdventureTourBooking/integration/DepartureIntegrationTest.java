@@ -0,0 +1,229 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.departure.DepartureIndexer;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.BookingStatusUpdateRequest;
+import com.project.AdventureTourBooking.dto.TourScheduleRequest;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.TourScheduleRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DepartureIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartureIndexer departureIndexer;
+
+    @Autowired
+    private TourDepartureRepository departureRepository;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        departureRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        summaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+        departureIndexer.rebuild();
+    }
+
+    @Test
+    void booking_takesSeatsFromItsDepartureAndCancellingReturnsThem() throws Exception {
+        User operator = persistUser("departure-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("departure-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        createSchedule(operator, tour, new TourScheduleRequest(LocalTime.of(10, 0),
+                EnumSet.allOf(DayOfWeek.class), tomorrow, tomorrow.plusDays(6), 3));
+        LocalDateTime departsAt = tomorrow.plusDays(1).atTime(10, 0);
+
+        String body = book(customer, tour, 2, departsAt)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode booking = objectMapper.readTree(body);
+        long bookingId = booking.get("id").asLong();
+        assertThat(LocalDateTime.parse(booking.get("departsAt").asText())).isEqualTo(departsAt);
+        book(customer, tour, 2, departsAt).andExpect(status().isConflict());
+        book(customer, tour, 1, departsAt.plusHours(1)).andExpect(status().isNotFound());
+        book(customer, tour, 1, tomorrow.plusDays(7).atTime(10, 0)).andExpect(status().isNotFound());
+
+        JsonNode departures = departures(tour, LocalDate.now(), tomorrow.plusDays(30));
+        assertThat(departures).hasSize(7);
+        assertThat(LocalDateTime.parse(departures.get(0).get("departsAt").asText())).isEqualTo(tomorrow.atTime(10, 0));
+        assertThat(departures.get(0).get("remainingSeats").asInt()).isEqualTo(3);
+        assertThat(departures.get(1).get("remainingSeats").asInt()).isEqualTo(1);
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isZero();
+
+        mockMvc.perform(patch("/api/bookings/" + bookingId + "/status")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingStatusUpdateRequest(BookingStatus.CANCELLED))))
+                .andExpect(status().isOk());
+        assertThat(departures(tour, LocalDate.now(), tomorrow.plusDays(30)).get(1).get("remainingSeats").asInt())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void schedules_areScopedToTheOwnerAndCannotBeDroppedOnceBooked() throws Exception {
+        User operator = persistUser("schedule-owner@example.com", UserRole.OPERATOR);
+        User other = persistUser("schedule-other@example.com", UserRole.OPERATOR);
+        User customer = persistUser("schedule-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        TourScheduleRequest request = new TourScheduleRequest(LocalTime.of(7, 30),
+                Set.of(tomorrow.getDayOfWeek()), tomorrow, null, null);
+
+        postSchedule(other, tour, request).andExpect(status().isForbidden());
+        postSchedule(operator, tour, new TourScheduleRequest(LocalTime.of(7, 30), Set.of(DayOfWeek.MONDAY),
+                tomorrow, tomorrow.minusDays(1), null))
+                .andExpect(status().isBadRequest());
+        long scheduleId = createSchedule(operator, tour, request);
+
+        mockMvc.perform(get("/api/tours/" + tour.getId() + "/schedules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].capacity").value(20))
+                .andExpect(jsonPath("$[0].daysOfWeek[0]").value(tomorrow.getDayOfWeek().name()));
+        mockMvc.perform(get("/api/tours/departures")
+                        .param("tourIds", String.valueOf(tour.getId()))
+                        .param("from", tomorrow.toString())
+                        .param("to", tomorrow.plusDays(90).toString()))
+                .andExpect(status().isBadRequest());
+
+        String body = book(customer, tour, 1, tomorrow.atTime(7, 30))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(delete("/api/tours/" + tour.getId() + "/schedules/" + scheduleId).with(authenticate(operator)))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(patch("/api/bookings/" + objectMapper.readTree(body).get("id").asLong() + "/status")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingStatusUpdateRequest(BookingStatus.CANCELLED))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tours/" + tour.getId() + "/schedules/" + scheduleId).with(authenticate(operator)))
+                .andExpect(status().isConflict());
+    }
+
+    private long createSchedule(User operator, Tour tour, TourScheduleRequest request) throws Exception {
+        String body = postSchedule(operator, tour, request)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private ResultActions postSchedule(User operator, Tour tour, TourScheduleRequest request) throws Exception {
+        return mockMvc.perform(post("/api/tours/" + tour.getId() + "/schedules")
+                .with(authenticate(operator))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions book(User customer, Tour tour, int people, LocalDateTime departsAt) throws Exception {
+        BookingRequest request = new BookingRequest(tour.getId(), people, LocalDateTime.now(), null, departsAt);
+        return mockMvc.perform(post("/api/bookings")
+                .with(authenticate(customer))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private JsonNode departures(Tour tour, LocalDate from, LocalDate to) throws Exception {
+        String body = mockMvc.perform(get("/api/tours/departures")
+                        .param("tourIds", String.valueOf(tour.getId()))
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Daily Tour");
+        tour.setDescription("Daily Tour description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(20);
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
@@ -0,0 +1,263 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.idempotency.IdempotencyKeyStore;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingQueueRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.IdempotencyKeyRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyKeyIntegrationTest {
+
+    private static final int ATTEMPTS = 400;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private BookingQueueRepository bookingQueueRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        idempotencyKeyRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        summaryRepository.deleteAll();
+        bookingQueueRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void createBooking_hammeredWithOneKey_createsExactlyOneBooking() throws Exception {
+        User operator = persistUser("idem-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("idem-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 100);
+        String body = objectMapper.writeValueAsString(request(tour, 2));
+
+        Set<Long> bookingIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                MockHttpServletResponse response = createBooking(customer, "retry-42", body);
+                if (response.getStatus() == 201) {
+                    bookingIds.add(objectMapper.readValue(response.getContentAsString(), BookingResponse.class).id());
+                    created.incrementAndGet();
+                } else {
+                    assertThat(response.getStatus()).isEqualTo(409);
+                    inFlight.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(created.get() + inFlight.get()).isEqualTo(ATTEMPTS);
+        assertThat(bookingIds).hasSize(1);
+        assertThat(bookingRepository.findByTourId(tour.getId())).hasSize(1);
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isEqualTo(2);
+
+        mockMvc.perform(post("/api/bookings")
+                        .with(authenticate(customer))
+                        .header(IdempotencyKeyStore.HEADER, "retry-42")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyKeyStore.REPLAYED_HEADER, "true"))
+                .andExpect(header().string("Location", "/api/bookings/" + bookingIds.iterator().next()));
+    }
+
+    @Test
+    void createBooking_rejectsKeyReuseWithADifferentBodyAndScopesKeysPerUser() throws Exception {
+        User operator = persistUser("idem-scope-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("idem-scope-customer@example.com", UserRole.CUSTOMER);
+        User otherCustomer = persistUser("idem-scope-other@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 100);
+
+        assertThat(createBooking(customer, "checkout-1", objectMapper.writeValueAsString(request(tour, 2))).getStatus())
+                .isEqualTo(201);
+        assertThat(createBooking(customer, "checkout-1", objectMapper.writeValueAsString(request(tour, 3))).getStatus())
+                .isEqualTo(422);
+        MockHttpServletResponse other = createBooking(otherCustomer, "checkout-1",
+                objectMapper.writeValueAsString(request(tour, 3)));
+        assertThat(other.getStatus()).isEqualTo(201);
+        assertThat(other.getHeader(IdempotencyKeyStore.REPLAYED_HEADER)).isEqualTo("false");
+        assertThat(bookingRepository.findByTourId(tour.getId())).hasSize(2);
+        assertThat(createBooking(customer, "", objectMapper.writeValueAsString(request(tour, 1))).getStatus())
+                .isEqualTo(400);
+    }
+
+    @Test
+    void createBooking_failedAttemptReleasesTheKeyAndCompletedKeysReplayFromTheTable() throws Exception {
+        User operator = persistUser("idem-retry-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("idem-retry-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 1);
+        BookingRequest request = request(tour, 2);
+        String body = objectMapper.writeValueAsString(request);
+
+        assertThat(createBooking(customer, "after-sellout", body).getStatus()).isEqualTo(409);
+        assertThat(idempotencyKeyRepository.count()).isZero();
+
+        tour.setMaxCapacity(4);
+        tourRepository.save(tour);
+        MockHttpServletResponse first = createBooking(customer, "after-sellout", body);
+        assertThat(first.getStatus()).isEqualTo(201);
+        BookingResponse original = objectMapper.readValue(first.getContentAsString(), BookingResponse.class);
+
+        // A second instance has an empty front cache and must answer from the stored row.
+        IdempotencyKeyStore otherInstance = new IdempotencyKeyStore(idempotencyKeyRepository, objectMapper,
+                transactionManager, new SimpleMeterRegistry(), Duration.ofHours(1), Duration.ofMinutes(1), 100);
+        IdempotencyKeyStore.Result<BookingResponse> replayed = otherInstance.execute(customer.getId(), "after-sellout",
+                request, BookingResponse.class, () -> fail("Completed key must not run the booking again"));
+
+        assertThat(replayed.replayed()).isTrue();
+        assertThat(replayed.response()).isEqualTo(original);
+        assertThat(bookingRepository.findByTourId(tour.getId())).hasSize(1);
+    }
+
+    @Test
+    void createBooking_respondAsyncWithKey_queuesOnceAndReplaysTheQueueEntry() throws Exception {
+        User operator = persistUser("idem-async-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("idem-async-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 100);
+        String body = objectMapper.writeValueAsString(request(tour, 2));
+
+        MockHttpServletResponse first = enqueueBooking(customer, "queue-7", body);
+        MockHttpServletResponse second = enqueueBooking(customer, "queue-7", body);
+
+        assertThat(first.getStatus()).isEqualTo(202);
+        assertThat(second.getStatus()).isEqualTo(202);
+        assertThat(second.getHeader(IdempotencyKeyStore.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(second.getHeader("Location")).isEqualTo(first.getHeader("Location"));
+        assertThat(bookingQueueRepository.count()).isEqualTo(1);
+        assertThat(createBooking(customer, "queue-7", body).getStatus()).isEqualTo(422);
+    }
+
+    private MockHttpServletResponse enqueueBooking(User customer, String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/bookings")
+                        .with(authenticate(customer))
+                        .header(IdempotencyKeyStore.HEADER, key)
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse createBooking(User customer, String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/bookings")
+                        .with(authenticate(customer))
+                        .header(IdempotencyKeyStore.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+    }
+
+    private BookingRequest request(Tour tour, int people) {
+        return new BookingRequest(tour.getId(), people, LocalDateTime.of(2030, 5, 1, 9, 0), null);
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, int capacity) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Idempotent Tour");
+        tour.setDescription("Idempotent Tour description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(capacity);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(5));
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
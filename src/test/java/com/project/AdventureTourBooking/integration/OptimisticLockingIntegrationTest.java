@@ -0,0 +1,233 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingStatusUpdateRequest;
+import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.OptimisticRetry;
+import com.project.AdventureTourBooking.service.TourService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OptimisticLockingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        summaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void updateTour_honoursIfMatch() throws Exception {
+        User operator = persistUser("lock-operator@example.com", UserRole.OPERATOR);
+        Tour tour = persistTour(operator);
+        String original = "\"tour-" + tour.getId() + "-v0\"";
+
+        mockMvc.perform(get("/api/tours/" + tour.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, original))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(put("/api/tours/" + tour.getId())
+                        .with(authenticate(operator))
+                        .header(HttpHeaders.IF_MATCH, original)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Glacier Walk"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"tour-" + tour.getId() + "-v1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(put("/api/tours/" + tour.getId())
+                        .with(authenticate(operator))
+                        .header(HttpHeaders.IF_MATCH, original)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Lost Update"))))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/tours/" + tour.getId())
+                        .with(authenticate(operator))
+                        .header(HttpHeaders.IF_MATCH, "W/\"tour-" + tour.getId() + "-v1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Weak Tag"))))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getTitle()).isEqualTo("Glacier Walk");
+
+        mockMvc.perform(put("/api/tours/" + tour.getId())
+                        .with(authenticate(operator))
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request("Glacier Walk Deluxe"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"tour-" + tour.getId() + "-v2\""));
+    }
+
+    @Test
+    void updateBookingStatus_honoursIfMatch() throws Exception {
+        User operator = persistUser("lock-booking-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("lock-booking-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator);
+        Booking booking = persistBooking(tour, customer);
+        transactionTemplate.executeWithoutResult(status -> tourRepository.reserveSeats(tour.getId(), 2));
+        String original = "\"booking-" + booking.getId() + "-v0\"";
+
+        mockMvc.perform(patch("/api/bookings/" + booking.getId() + "/status")
+                        .with(authenticate(operator))
+                        .header(HttpHeaders.IF_MATCH, original)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingStatusUpdateRequest(BookingStatus.CONFIRMED))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"booking-" + booking.getId() + "-v1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(patch("/api/bookings/" + booking.getId() + "/status")
+                        .with(authenticate(operator))
+                        .header(HttpHeaders.IF_MATCH, original)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingStatusUpdateRequest(BookingStatus.CANCELLED))))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentWrite_isDetectedAndRetriedAgainstFreshState() {
+        User operator = persistUser("lock-retry-operator@example.com", UserRole.OPERATOR);
+        Tour tour = persistTour(operator);
+        AtomicInteger attempts = new AtomicInteger();
+
+        Tour saved = optimisticRetry.execute(() -> transactionTemplate.execute(status -> {
+            Tour current = tourRepository.findById(tour.getId()).orElseThrow();
+            if (attempts.incrementAndGet() == 1) {
+                CompletableFuture.runAsync(() -> tourService.updateTour(tour.getId(), request("Concurrent Edit"), operator.getId()))
+                        .join();
+            }
+            current.setDescription("Edited after " + current.getTitle());
+            return current;
+        }));
+
+        assertThat(attempts).hasValue(2);
+        Tour reloaded = tourRepository.findById(tour.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("Concurrent Edit");
+        assertThat(reloaded.getDescription()).isEqualTo("Edited after Concurrent Edit");
+        assertThat(reloaded.getVersion()).isEqualTo(saved.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void staleDetachedCopy_cannotOverwriteNewerVersion() {
+        User operator = persistUser("lock-stale-operator@example.com", UserRole.OPERATOR);
+        Tour stale = persistTour(operator);
+        tourService.updateTour(stale.getId(), request("Fresh Title"), operator.getId());
+
+        stale.setTitle("Stale Title");
+        assertThatThrownBy(() -> tourRepository.save(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(tourRepository.findById(stale.getId()).orElseThrow().getTitle()).isEqualTo("Fresh Title");
+    }
+
+    private TourRequest request(String title) {
+        return new TourRequest(title, title + " description", BigDecimal.valueOf(120L), "Fox Glacier", 10,
+                LocalDateTime.now().plusDays(4), 3);
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Glacier Hike");
+        tour.setDescription("Glacier Hike description");
+        tour.setPrice(BigDecimal.valueOf(99.00));
+        tour.setLocation("Fox Glacier");
+        tour.setMaxCapacity(10);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(5));
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private Booking persistBooking(Tour tour, User customer) {
+        Booking booking = new Booking();
+        booking.setTour(tour);
+        booking.setUser(customer);
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setNumberOfPeople(2);
+        booking.setTotalPrice(BigDecimal.valueOf(198.00));
+        booking.setBookingDate(LocalDateTime.now().plusDays(5));
+        return bookingRepository.save(booking);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.outbox.InMemoryOutboxSink;
+import com.project.AdventureTourBooking.outbox.OutboxMessage;
+import com.project.AdventureTourBooking.outbox.OutboxRelay;
+import com.project.AdventureTourBooking.outbox.OutboxWriter;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.service.BookingService;
+import com.project.AdventureTourBooking.service.TourService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+        sink.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        sink.clear();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void committedChanges_areRelayedOnceInCommitOrder() throws Exception {
+        User operator = persistUser("outbox-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("outbox-customer@example.com", UserRole.CUSTOMER);
+
+        Tour tour = tourService.createTour(new TourRequest("Outbox Trek", "Ridge walk", BigDecimal.valueOf(120L),
+                "Pokhara, Nepal", 6, LocalDateTime.now().plusDays(10), 5), operator.getId());
+        Booking booking = bookingService.createBooking(new BookingRequest(tour.getId(), 2,
+                LocalDateTime.now().plusDays(10), null), customer.getId());
+        bookingService.updateBookingStatus(booking.getId(), BookingStatus.CONFIRMED, operator.getId());
+
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isEqualTo(3);
+        assertThat(outboxRelay.relayBatch()).isEqualTo(3);
+        assertThat(outboxRelay.relayBatch()).isZero();
+
+        List<OutboxMessage> messages = sink.messages();
+        assertThat(messages).extracting(OutboxMessage::aggregateType, OutboxMessage::aggregateId, OutboxMessage::eventType)
+                .containsExactly(
+                        tuple(OutboxWriter.TOUR, tour.getId(), "CREATED"),
+                        tuple(OutboxWriter.BOOKING, booking.getId(), "CREATED"),
+                        tuple(OutboxWriter.BOOKING, booking.getId(), "STATUS_CHANGED"));
+
+        JsonNode statusChanged = objectMapper.readTree(messages.get(2).payload());
+        assertThat(statusChanged.get("tourId").asLong()).isEqualTo(tour.getId());
+        assertThat(statusChanged.get("booking").get("status").asText()).isEqualTo("CONFIRMED");
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+    }
+
+    @Test
+    void rolledBackChanges_leaveNoOutboxEvents() {
+        User operator = persistUser("outbox-rollback-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("outbox-rollback-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = tourService.createTour(new TourRequest("Full Trek", null, BigDecimal.valueOf(90L),
+                "Leh, India", 1, LocalDateTime.now().plusDays(4), 3), operator.getId());
+        outboxRelay.relayBatch();
+        sink.clear();
+
+        assertThrows(ResponseStatusException.class, () -> bookingService.createBooking(new BookingRequest(
+                tour.getId(), 2, LocalDateTime.now().plusDays(4),
+                BookingStatus.PENDING), customer.getId()));
+
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(sink.messages()).isEmpty();
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+}
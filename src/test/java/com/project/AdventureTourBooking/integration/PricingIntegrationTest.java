@@ -0,0 +1,193 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.PricingRuleRequest;
+import com.project.AdventureTourBooking.model.PricingRuleType;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.pricing.PricingEngine;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.PricingRuleRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PricingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        pricingRuleRepository.deleteAll();
+        pricingEngine.refresh();
+        outboxEventRepository.deleteAll();
+        summaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void bookingTotal_isComputedFromTourPriceAndRulesIgnoringTheClientValue() throws Exception {
+        User operator = persistUser("pricing-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("pricing-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, LocalDateTime.now().plusDays(40));
+
+        createRule(operator, tour, new PricingRuleRequest(PricingRuleType.GROUP_DISCOUNT,
+                new BigDecimal("0.90"), 4, null, null, null));
+        long earlyBirdId = createRule(operator, tour, new PricingRuleRequest(PricingRuleType.EARLY_BIRD,
+                new BigDecimal("0.95"), null, 30, null, null));
+
+        assertThat(quote(tour, 2)).isEqualByComparingTo("152.00");
+        assertThat(quote(tour, 4)).isEqualByComparingTo("273.60");
+
+        BookingRequest request = new BookingRequest(tour.getId(), 4, LocalDateTime.now(), null);
+        String body = mockMvc.perform(post("/api/bookings")
+                        .with(authenticate(customer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(body).get("totalPrice").decimalValue()).isEqualByComparingTo("273.60");
+
+        mockMvc.perform(delete("/api/tours/" + tour.getId() + "/pricing-rules/" + earlyBirdId)
+                        .with(authenticate(operator)))
+                .andExpect(status().isNoContent());
+        assertThat(quote(tour, 4)).isEqualByComparingTo("288.00");
+        assertThat(pricingEngine.getRuleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rules_areValidatedAndScopedToTheOwningOperator() throws Exception {
+        User operator = persistUser("pricing-owner@example.com", UserRole.OPERATOR);
+        User other = persistUser("pricing-other@example.com", UserRole.OPERATOR);
+        Tour tour = persistTour(operator, null);
+
+        postRule(other, tour, new PricingRuleRequest(PricingRuleType.GROUP_DISCOUNT,
+                new BigDecimal("0.90"), 4, null, null, null))
+                .andExpect(status().isForbidden());
+        postRule(operator, tour, new PricingRuleRequest(PricingRuleType.GROUP_DISCOUNT,
+                new BigDecimal("0.90"), null, null, null, null))
+                .andExpect(status().isBadRequest());
+        postRule(operator, tour, new PricingRuleRequest(PricingRuleType.SEASONAL,
+                new BigDecimal("1.25"), null, null, LocalDate.now().plusDays(3), LocalDate.now()))
+                .andExpect(status().isBadRequest());
+        postRule(operator, tour, new PricingRuleRequest(PricingRuleType.SEASONAL,
+                new BigDecimal("9.00"), null, null, LocalDate.now(), LocalDate.now()))
+                .andExpect(status().isBadRequest());
+
+        createRule(operator, tour, new PricingRuleRequest(PricingRuleType.SEASONAL,
+                new BigDecimal("1.25"), null, null, LocalDate.now().minusDays(1), LocalDate.now().plusDays(1)));
+        assertThat(quote(tour, 1)).isEqualByComparingTo("100.00");
+
+        mockMvc.perform(get("/api/tours/" + tour.getId() + "/pricing-rules").with(authenticate(operator)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].type").value(PricingRuleType.SEASONAL.name()));
+        mockMvc.perform(get("/api/tours/" + tour.getId() + "/pricing-rules").with(authenticate(other)))
+                .andExpect(status().isForbidden());
+    }
+
+    private long createRule(User operator, Tour tour, PricingRuleRequest request) throws Exception {
+        String body = postRule(operator, tour, request)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private ResultActions postRule(User operator, Tour tour, PricingRuleRequest request) throws Exception {
+        return mockMvc.perform(post("/api/tours/" + tour.getId() + "/pricing-rules")
+                .with(authenticate(operator))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private BigDecimal quote(Tour tour, int people) throws Exception {
+        String body = mockMvc.perform(get("/api/tours/" + tour.getId() + "/quote").param("people", String.valueOf(people)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode quote = objectMapper.readTree(body);
+        return quote.get("totalPrice").decimalValue();
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, LocalDateTime availableFrom) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Priced Tour");
+        tour.setDescription("Priced Tour description");
+        tour.setPrice(new BigDecimal("80.00"));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(20);
+        tour.setAvailableFrom(availableFrom);
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
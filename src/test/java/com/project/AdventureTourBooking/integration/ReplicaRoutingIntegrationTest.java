@@ -0,0 +1,172 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.datasource.ReplicaRoutingDataSource;
+import com.project.AdventureTourBooking.departure.DepartureIndexer;
+import com.project.AdventureTourBooking.dto.LoginRequest;
+import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.search.TourSearchIndexer;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import com.project.AdventureTourBooking.service.SeatHoldService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The "replica" is the primary's own in-memory database reached through a second, read-only
+// pool, so routing decisions are observed through the per-target connection counters.
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].name=replica-1",
+        "datasource.routing.replicas[0].url=jdbc:h2:mem:adventure_tours_test;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "datasource.routing.lag-query=SELECT 0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private TourSearchIndexer tourSearchIndexer;
+
+    @Autowired
+    private DepartureIndexer departureIndexer;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaUntilTheUserWrites() throws Exception {
+        User operator = persistOperator("routing-operator@example.com");
+        User otherOperator = persistOperator("routing-other@example.com");
+        Tour tour = persistTour(operator);
+
+        double replicaBefore = connections("replica-1");
+        mockMvc.perform(get("/api/bookings/operator").with(authenticate(operator)))
+                .andExpect(status().isOk());
+        assertThat(connections("replica-1")).isEqualTo(replicaBefore + 1);
+
+        mockMvc.perform(put("/api/tours/" + tour.getId())
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TourRequest("Routed Tour", null,
+                                BigDecimal.valueOf(80L), "Wanaka", 12, LocalDateTime.now().plusDays(4), 2))))
+                .andExpect(status().isOk());
+
+        double primaryBefore = connections(ReplicaRoutingDataSource.PRIMARY);
+        replicaBefore = connections("replica-1");
+        mockMvc.perform(get("/api/bookings/operator").with(authenticate(operator)))
+                .andExpect(status().isOk());
+        assertThat(connections(ReplicaRoutingDataSource.PRIMARY)).isEqualTo(primaryBefore + 1);
+        assertThat(connections("replica-1")).isEqualTo(replicaBefore);
+
+        mockMvc.perform(get("/api/bookings/operator").with(authenticate(otherOperator)))
+                .andExpect(status().isOk());
+        assertThat(connections("replica-1")).isEqualTo(replicaBefore + 1);
+    }
+
+    // Each of these fills a cache or an in-memory index, or checks credentials, right after a write.
+    @Test
+    void readFromPrimaryReadsNeverUseTheReplica() throws Exception {
+        User operator = persistOperator("routing-pinned@example.com");
+        Tour tour = persistTour(operator);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        double replicaBefore = connections("replica-1");
+        double primaryBefore = connections(ReplicaRoutingDataSource.PRIMARY);
+
+        mockMvc.perform(get("/api/tours")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tours/" + tour.getId())).andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(operator.getEmail(), "password"))))
+                .andExpect(status().isOk());
+        seatHoldService.findActiveDeadlines();
+        seatHoldService.findOverdueIds(10);
+        tourSearchIndexer.rebuild();
+        departureIndexer.rebuild();
+
+        assertThat(connections("replica-1")).isEqualTo(replicaBefore);
+        assertThat(connections(ReplicaRoutingDataSource.PRIMARY)).isGreaterThanOrEqualTo(primaryBefore + 7);
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("datasource.routing.connections").tag("target", target).counter().count();
+    }
+
+    private User persistOperator(String email) {
+        User operator = new User();
+        operator.setName("Operator " + email);
+        operator.setEmail(email);
+        operator.setPassword(passwordEncoder.encode("password"));
+        operator.setRole(UserRole.OPERATOR);
+        return userRepository.save(operator);
+    }
+
+    private Tour persistTour(User operator) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Routing Tour");
+        tour.setDescription("Routing Tour description");
+        tour.setPrice(BigDecimal.valueOf(80.00));
+        tour.setLocation("Wanaka");
+        tour.setMaxCapacity(12);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(4));
+        tour.setDurationHours(2);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
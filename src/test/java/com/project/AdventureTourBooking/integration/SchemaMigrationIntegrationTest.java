@@ -0,0 +1,94 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the application with migrations and schema validation switched on against a database that
+// Hibernate's ddl-auto created, the way existing installations were set up.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + SchemaMigrationIntegrationTest.URL,
+        "spring.liquibase.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class SchemaMigrationIntegrationTest {
+
+    static final String URL = "jdbc:h2:mem:adventure_tours_migration;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @BeforeAll
+    static void createHibernateBaselineSchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "password")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/hibernate-baseline-schema.sql"));
+        }
+    }
+
+    @Test
+    void migration_backfillsBookedSeatsFromExistingBookings() {
+        assertThat(jdbcTemplate.queryForObject("SELECT booked_seats FROM tours WHERE id = 1", Integer.class))
+                .isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT booked_seats FROM tours WHERE id = 2", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void migration_startsIdSequencesAboveIdentityGeneratedRows() {
+        User operator = userRepository.findByEmail("legacy-operator@example.com").orElseThrow();
+        User customer = userRepository.findByEmail("legacy-customer@example.com").orElseThrow();
+
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Post-migration Tour");
+        tour.setPrice(BigDecimal.TEN);
+        tour.setLocation("Somewhere");
+        tour.setMaxCapacity(4);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(3));
+        tour.setDurationHours(2);
+        tour = tourRepository.save(tour);
+
+        Booking booking = new Booking();
+        booking.setTour(tour);
+        booking.setUser(customer);
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setNumberOfPeople(1);
+        booking.setTotalPrice(BigDecimal.TEN);
+        booking.setBookingDate(LocalDateTime.now().plusDays(3));
+        booking = bookingRepository.save(booking);
+
+        assertThat(tour.getId()).isGreaterThan(2L);
+        assertThat(booking.getId()).isGreaterThan(3L);
+        assertThat(userRepository.findByEmail("guide@adventure.com").orElseThrow().getId()).isGreaterThan(2L);
+    }
+}
@@ -0,0 +1,258 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.SeatHoldConfirmRequest;
+import com.project.AdventureTourBooking.dto.SeatHoldRequest;
+import com.project.AdventureTourBooking.hold.SeatHoldExpirer;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.SeatHold;
+import com.project.AdventureTourBooking.model.SeatHoldState;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingDailySummaryRepository;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import com.project.AdventureTourBooking.repository.SeatHoldRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SeatHoldIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SeatHoldExpirer seatHoldExpirer;
+
+    @Autowired
+    private SeatHoldRepository seatHoldRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        seatHoldRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        summaryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void hold_takesSeatsAndConfirmTurnsThemIntoABooking() throws Exception {
+        User operator = persistUser("hold-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("hold-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 5);
+        int pendingBefore = seatHoldExpirer.getPendingCount();
+
+        String reference = createHold(customer, tour, 4);
+        assertThat(bookedSeats(tour)).isEqualTo(4);
+
+        mockMvc.perform(post("/api/bookings/holds")
+                        .with(authenticate(customer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(tour.getId(), 2))))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/api/bookings/holds/" + reference + "/confirm")
+                        .with(authenticate(customer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldConfirmRequest(
+                                LocalDateTime.now().plusDays(6)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.numberOfPeople").value(4))
+                .andExpect(jsonPath("$.status").value(BookingStatus.PENDING.name()));
+
+        assertThat(bookedSeats(tour)).isEqualTo(4);
+        mockMvc.perform(get("/api/bookings/holds/" + reference).with(authenticate(customer)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value(SeatHoldState.CONVERTED.name()))
+                .andExpect(jsonPath("$.bookingId").isNumber());
+
+        mockMvc.perform(delete("/api/bookings/holds/" + reference).with(authenticate(customer)))
+                .andExpect(status().isConflict());
+        assertThat(seatHoldExpirer.getPendingCount()).isEqualTo(pendingBefore);
+    }
+
+    @Test
+    void releaseAndExpiry_returnSeatsToTheTour() throws Exception {
+        User operator = persistUser("hold-expiry-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("hold-expiry-customer@example.com", UserRole.CUSTOMER);
+        User otherCustomer = persistUser("hold-expiry-other@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 10);
+
+        String released = createHold(customer, tour, 3);
+        String expiring = createHold(customer, tour, 2);
+        assertThat(bookedSeats(tour)).isEqualTo(5);
+
+        mockMvc.perform(delete("/api/bookings/holds/" + released).with(authenticate(otherCustomer)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/bookings/holds/" + released).with(authenticate(customer)))
+                .andExpect(status().isNoContent());
+        assertThat(bookedSeats(tour)).isEqualTo(2);
+
+        // Simulates a restart after the deadline: the wheel is rebuilt from the HELD rows.
+        SeatHold hold = seatHoldRepository.findByReference(expiring).orElseThrow();
+        hold.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        seatHoldRepository.save(hold);
+        assertThat(seatHoldExpirer.rehydrate()).isEqualTo(1);
+        assertThat(seatHoldExpirer.expireDue(System.currentTimeMillis())).isEqualTo(1);
+
+        assertThat(bookedSeats(tour)).isZero();
+        assertThat(seatHoldRepository.findByReference(expiring).orElseThrow().getState()).isEqualTo(SeatHoldState.EXPIRED);
+        mockMvc.perform(post("/api/bookings/holds/" + expiring + "/confirm")
+                        .with(authenticate(customer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldConfirmRequest(
+                                LocalDateTime.now().plusDays(6)))))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void reconcile_expiresOverdueHoldsMissingFromTheWheel() throws Exception {
+        User operator = persistUser("hold-reconcile-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("hold-reconcile-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 10);
+
+        SeatHold hold = seatHoldRepository.findByReference(createHold(customer, tour, 6)).orElseThrow();
+        hold.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        seatHoldRepository.save(hold);
+
+        assertThat(seatHoldExpirer.reconcile()).isEqualTo(1);
+        assertThat(bookedSeats(tour)).isZero();
+        assertThat(seatHoldExpirer.reconcile()).isZero();
+    }
+
+    @Test
+    void hold_concurrentRequestsNeverExceedTheActiveHoldLimit() throws Exception {
+        User operator = persistUser("hold-limit-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("hold-limit-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, 100);
+        String body = objectMapper.writeValueAsString(new SeatHoldRequest(tour.getId(), 1));
+
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int status = mockMvc.perform(post("/api/bookings/holds")
+                                .with(authenticate(customer))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse().getStatus();
+                if (status == 201) {
+                    held.incrementAndGet();
+                } else {
+                    assertThat(status).isEqualTo(429);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(held.get()).isEqualTo(5);
+        assertThat(rejected.get()).isEqualTo(11);
+        assertThat(bookedSeats(tour)).isEqualTo(5);
+    }
+
+    private String createHold(User customer, Tour tour, int people) throws Exception {
+        String body = mockMvc.perform(post("/api/bookings/holds")
+                        .with(authenticate(customer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SeatHoldRequest(tour.getId(), people))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.state").value(SeatHoldState.HELD.name()))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode hold = objectMapper.readTree(body);
+        return hold.get("reference").asText();
+    }
+
+    private int bookedSeats(Tour tour) {
+        return tourRepository.findById(tour.getId()).orElseThrow().getBookedSeats();
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, int capacity) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle("Held Tour");
+        tour.setDescription("Held Tour description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(capacity);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(5));
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
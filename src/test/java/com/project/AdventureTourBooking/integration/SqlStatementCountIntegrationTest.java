@@ -0,0 +1,196 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.dto.BookingStatusUpdateRequest;
+import com.project.AdventureTourBooking.model.Booking;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().startsWith("stmt-"))
+                .toList());
+    }
+
+    @Test
+    void operatorBookingList_usesConstantStatementCount() throws Exception {
+        User operator = persistUser("stmt-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("stmt-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, "Statement Tour");
+        persistBooking(tour, customer);
+
+        long withOneBooking = statementsFor(get("/api/bookings/operator").with(authenticate(operator)));
+
+        for (int i = 0; i < 25; i++) {
+            persistBooking(persistTour(operator, "Statement Tour " + i), persistUser("stmt-c" + i + "@example.com", UserRole.CUSTOMER));
+        }
+        long withManyBookings = statementsFor(get("/api/bookings/operator").with(authenticate(operator)));
+
+        assertThat(withOneBooking).isEqualTo(2);
+        assertThat(withManyBookings).isEqualTo(withOneBooking);
+    }
+
+    @Test
+    void tourCatalogPage_usesConstantStatementsRegardlessOfOperators() throws Exception {
+        tourRepository.deleteAll();
+        for (int i = 0; i < 12; i++) {
+            persistTour(persistUser("stmt-op" + i + "@example.com", UserRole.OPERATOR), "Catalog Tour " + i);
+        }
+
+        // one page query plus the catalog version probe behind the ETag
+        assertThat(statementsFor(get("/api/tours").param("size", "10"))).isEqualTo(2);
+    }
+
+    @Test
+    void updateBookingStatus_loadsBookingAndTourTogether() throws Exception {
+        User operator = persistUser("stmt-status-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("stmt-status-customer@example.com", UserRole.CUSTOMER);
+        Booking booking = persistBooking(persistTour(operator, "Status Tour"), customer);
+
+        long statements = statementsFor(patch("/api/bookings/" + booking.getId() + "/status")
+                .with(authenticate(operator))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingStatusUpdateRequest(BookingStatus.CONFIRMED))));
+
+        // 1. select the operator
+        // 2. select the booking joined with its tour
+        // 3. update the booking's status and version (PENDING and CONFIRMED both hold seats, so no seat update)
+        // 4-5. update the PENDING summary row, then insert it: the booking was saved directly, so the tour
+        //      has no summary rows yet
+        // 6-7. the same update and insert for the CONFIRMED row
+        // 8. next value of outbox_events_seq, which allocates one id at a time
+        // 9. insert the outbox event
+        assertThat(statements).isEqualTo(9);
+    }
+
+    @Test
+    void bulkTourInsert_isBatched() {
+        User operator = persistUser("stmt-bulk-operator@example.com", UserRole.OPERATOR);
+        List<Tour> tours = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tours.add(newTour(operator, "Bulk Tour " + i));
+        }
+
+        statistics.clear();
+        tourRepository.saveAll(tours);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, String title) {
+        return tourRepository.save(newTour(operator, title));
+    }
+
+    private Tour newTour(User operator, String title) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle(title);
+        tour.setDescription(title + " description");
+        tour.setPrice(BigDecimal.valueOf(80.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(10);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(3);
+        return tour;
+    }
+
+    private Booking persistBooking(Tour tour, User customer) {
+        Booking booking = new Booking();
+        booking.setTour(tour);
+        booking.setUser(customer);
+        booking.setStatus(BookingStatus.PENDING);
+        booking.setNumberOfPeople(2);
+        booking.setTotalPrice(BigDecimal.valueOf(160.00));
+        booking.setBookingDate(LocalDateTime.now().plusDays(7));
+        return bookingRepository.save(booking);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
@@ -0,0 +1,204 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.availability.TourAvailabilityBroadcaster;
+import com.project.AdventureTourBooking.departure.DepartureIndexer;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.TourScheduleRequest;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.TourDepartureRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.TourScheduleRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.service.BookingService;
+import com.project.AdventureTourBooking.service.DepartureService;
+import com.project.AdventureTourBooking.service.TourService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TourAvailabilityStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TourAvailabilityBroadcaster broadcaster;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TourService tourService;
+
+    @Autowired
+    private DepartureService departureService;
+
+    @Autowired
+    private DepartureIndexer departureIndexer;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TourDepartureRepository departureRepository;
+
+    @Autowired
+    private TourScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        departureRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+        departureIndexer.rebuild();
+    }
+
+    @Test
+    void committedBookings_arePushedAsOneCoalescedUpdatePerTour() throws Exception {
+        User operator = persistUser("stream-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("stream-customer@example.com", UserRole.CUSTOMER);
+        Tour busy = persistTour(operator, "Busy Tour", 10);
+        Tour removed = persistTour(operator, "Removed Tour", 4);
+        broadcaster.flush();
+
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/tours/availability/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        assertThat(broadcaster.getSubscriberCount()).isPositive();
+
+        for (int i = 0; i < 3; i++) {
+            bookingService.createBooking(new BookingRequest(busy.getId(), 2, LocalDateTime.now().plusDays(5),
+                    BookingStatus.PENDING), customer.getId());
+        }
+        tourService.deleteTour(removed.getId(), operator.getId());
+
+        assertThat(broadcaster.flush()).isEqualTo(2);
+        assertThat(broadcaster.flush()).isZero();
+
+        awaitContent(stream, "data:");
+        List<String> frames = stream.getContentAsString().lines()
+                .filter(line -> line.startsWith("data:"))
+                .toList();
+        assertThat(stream.getContentAsString()).contains("event:" + TourAvailabilityBroadcaster.EVENT_NAME);
+        assertThat(frames).hasSize(1);
+
+        JsonNode updates = objectMapper.readTree(frames.get(0).substring("data:".length()));
+        assertThat(updates).hasSize(2);
+        for (JsonNode update : updates) {
+            if (update.get("id").asLong() == busy.getId()) {
+                assertThat(update.get("remainingSeats").asInt()).isEqualTo(4);
+                assertThat(update.get("removed").asBoolean()).isFalse();
+            } else {
+                assertThat(update.get("id").asLong()).isEqualTo(removed.getId());
+                assertThat(update.get("removed").asBoolean()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void departureBookings_arePushedWithTheDeparturesRemainingSeats() throws Exception {
+        User operator = persistUser("stream-schedule-operator@example.com", UserRole.OPERATOR);
+        User customer = persistUser("stream-schedule-customer@example.com", UserRole.CUSTOMER);
+        Tour tour = persistTour(operator, "Scheduled Tour", 10);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        departureService.createSchedule(tour.getId(), new TourScheduleRequest(LocalTime.of(9, 0),
+                EnumSet.allOf(DayOfWeek.class), tomorrow, null, 6), operator.getId());
+        LocalDateTime departsAt = tomorrow.atTime(9, 0);
+        broadcaster.flush();
+
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/tours/availability/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        bookingService.createBooking(new BookingRequest(tour.getId(), 2, LocalDateTime.now(), null, departsAt),
+                customer.getId());
+
+        assertThat(broadcaster.flush()).isEqualTo(1);
+
+        awaitContent(stream, "data:");
+        String frame = stream.getContentAsString().lines()
+                .filter(line -> line.startsWith("data:"))
+                .findFirst()
+                .orElseThrow();
+        JsonNode update = objectMapper.readTree(frame.substring("data:".length())).get(0);
+        assertThat(update.get("id").asLong()).isEqualTo(tour.getId());
+        assertThat(update.get("remainingSeats").asInt()).isEqualTo(10);
+        assertThat(update.get("departures")).hasSize(1);
+        JsonNode departure = update.get("departures").get(0);
+        assertThat(LocalDateTime.parse(departure.get("departsAt").asText())).isEqualTo(departsAt);
+        assertThat(departure.get("remainingSeats").asInt()).isEqualTo(4);
+    }
+
+    // Frames are written on the send pool, so the flush returns before the stream has them.
+    private void awaitContent(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!stream.getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private User persistUser(String email, UserRole role) {
+        User user = new User();
+        user.setName("User " + email);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private Tour persistTour(User operator, String title, int capacity) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle(title);
+        tour.setDescription(title + " description");
+        tour.setPrice(BigDecimal.valueOf(100.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(capacity);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(2);
+        return tourRepository.save(tour);
+    }
+}
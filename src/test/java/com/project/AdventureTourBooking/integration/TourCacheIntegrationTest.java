@@ -0,0 +1,150 @@
+package com.project.AdventureTourBooking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.AdventureTourBooking.cache.CacheInvalidationChannel;
+import com.project.AdventureTourBooking.config.CacheConfig;
+import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import com.project.AdventureTourBooking.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TourCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheInvalidationChannel invalidationChannel;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tourRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void getTourById_isServedFromCacheUntilTourIsUpdated() throws Exception {
+        User operator = persistOperator("cache-operator@example.com");
+        Tour tour = persistTour(operator, "Cave Crawl");
+
+        mockMvc.perform(get("/api/tours/" + tour.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Cave Crawl"));
+        assertThat(toursCache().get(tour.getId())).isNotNull();
+
+        tour.setTitle("Changed behind the cache");
+        tourRepository.save(tour);
+        mockMvc.perform(get("/api/tours/" + tour.getId()))
+                .andExpect(jsonPath("$.title").value("Cave Crawl"));
+
+        TourRequest request = new TourRequest(
+                "Cave Crawl Deluxe",
+                "Now with lanterns",
+                BigDecimal.valueOf(120.00),
+                "Kentucky",
+                12,
+                LocalDateTime.now().plusDays(9),
+                3
+        );
+        mockMvc.perform(put("/api/tours/" + tour.getId())
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        assertThat(toursCache().get(tour.getId())).isNull();
+        mockMvc.perform(get("/api/tours/" + tour.getId()))
+                .andExpect(jsonPath("$.title").value("Cave Crawl Deluxe"));
+    }
+
+    @Test
+    void invalidationChannel_evictsTourAndCatalogPages() throws Exception {
+        User operator = persistOperator("channel-operator@example.com");
+        Tour tour = persistTour(operator, "Lagoon Paddle");
+
+        mockMvc.perform(get("/api/tours/" + tour.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tours")).andExpect(status().isOk());
+        assertThat(toursCache().get(tour.getId())).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.TOUR_PAGES).get("null:null")).isNotNull();
+
+        invalidationChannel.publish(CacheInvalidationChannel.TOURS, tour.getId().toString());
+
+        assertThat(toursCache().get(tour.getId())).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.TOUR_PAGES).get("null:null")).isNull();
+    }
+
+    private Cache toursCache() {
+        return cacheManager.getCache(CacheConfig.TOURS);
+    }
+
+    private User persistOperator(String email) {
+        User operator = new User();
+        operator.setName("Operator " + email);
+        operator.setEmail(email);
+        operator.setPassword("password");
+        operator.setRole(UserRole.OPERATOR);
+        return userRepository.save(operator);
+    }
+
+    private Tour persistTour(User operator, String title) {
+        Tour tour = new Tour();
+        tour.setOperator(operator);
+        tour.setTitle(title);
+        tour.setDescription(title + " description");
+        tour.setPrice(BigDecimal.valueOf(99.00));
+        tour.setLocation("Test Location");
+        tour.setMaxCapacity(10);
+        tour.setAvailableFrom(LocalDateTime.now().plusDays(7));
+        tour.setDurationHours(3);
+        return tourRepository.save(tour);
+    }
+
+    private RequestPostProcessor authenticate(User user) {
+        return user(new CustomUserDetails(user.getId(), user.getEmail(), user.getPassword(), user.getRole()));
+    }
+}
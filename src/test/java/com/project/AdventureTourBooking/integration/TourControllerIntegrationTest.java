@@ -9,14 +9,17 @@ import com.project.AdventureTourBooking.repository.TourRepository;
 import com.project.AdventureTourBooking.repository.UserRepository;
 import com.project.AdventureTourBooking.security.CustomUserDetails;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.math.BigDecimal;
@@ -50,32 +53,52 @@ class TourControllerIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearSeededTours() {
+        tourRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
     @AfterEach
     void tearDown() {
         tourRepository.deleteAll();
         userRepository.deleteAll();
     }
-/*
+
     @Test
-    void getAllTours_returnsPersistedTours() throws Exception {
+    void getTours_returnsKeysetPagesUntilExhausted() throws Exception {
         User operator = persistOperator("operator@example.com");
-
-        Tour canyonTour = new Tour();
-        canyonTour.setOperator(operator);
-        canyonTour.setTitle("Canyon Expedition");
-        canyonTour.setDescription("Explore the canyon");
-        canyonTour.setPrice(BigDecimal.valueOf(199.99));
-        canyonTour.setLocation("Utah");
-        canyonTour.setMaxCapacity(10);
-        canyonTour.setAvailableFrom(LocalDateTime.now().plusDays(10));
-        canyonTour.setDurationHours(6);
-        tourRepository.save(canyonTour);
-
-        mockMvc.perform(get("/api/tours"))
+        for (String title : new String[]{"Canyon Expedition", "Glacier Walk", "Reef Dive"}) {
+            Tour tour = new Tour();
+            tour.setOperator(operator);
+            tour.setTitle(title);
+            tour.setDescription("Explore " + title);
+            tour.setPrice(BigDecimal.valueOf(199.99));
+            tour.setLocation("Utah");
+            tour.setMaxCapacity(10);
+            tour.setAvailableFrom(LocalDateTime.now().plusDays(10));
+            tour.setDurationHours(6);
+            tourRepository.save(tour);
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tours").param("size", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Canyon Expedition"))
-                .andExpect(jsonPath("$[0].operatorId").value(operator.getId()));
-    }*/
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Canyon Expedition"))
+                .andExpect(jsonPath("$.items[0].operatorId").value(operator.getId()))
+                .andExpect(jsonPath("$.next").isString())
+                .andReturn();
+        String next = objectMapper.readTree(firstPage.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/tours").param("size", "2").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Reef Dive"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
 
     @Test
     void createTour_withOperatorAuthentication_persistsTour() throws Exception {
@@ -104,6 +127,88 @@ class TourControllerIntegrationTest {
         assertThat(tourRepository.findAll().get(0).getTitle()).isEqualTo("River Rafting");
     }
 
+    @Test
+    void searchTours_findsToursCreatedThroughTheApi() throws Exception {
+        User operator = persistOperator("search@example.com");
+
+        TourRequest request = new TourRequest(
+                "Whitewater Rafting",
+                "Class IV rapids through the gorge",
+                BigDecimal.valueOf(175.00),
+                "Zambezi, Zambia",
+                8,
+                LocalDateTime.now().plusDays(20),
+                5
+        );
+        mockMvc.perform(post("/api/tours")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tours/search").param("q", "rapids zambezi").param("maxPrice", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Whitewater Rafting"));
+
+        mockMvc.perform(get("/api/tours/search").param("q", "rapids").param("minDuration", "6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+
+        mockMvc.perform(get("/api/tours/search").param("minPrice", "300").param("maxPrice", "100"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/tours/search").param("q", "rapids").param("page", "2147483647").param("size", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void nearbyTours_returnsToursWithinRadiusNearestFirst() throws Exception {
+        User operator = persistOperator("nearby@example.com");
+        TourRequest queenstown = new TourRequest("Shotover Jet", null, BigDecimal.valueOf(140.00),
+                "Queenstown, New Zealand", 12, LocalDateTime.now().plusDays(7), 1, -45.0312, 168.6626);
+        TourRequest wanaka = new TourRequest("Roys Peak Sunrise", null, BigDecimal.valueOf(95.00),
+                "Wanaka, New Zealand", 10, LocalDateTime.now().plusDays(8), 6, -44.7032, 169.1321);
+        for (TourRequest request : new TourRequest[]{wanaka, queenstown}) {
+            mockMvc.perform(post("/api/tours")
+                            .with(authenticate(operator))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/tours/nearby")
+                        .param("lat", "-45.03").param("lon", "168.66").param("radiusKm", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items[0].tour.title").value("Shotover Jet"))
+                .andExpect(jsonPath("$.items[1].tour.title").value("Roys Peak Sunrise"))
+                .andExpect(jsonPath("$.items[1].distanceKm").value(org.hamcrest.Matchers.closeTo(52.0, 1.0)));
+
+        mockMvc.perform(get("/api/tours/nearby")
+                        .param("lat", "-45.03").param("lon", "168.66").param("radiusKm", "100").param("page", "1")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].tour.title").value("Roys Peak Sunrise"));
+
+        mockMvc.perform(get("/api/tours/nearby").param("lat", "-45.03").param("lon", "168.66"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/tours/nearby")
+                        .param("lat", "-45.03").param("lon", "168.66").param("radiusKm", "100")
+                        .param("page", "2147483647").param("size", "100"))
+                .andExpect(status().isBadRequest());
+
+        TourRequest halfLocated = new TourRequest("Lost Trek", null, BigDecimal.valueOf(80.00),
+                "Somewhere", 5, null, 2, -45.0, null);
+        mockMvc.perform(post("/api/tours")
+                        .with(authenticate(operator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(halfLocated)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getToursByOperator_withMismatchedPrincipal_returnsForbidden() throws Exception {
         User owner = persistOperator("owner@example.com");
@@ -0,0 +1,93 @@
+package com.project.AdventureTourBooking.outbox;
+
+import com.project.AdventureTourBooking.model.OutboxEvent;
+import com.project.AdventureTourBooking.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        relay = new OutboxRelay(outboxEventRepository, sink, new TransactionTemplate(transactionManager),
+                false, 2, Duration.ofSeconds(1), Duration.ofDays(3));
+    }
+
+    @Test
+    void relayBatch_marksEventsPublishedAfterSinkAcceptsThem() {
+        OutboxEvent first = event(1L);
+        OutboxEvent second = event(2L);
+        when(outboxEventRepository.lockUnpublished(Limit.of(2))).thenReturn(List.of(first, second));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        verify(sink).publish(List.of(OutboxMessage.fromEntity(first), OutboxMessage.fromEntity(second)));
+        assertThat(first.getPublishedAt()).isNotNull();
+        assertThat(second.getPublishedAt()).isNotNull();
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void relayBatch_whenSinkFails_leavesEventsUnpublishedAndRollsBack() {
+        OutboxEvent event = event(3L);
+        when(outboxEventRepository.lockUnpublished(Limit.of(2))).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("broker down")).when(sink).publish(anyList());
+
+        assertThrows(IllegalStateException.class, () -> relay.relayBatch());
+
+        assertThat(event.getPublishedAt()).isNull();
+        verify(transactionManager).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void relayBatch_withNothingPending_skipsSink() {
+        when(outboxEventRepository.lockUnpublished(Limit.of(2))).thenReturn(List.of());
+
+        assertThat(relay.relayBatch()).isZero();
+
+        verifyNoInteractions(sink);
+    }
+
+    private OutboxEvent event(Long id) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateType(OutboxWriter.BOOKING);
+        event.setAggregateId(id * 10);
+        event.setEventType("CREATED");
+        event.setPayload("{}");
+        return event;
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.AdventureTourBooking.pricing;
+
+import com.project.AdventureTourBooking.model.PricingRule;
+import com.project.AdventureTourBooking.model.PricingRuleType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingRuleTableTest {
+
+    private static final long TOUR = 7L;
+    private static final long TODAY = LocalDate.of(2025, 1, 1).toEpochDay();
+
+    @Test
+    void totalCents_withoutRulesIsUnitPriceTimesPeople() {
+        assertThat(PricingRuleTable.EMPTY.totalCents(TOUR, 12_345, 3, TODAY, TODAY)).isEqualTo(37_035);
+    }
+
+    @Test
+    void totalCents_usesTheHighestGroupAndEarlyBirdThresholdReached() {
+        PricingRuleTable table = PricingRuleTable.compile(List.of(
+                group(1L, 10, "0.80"),
+                group(2L, 4, "0.90"),
+                early(3L, 30, "0.95"),
+                early(4L, 90, "0.85")));
+
+        assertThat(table.size()).isEqualTo(4);
+        assertThat(table.totalCents(TOUR, 10_000, 3, TODAY + 10, TODAY)).isEqualTo(30_000);
+        assertThat(table.totalCents(TOUR, 10_000, 4, TODAY + 10, TODAY)).isEqualTo(36_000);
+        assertThat(table.totalCents(TOUR, 10_000, 12, TODAY + 10, TODAY)).isEqualTo(96_000);
+        assertThat(table.totalCents(TOUR, 10_000, 4, TODAY + 30, TODAY)).isEqualTo(34_200);
+        assertThat(table.totalCents(TOUR, 10_000, 4, TODAY + 120, TODAY)).isEqualTo(30_600);
+        assertThat(table.totalCents(8L, 10_000, 12, TODAY + 120, TODAY)).isEqualTo(120_000);
+    }
+
+    @Test
+    void totalCents_prefersTheLatestStartingSeasonContainingTheTourDate() {
+        LocalDate summerStart = LocalDate.of(2025, 6, 1);
+        PricingRuleTable table = PricingRuleTable.compile(List.of(
+                season(1L, summerStart, LocalDate.of(2025, 8, 31), "1.20"),
+                season(2L, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 7), "1.50")));
+
+        assertThat(table.totalCents(TOUR, 10_000, 1, summerStart.toEpochDay() - 1, TODAY)).isEqualTo(10_000);
+        assertThat(table.totalCents(TOUR, 10_000, 1, summerStart.toEpochDay(), TODAY)).isEqualTo(12_000);
+        assertThat(table.totalCents(TOUR, 10_000, 1, LocalDate.of(2025, 7, 3).toEpochDay(), TODAY)).isEqualTo(15_000);
+        assertThat(table.totalCents(TOUR, 10_000, 1, LocalDate.of(2025, 7, 8).toEpochDay(), TODAY)).isEqualTo(12_000);
+        assertThat(table.totalCents(TOUR, 10_000, 1, LocalDate.of(2025, 9, 1).toEpochDay(), TODAY)).isEqualTo(10_000);
+    }
+
+    @Test
+    void totalCents_roundsEachMultiplierHalfUpToTheCent() {
+        PricingRuleTable table = PricingRuleTable.compile(List.of(
+                group(1L, 2, "0.3333"),
+                early(2L, 1, "1.0005")));
+
+        // 2 x 0.05 = 10 cents -> 3.333 -> 3 -> 3.0015 -> 3
+        assertThat(table.totalCents(TOUR, 5, 2, TODAY + 1, TODAY)).isEqualTo(3);
+        // 2 x 0.15 = 30 cents -> 9.999 -> 10 -> 10.005 -> 10
+        assertThat(table.totalCents(TOUR, 15, 2, TODAY + 1, TODAY)).isEqualTo(10);
+        // 2 x 0.75 = 150 cents -> 49.995 -> 50 -> 50.025 -> 50
+        assertThat(table.totalCents(TOUR, 75, 2, TODAY + 1, TODAY)).isEqualTo(50);
+    }
+
+    @Test
+    void withTour_replacesOnlyThatTourAndKeepsTheRuleCount() {
+        PricingRuleTable table = PricingRuleTable.compile(List.of(group(1L, 4, "0.90"), early(2L, 30, "0.95")));
+
+        PricingRuleTable replaced = table.withTour(TOUR, List.of(group(3L, 2, "0.50")));
+        PricingRuleTable cleared = replaced.withTour(TOUR, List.of());
+
+        assertThat(replaced.size()).isEqualTo(1);
+        assertThat(replaced.totalCents(TOUR, 10_000, 4, TODAY + 60, TODAY)).isEqualTo(20_000);
+        assertThat(table.totalCents(TOUR, 10_000, 4, TODAY + 60, TODAY)).isEqualTo(34_200);
+        assertThat(cleared.size()).isZero();
+        assertThat(cleared.totalCents(TOUR, 10_000, 4, TODAY + 60, TODAY)).isEqualTo(40_000);
+    }
+
+    private static PricingRule group(Long id, int minPeople, String multiplier) {
+        PricingRule rule = rule(id, PricingRuleType.GROUP_DISCOUNT, multiplier);
+        rule.setMinPeople(minPeople);
+        return rule;
+    }
+
+    private static PricingRule early(Long id, int minDaysAhead, String multiplier) {
+        PricingRule rule = rule(id, PricingRuleType.EARLY_BIRD, multiplier);
+        rule.setMinDaysAhead(minDaysAhead);
+        return rule;
+    }
+
+    private static PricingRule season(Long id, LocalDate startsOn, LocalDate endsOn, String multiplier) {
+        PricingRule rule = rule(id, PricingRuleType.SEASONAL, multiplier);
+        rule.setStartsOn(startsOn);
+        rule.setEndsOn(endsOn);
+        return rule;
+    }
+
+    private static PricingRule rule(Long id, PricingRuleType type, String multiplier) {
+        PricingRule rule = new PricingRule();
+        rule.setId(id);
+        rule.setTourId(TOUR);
+        rule.setType(type);
+        rule.setMultiplier(new BigDecimal(multiplier));
+        return rule;
+    }
+}
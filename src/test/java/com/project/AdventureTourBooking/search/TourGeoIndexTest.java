@@ -0,0 +1,73 @@
+package com.project.AdventureTourBooking.search;
+
+import com.project.AdventureTourBooking.dto.TourResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TourGeoIndexTest {
+
+    private TourGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TourGeoIndex(0.5);
+        index.index(tour(1L, 62.4722, 6.1495));
+        index.index(tour(2L, 60.3913, 5.3221));
+        index.index(tour(3L, 31.0802, -4.0134));
+        index.index(tour(4L, null, null));
+    }
+
+    @Test
+    void nearby_returnsToursInsideTheRadiusNearestFirst() {
+        TourGeoIndex.NearbyResult result = index.nearby(61.0, 5.5, 300, 0, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.items()).extracting(hit -> hit.tour().id()).containsExactly(2L, 1L);
+        assertThat(result.items().get(0).distanceKm()).isCloseTo(68.6, within(1.0));
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void nearby_pagesThroughRankedHits() {
+        TourGeoIndex.NearbyResult secondPage = index.nearby(61.0, 5.5, 300, 1, 1);
+
+        assertThat(secondPage.total()).isEqualTo(2);
+        assertThat(secondPage.items()).extracting(hit -> hit.tour().id()).containsExactly(1L);
+    }
+
+    @Test
+    void nearby_wrapsAcrossTheAntimeridian() {
+        index.index(tour(5L, -16.5, 179.9));
+        index.index(tour(6L, -16.5, -179.9));
+
+        TourGeoIndex.NearbyResult result = index.nearby(-16.5, 179.95, 50, 0, 10);
+
+        assertThat(result.items()).extracting(hit -> hit.tour().id()).containsExactlyInAnyOrder(5L, 6L);
+    }
+
+    @Test
+    void index_movesAndRemovesTours() {
+        index.index(tour(3L, 60.5, 5.4));
+        assertThat(index.nearby(31.0, -4.0, 50, 0, 10).total()).isZero();
+        assertThat(index.nearby(61.0, 5.5, 300, 0, 10).total()).isEqualTo(3);
+
+        index.index(tour(1L, null, null));
+        index.remove(2L);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearby(61.0, 5.5, 300, 0, 10).items())
+                .extracting(hit -> hit.tour().id()).containsExactly(3L);
+    }
+
+    private TourResponse tour(Long id, Double latitude, Double longitude) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TourResponse(id, 99L, "Tour " + id, null, new BigDecimal("100.00"), "Somewhere",
+                latitude, longitude, 10, now.plusDays(id), 4, now, now, 0L);
+    }
+}
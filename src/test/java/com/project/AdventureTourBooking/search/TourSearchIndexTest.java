@@ -0,0 +1,68 @@
+package com.project.AdventureTourBooking.search;
+
+import com.project.AdventureTourBooking.dto.TourResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TourSearchIndexTest {
+
+    private TourSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TourSearchIndex();
+        index.index(tour(1L, "Glacier Kayak", "Paddle between icebergs", "Ålesund, Norway", "210.00", 6));
+        index.index(tour(2L, "Fjord Cycling", "Cycle past a glacier viewpoint", "Bergen, Norway", "150.00", 8));
+        index.index(tour(3L, "Desert Stars", "Camel caravan under the stars", "Merzouga, Morocco", "275.00", 12));
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDescriptionMatches() {
+        TourSearchIndex.SearchResult result = index.search("glacier", tour -> true, 0, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.items()).extracting(TourResponse::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_foldsCaseAndDiacritics() {
+        TourSearchIndex.SearchResult result = index.search("ALESUND", tour -> true, 0, 10);
+
+        assertThat(result.items()).extracting(TourResponse::id).containsExactly(1L);
+    }
+
+    @Test
+    void search_appliesFacetFilterAndPaging() {
+        TourSearchIndex.SearchResult filtered = index.search("norway",
+                tour -> tour.price().compareTo(new BigDecimal("200.00")) < 0, 0, 10);
+        assertThat(filtered.items()).extracting(TourResponse::id).containsExactly(2L);
+
+        TourSearchIndex.SearchResult secondPage = index.search(null, tour -> true, 2, 2);
+        assertThat(secondPage.total()).isEqualTo(3);
+        assertThat(secondPage.items()).extracting(TourResponse::id).containsExactly(3L);
+    }
+
+    @Test
+    void index_replacesAndRemovesDocuments() {
+        index.index(tour(3L, "Desert Glacier Mirage", "Renamed", "Merzouga, Morocco", "275.00", 12));
+        assertThat(index.search("caravan", tour -> true, 0, 10).total()).isZero();
+        assertThat(index.search("mirage", tour -> true, 0, 10).items())
+                .extracting(TourResponse::id).containsExactly(3L);
+
+        index.remove(1L);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("kayak", tour -> true, 0, 10).total()).isZero();
+    }
+
+    private TourResponse tour(Long id, String title, String description, String location, String price, int hours) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TourResponse(id, 99L, title, description, new BigDecimal(price), location, null, null, 10,
+                now.plusDays(id), hours, now, now, 0L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.AdventureTourBooking.security;
+
+import com.project.AdventureTourBooking.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthenticationProviderTest {
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    private CachingAuthenticationProvider provider;
+
+    private AuthenticationCache cache;
+
+    private final CustomUserDetails principal =
+            new CustomUserDetails(4L, "guide@example.com", "{bcrypt}hash", UserRole.OPERATOR);
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        provider = new CachingAuthenticationProvider(delegate, cache);
+    }
+
+    @Test
+    void authenticate_withRepeatedCredentials_skipsDelegate() {
+        when(delegate.authenticate(any())).thenReturn(verified());
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+        Authentication second = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getPrincipal()).isEqualTo(principal);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_OPERATOR");
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_withDifferentPassword_goesBackToDelegate() {
+        when(delegate.authenticate(any()))
+                .thenReturn(verified())
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "guess")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void invalidateUser_forcesFullAuthentication() {
+        when(delegate.authenticate(any())).thenReturn(verified());
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+        cache.invalidateUser(principal.getId());
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void invalidateUser_whileDelegateIsVerifying_doesNotCacheTheStaleLogin() {
+        when(delegate.authenticate(any()))
+                .thenAnswer(invocation -> {
+                    // password change committed while the old hash was still being checked
+                    cache.invalidateUser(principal.getId());
+                    return verified();
+                })
+                .thenReturn(verified());
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+
+        assertThat(cache.get("guide@example.com", "secret")).isNull();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+        assertThat(cache.get("guide@example.com", "secret")).isEqualTo(principal);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void invalidateAll_whileDelegateIsVerifying_doesNotCacheTheStaleLogin() {
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            cache.invalidateAll();
+            return verified();
+        });
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("guide@example.com", "secret"));
+
+        assertThat(cache.get("guide@example.com", "secret")).isNull();
+    }
+
+    private Authentication verified() {
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+    }
+}
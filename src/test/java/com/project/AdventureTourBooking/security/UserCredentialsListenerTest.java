@@ -0,0 +1,62 @@
+package com.project.AdventureTourBooking.security;
+
+import com.project.AdventureTourBooking.cache.LocalCacheInvalidationChannel;
+import com.project.AdventureTourBooking.model.User;
+import com.project.AdventureTourBooking.model.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCredentialsListenerTest {
+
+    private final CustomUserDetails principal =
+            new CustomUserDetails(4L, "guide@example.com", "{bcrypt}hash", UserRole.OPERATOR);
+
+    private AuthenticationCache cache;
+
+    private UserCredentialsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuthenticationCache(Duration.ofMinutes(5), 100);
+        listener = new UserCredentialsListener(cache, new LocalCacheInvalidationChannel());
+        cache.put("guide@example.com", "secret", principal, cache.generation());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onUserChanged_insideTransaction_evictsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onUserChanged(user());
+
+        assertThat(cache.get("guide@example.com", "secret")).isEqualTo(principal);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get("guide@example.com", "secret")).isNull();
+    }
+
+    @Test
+    void onUserChanged_withoutTransaction_evictsImmediately() {
+        listener.onUserChanged(user());
+
+        assertThat(cache.get("guide@example.com", "secret")).isNull();
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(4L);
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.cache.LocalCacheInvalidationChannel;
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.TourPricing;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.model.Tour;
+import com.project.AdventureTourBooking.pricing.PricingEngine;
+import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.PricingRuleRepository;
+import com.project.AdventureTourBooking.repository.TourRepository;
+import com.project.AdventureTourBooking.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingBatchWriterTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TourRepository tourRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private BookingSummaryService bookingSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookingBatchWriter bookingBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        bookingBatchWriter = new BookingBatchWriter(bookingRepository, tourRepository, userRepository,
+                seatInventoryService, bookingSummaryService,
+                new PricingEngine(mock(PricingRuleRepository.class), new LocalCacheInvalidationChannel(),
+                        Duration.ofMinutes(1)), eventPublisher);
+    }
+
+    @Test
+    void write_reservesToursInAscendingIdOrderAndKeepsRowOutcomes() {
+        LocalDateTime startsAt = LocalDateTime.now().plusDays(3);
+        when(tourRepository.findPricingByIds(anyCollection())).thenReturn(List.of(
+                new TourPricing(3L, BigDecimal.TEN, startsAt), new TourPricing(1L, BigDecimal.TEN, startsAt)));
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(9L));
+        when(tourRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Tour tour = new Tour();
+            tour.setId(invocation.getArgument(0));
+            return tour;
+        });
+        when(seatInventoryService.tryReserve(3L, 2)).thenReturn(false);
+        when(seatInventoryService.tryReserve(1L, 4)).thenReturn(true);
+        when(seatInventoryService.tryReserve(1L, 1)).thenReturn(true);
+
+        List<BookingBatchWriter.Result> results = bookingBatchWriter.write(List.of(
+                pending(3L, 2), pending(1L, 4), pending(1L, 1)));
+
+        InOrder order = inOrder(seatInventoryService);
+        order.verify(seatInventoryService).tryReserve(1L, 4);
+        order.verify(seatInventoryService).tryReserve(1L, 1);
+        order.verify(seatInventoryService).tryReserve(3L, 2);
+        assertEquals(SeatInventoryService.NOT_ENOUGH_SEATS, results.get(0).error());
+        assertNull(results.get(1).error());
+        assertNull(results.get(2).error());
+    }
+
+    private BookingBatchWriter.PendingBooking pending(Long tourId, int people) {
+        return new BookingBatchWriter.PendingBooking(9L, new BookingRequest(tourId, people,
+                LocalDateTime.now().plusDays(3), BookingStatus.PENDING));
+    }
+}
@@ -0,0 +1,141 @@
+package com.project.AdventureTourBooking.service;
+
+import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.metrics.BookingMetrics;
+import com.project.AdventureTourBooking.model.BookingQueueItem;
+import com.project.AdventureTourBooking.model.BookingQueueState;
+import com.project.AdventureTourBooking.model.BookingStatus;
+import com.project.AdventureTourBooking.repository.BookingQueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingQueueServiceTest {
+
+    @Mock
+    private BookingQueueRepository queueRepository;
+
+    @Mock
+    private BookingBatchWriter bookingBatchWriter;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BookingQueueService bookingQueueService;
+
+    private final BookingRequest request = new BookingRequest(1L, 2, LocalDateTime.now().plusDays(1), null);
+
+    @BeforeEach
+    void setUp() {
+        bookingQueueService = new BookingQueueService(queueRepository, bookingBatchWriter, bookingMetrics,
+                transactionTemplate, new OptimisticRetry(3, Duration.ZERO, new SimpleMeterRegistry()), 100, 2, Duration.ofSeconds(7), 2, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void enqueue_persistsQueuedItemWithReference() {
+        when(queueRepository.save(any(BookingQueueItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var response = bookingQueueService.enqueue(request, 5L);
+
+        assertEquals(BookingQueueState.QUEUED, response.state());
+        assertEquals(36, response.reference().length());
+        assertEquals(1, bookingQueueService.getDepth());
+    }
+
+    @Test
+    void processBatch_whenBatchFails_retriesRowsIndividuallyAndRejectsAfterMaxAttempts() {
+        BookingQueueItem good = queued(1L, 0);
+        BookingQueueItem bad = queued(2L, 0);
+        BookingQueueItem exhausted = queued(3L, 1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(queueRepository.claimQueued(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(good, bad, exhausted));
+        when(queueRepository.claimQueuedById(1L)).thenReturn(Optional.of(good));
+        when(queueRepository.claimQueuedById(2L)).thenReturn(Optional.of(bad));
+        when(queueRepository.claimQueuedById(3L)).thenReturn(Optional.of(exhausted));
+        when(bookingBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<BookingBatchWriter.PendingBooking> pending = invocation.getArgument(0);
+            if (pending.size() > 1 || pending.get(0).userId() != 1L) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return List.of(new BookingBatchWriter.Result(42L, null));
+        });
+
+        int processed = bookingQueueService.processBatch();
+
+        assertEquals(3, processed);
+        assertEquals(BookingQueueState.COMPLETED, good.getState());
+        assertEquals(42L, good.getBookingId());
+        assertEquals(BookingQueueState.QUEUED, bad.getState());
+        assertEquals(1, bad.getAttempts());
+        assertNotNull(bad.getNextAttemptAt());
+        assertEquals(BookingQueueState.REJECTED, exhausted.getState());
+        assertEquals(2, exhausted.getAttempts());
+        verify(bookingMetrics).record(BookingMetrics.Source.QUEUE, BookingMetrics.Outcome.CREATED);
+        verify(bookingMetrics).record(BookingMetrics.Source.QUEUE, BookingMetrics.Outcome.REJECTED);
+    }
+
+    @Test
+    void enqueue_whenQueueIsFull_rejectsWithRetryAfter() {
+        when(queueRepository.countByState(BookingQueueState.QUEUED)).thenReturn(2L);
+        bookingQueueService.refreshDepth();
+
+        BookingQueueFullException exception = assertThrows(BookingQueueFullException.class,
+                () -> bookingQueueService.enqueue(request, 5L));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals("7", exception.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        verify(queueRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueue_rejectsAnythingButPending() {
+        BookingRequest confirmed = new BookingRequest(1L, 2, LocalDateTime.now().plusDays(1), BookingStatus.CONFIRMED);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> bookingQueueService.enqueue(confirmed, 5L));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(queueRepository, never()).save(any());
+    }
+
+    private BookingQueueItem queued(Long id, int attempts) {
+        BookingQueueItem item = new BookingQueueItem();
+        item.setId(id);
+        item.setUserId(id);
+        item.setTourId(1L);
+        item.setNumberOfPeople(2);
+        item.setBookingDate(LocalDateTime.now().plusDays(1));
+        item.setState(BookingQueueState.QUEUED);
+        item.setAttempts(attempts);
+        return item;
+    }
+}
@@ -1,29 +1,42 @@
 package com.project.AdventureTourBooking.service;
 
+import com.project.AdventureTourBooking.cache.LocalCacheInvalidationChannel;
 import com.project.AdventureTourBooking.dto.BookingRequest;
+import com.project.AdventureTourBooking.dto.BookingResponse;
+import com.project.AdventureTourBooking.dto.BookingStatusBulkUpdateResponse;
+import com.project.AdventureTourBooking.event.BookingChangedEvent;
+import com.project.AdventureTourBooking.metrics.BookingMetrics;
 import com.project.AdventureTourBooking.model.Booking;
 import com.project.AdventureTourBooking.model.BookingStatus;
 import com.project.AdventureTourBooking.model.Tour;
 import com.project.AdventureTourBooking.model.User;
 import com.project.AdventureTourBooking.model.UserRole;
+import com.project.AdventureTourBooking.pricing.PricingEngine;
 import com.project.AdventureTourBooking.repository.BookingRepository;
+import com.project.AdventureTourBooking.repository.PricingRuleRepository;
 import com.project.AdventureTourBooking.repository.TourRepository;
 import com.project.AdventureTourBooking.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -40,7 +53,21 @@ class BookingServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private SeatInventoryService seatInventoryService;
+
+    @Mock
+    private DepartureService departureService;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private BookingSummaryService bookingSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private BookingService bookingService;
 
     private User customer;
@@ -48,12 +75,18 @@ class BookingServiceTest {
 
     @BeforeEach
     void setUp() {
+        bookingService = new BookingService(bookingRepository, tourRepository, userRepository, seatInventoryService,
+                departureService, bookingMetrics, bookingSummaryService,
+                new PricingEngine(mock(PricingRuleRepository.class), new LocalCacheInvalidationChannel(),
+                        Duration.ofMinutes(1)), eventPublisher, 500);
+
         customer = new User();
         customer.setId(1L);
         customer.setRole(UserRole.CUSTOMER);
 
         tour = new Tour();
         tour.setId(2L);
+        tour.setPrice(new BigDecimal("62.50"));
         tour.setOperator(createOperator(3L));
     }
 
@@ -62,7 +95,6 @@ class BookingServiceTest {
         BookingRequest request = new BookingRequest(
                 tour.getId(),
                 4,
-                BigDecimal.valueOf(250.00),
                 LocalDateTime.now(),
                 null
         );
@@ -86,7 +118,55 @@ class BookingServiceTest {
         Booking persisted = captor.getValue();
         assertEquals(BookingStatus.PENDING, persisted.getStatus());
         assertEquals(request.numberOfPeople(), persisted.getNumberOfPeople());
-        assertEquals(request.totalPrice(), persisted.getTotalPrice());
+        assertEquals(new BigDecimal("250.00"), persisted.getTotalPrice());
+        verify(seatInventoryService).reserve(tour.getId(), 4);
+        verify(bookingSummaryService).recordCreated(List.of(persisted));
+        verify(bookingMetrics).record(BookingMetrics.Source.API, BookingMetrics.Outcome.CREATED);
+        verify(eventPublisher).publishEvent(new BookingChangedEvent(10L, tour.getId(),
+                BookingChangedEvent.Type.CREATED));
+    }
+
+    @Test
+    void createBooking_insideATransaction_recordsCreatedOnlyAfterCommit() {
+        when(userRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(tourRepository.findById(tour.getId())).thenReturn(Optional.of(tour));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingService.createBooking(new BookingRequest(tour.getId(), 2, LocalDateTime.now(), null),
+                    customer.getId());
+            verifyNoInteractions(bookingMetrics);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(bookingMetrics).record(BookingMetrics.Source.API, BookingMetrics.Outcome.CREATED);
+    }
+
+    @Test
+    void createBooking_whenTourIsFull_throwsConflictWithoutSaving() {
+        BookingRequest request = new BookingRequest(
+                tour.getId(),
+                3,
+                LocalDateTime.now(),
+                null
+        );
+
+        when(userRepository.findById(customer.getId())).thenReturn(Optional.of(customer));
+        when(tourRepository.findById(tour.getId())).thenReturn(Optional.of(tour));
+        doThrow(new ResponseStatusException(HttpStatus.CONFLICT, "Not enough seats available for this tour"))
+                .when(seatInventoryService).reserve(tour.getId(), 3);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> bookingService.createBooking(request, customer.getId())
+        );
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(bookingRepository, never()).save(any());
+        verify(bookingMetrics).record(BookingMetrics.Source.API, BookingMetrics.Outcome.OVER_CAPACITY);
     }
 
     @Test
@@ -97,9 +177,8 @@ class BookingServiceTest {
         BookingRequest request = new BookingRequest(
                 tour.getId(),
                 2,
-                BigDecimal.TEN,
                 LocalDateTime.now(),
-                BookingStatus.CONFIRMED
+                BookingStatus.PENDING
         );
 
         ResponseStatusException exception = assertThrows(
@@ -109,19 +188,33 @@ class BookingServiceTest {
 
         assertEquals("403 FORBIDDEN \"Only customers can create bookings\"", exception.getMessage());
         verifyNoInteractions(tourRepository, bookingRepository);
+        verify(bookingMetrics).record(BookingMetrics.Source.API, BookingMetrics.Outcome.REJECTED);
+    }
+
+    @Test
+    void createBooking_withStatusOtherThanPending_throwsBadRequest() {
+        BookingRequest request = new BookingRequest(tour.getId(), 2, LocalDateTime.now(), BookingStatus.CONFIRMED);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> bookingService.createBooking(request, 1L)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(userRepository, tourRepository, bookingRepository, seatInventoryService);
+        verify(bookingMetrics).record(BookingMetrics.Source.API, BookingMetrics.Outcome.REJECTED);
     }
 
     @Test
     void getBookingsForOperator_returnsBookingsForOperator() {
         User operator = tour.getOperator();
-        Booking booking = new Booking();
-        booking.setId(22L);
-        booking.setTour(tour);
+        BookingResponse booking = new BookingResponse(
+                22L, BookingStatus.CONFIRMED, 2, BigDecimal.TEN, LocalDateTime.now(), LocalDateTime.now(), 0L, null);
 
         when(userRepository.findById(operator.getId())).thenReturn(Optional.of(operator));
-        when(bookingRepository.findByTourOperatorId(operator.getId())).thenReturn(List.of(booking));
+        when(bookingRepository.findResponsesByOperatorId(operator.getId())).thenReturn(List.of(booking));
 
-        List<Booking> result = bookingService.getBookingsForOperator(operator.getId());
+        List<BookingResponse> result = bookingService.getBookingsForOperator(operator.getId());
 
         assertThat(result).containsExactly(booking);
     }
@@ -138,7 +231,7 @@ class BookingServiceTest {
         booking.setTour(otherTour);
 
         when(userRepository.findById(operator.getId())).thenReturn(Optional.of(operator));
-        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(bookingRepository.findWithTourById(booking.getId())).thenReturn(Optional.of(booking));
 
         ResponseStatusException exception = assertThrows(
                 ResponseStatusException.class,
@@ -159,13 +252,109 @@ class BookingServiceTest {
         booking.setStatus(BookingStatus.PENDING);
 
         when(userRepository.findById(operator.getId())).thenReturn(Optional.of(operator));
-        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(bookingRepository.findWithTourById(booking.getId())).thenReturn(Optional.of(booking));
         when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Booking updated = bookingService.updateBookingStatus(booking.getId(), BookingStatus.CONFIRMED, operator.getId());
 
         assertEquals(BookingStatus.CONFIRMED, updated.getStatus());
         verify(bookingRepository).save(booking);
+        verify(bookingSummaryService).recordStatusChange(booking, BookingStatus.PENDING, BookingStatus.CONFIRMED);
+        verify(eventPublisher).publishEvent(new BookingChangedEvent(44L, tour.getId(),
+                BookingChangedEvent.Type.STATUS_CHANGED));
+        verifyNoInteractions(seatInventoryService);
+    }
+
+    @Test
+    void updateBookingStatus_whenCancelled_releasesSeats() {
+        User operator = tour.getOperator();
+
+        Booking booking = new Booking();
+        booking.setId(45L);
+        booking.setTour(tour);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setNumberOfPeople(5);
+
+        when(userRepository.findById(operator.getId())).thenReturn(Optional.of(operator));
+        when(bookingRepository.findWithTourById(booking.getId())).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        bookingService.updateBookingStatus(booking.getId(), BookingStatus.CANCELLED, operator.getId());
+
+        verify(seatInventoryService).release(tour.getId(), 5);
+    }
+
+    @Test
+    void updateBookingStatus_whenTransitionIsNotAllowed_throwsConflict() {
+        User operator = tour.getOperator();
+
+        Booking booking = new Booking();
+        booking.setId(46L);
+        booking.setTour(tour);
+        booking.setStatus(BookingStatus.CANCELLED);
+        booking.setNumberOfPeople(2);
+
+        when(userRepository.findById(operator.getId())).thenReturn(Optional.of(operator));
+        when(bookingRepository.findWithTourById(booking.getId())).thenReturn(Optional.of(booking));
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> bookingService.updateBookingStatus(booking.getId(), BookingStatus.CONFIRMED, operator.getId())
+        );
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertEquals(BookingStatus.CANCELLED, booking.getStatus());
+        verify(bookingRepository, never()).save(any());
+        verifyNoInteractions(seatInventoryService, bookingSummaryService);
+    }
+
+    @Test
+    void updateBookingStatuses_checksOwnershipOnceAndUpdatesInOneStatement() {
+        User operator = tour.getOperator();
+        Tour otherTour = new Tour();
+        otherTour.setId(7L);
+        otherTour.setOperator(createOperator(9L));
+        Booking first = bulkBooking(50L, tour, BookingStatus.CONFIRMED, 2);
+        Booking second = bulkBooking(51L, tour, BookingStatus.CONFIRMED, 3);
+        Booking completed = bulkBooking(52L, tour, BookingStatus.COMPLETED, 1);
+        Booking foreign = bulkBooking(53L, otherTour, BookingStatus.CONFIRMED, 4);
+        List<Long> ids = List.of(50L, 51L, 52L, 53L, 99L, 50L);
+
+        when(userRepository.findById(operator.getId())).thenReturn(Optional.of(operator));
+        when(bookingRepository.lockAllById(Set.of(50L, 51L, 52L, 53L, 99L)))
+                .thenReturn(List.of(first, second, completed, foreign));
+        when(tourRepository.findIdsOwnedBy(Set.of(tour.getId(), otherTour.getId()), operator.getId()))
+                .thenReturn(Set.of(tour.getId()));
+        when(bookingRepository.findAllById(List.of(50L, 51L))).thenReturn(List.of(
+                bulkBooking(50L, tour, BookingStatus.CANCELLED, 2), bulkBooking(51L, tour, BookingStatus.CANCELLED, 3)));
+
+        BookingStatusBulkUpdateResponse response =
+                bookingService.updateBookingStatuses(ids, BookingStatus.CANCELLED, operator.getId());
+
+        assertEquals(2, response.updated());
+        assertThat(response.results())
+                .extracting(BookingStatusBulkUpdateResponse.Result::bookingId, BookingStatusBulkUpdateResponse.Result::outcome)
+                .containsExactly(
+                        tuple(50L, BookingStatusBulkUpdateResponse.Outcome.UPDATED),
+                        tuple(51L, BookingStatusBulkUpdateResponse.Outcome.UPDATED),
+                        tuple(52L, BookingStatusBulkUpdateResponse.Outcome.INVALID_TRANSITION),
+                        tuple(53L, BookingStatusBulkUpdateResponse.Outcome.FORBIDDEN),
+                        tuple(99L, BookingStatusBulkUpdateResponse.Outcome.NOT_FOUND));
+        verify(seatInventoryService).release(tour.getId(), 5);
+        verify(bookingSummaryService).recordStatusChanges(List.of(first, second), BookingStatus.CANCELLED);
+        verify(bookingRepository).updateStatuses(eq(List.of(50L, 51L)), eq(BookingStatus.CANCELLED), any(LocalDateTime.class));
+        verify(eventPublisher, times(2)).publishEvent(any(BookingChangedEvent.class));
+        verify(userRepository, times(1)).findById(operator.getId());
+    }
+
+    private Booking bulkBooking(Long id, Tour bookingTour, BookingStatus status, int people) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setTour(bookingTour);
+        booking.setStatus(status);
+        booking.setNumberOfPeople(people);
+        booking.setVersion(0L);
+        return booking;
     }
 
     private User createOperator(Long id) {
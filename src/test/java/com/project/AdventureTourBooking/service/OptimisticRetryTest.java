@@ -0,0 +1,87 @@
+package com.project.AdventureTourBooking.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimisticRetryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetry retry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retry = new OptimisticRetry(3, Duration.ofMillis(1), meterRegistry);
+    }
+
+    @Test
+    void execute_retriesConflictsUntilAnAttemptSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Tour", 1L);
+            }
+            return "saved";
+        });
+
+        assertThat(result).isEqualTo("saved");
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("persistence.optimistic.conflicts").tag("outcome", "retried").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void execute_givesUpWithConflictAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        }));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertThat(exception.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("persistence.optimistic.conflicts").tag("outcome", "exhausted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void executeOnce_reportsTheFirstConflictWithoutReplaying() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> retry.executeOnce(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        }));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void execute_doesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED);
+        }));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, exception.getStatusCode());
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -1,17 +1,22 @@
 package com.project.AdventureTourBooking.service;
 
+import com.project.AdventureTourBooking.dto.TourPageResponse;
 import com.project.AdventureTourBooking.dto.TourRequest;
+import com.project.AdventureTourBooking.event.TourChangedEvent;
 import com.project.AdventureTourBooking.model.Tour;
 import com.project.AdventureTourBooking.model.User;
 import com.project.AdventureTourBooking.model.UserRole;
 import com.project.AdventureTourBooking.repository.TourRepository;
 import com.project.AdventureTourBooking.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
@@ -33,21 +38,54 @@ class TourServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private TourService tourService;
 
+    @BeforeEach
+    void setUp() {
+        tourService = new TourService(tourRepository, userRepository, eventPublisher, 2, 3);
+    }
+
+    @Test
+    void getTourPage_withMoreResults_returnsNextCursor() {
+        User operator = createOperator(5L);
+        when(tourRepository.findPageAfter(0L, Limit.of(3)))
+                .thenReturn(List.of(createTour(1L, operator), createTour(2L, operator), createTour(3L, operator)));
+
+        TourPageResponse page = tourService.getTourPage(null, null);
+
+        assertThat(page.items()).extracting("id").containsExactly(1L, 2L);
+        assertThat(page.next()).isNotNull();
+
+        when(tourRepository.findPageAfter(2L, Limit.of(3))).thenReturn(List.of(createTour(3L, operator)));
+
+        TourPageResponse nextPage = tourService.getTourPage(page.next(), null);
+
+        assertThat(nextPage.items()).extracting("id").containsExactly(3L);
+        assertThat(nextPage.next()).isNull();
+    }
+
     @Test
-    void getAllTours_returnsToursFromRepository() {
-        Tour first = new Tour();
-        first.setId(1L);
-        Tour second = new Tour();
-        second.setId(2L);
+    void getTourPage_capsRequestedSize() {
+        when(tourRepository.findPageAfter(0L, Limit.of(4))).thenReturn(List.of());
 
-        when(tourRepository.findAll()).thenReturn(List.of(first, second));
+        TourPageResponse page = tourService.getTourPage(null, 500);
 
-        List<Tour> tours = tourService.getAllTours();
+        assertThat(page.items()).isEmpty();
+        verify(tourRepository).findPageAfter(0L, Limit.of(4));
+    }
 
-        assertThat(tours).containsExactly(first, second);
+    @Test
+    void getTourPage_withMalformedCursor_throwsBadRequest() {
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> tourService.getTourPage("not-a-cursor", null)
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(tourRepository);
     }
 
     @Test
@@ -81,6 +119,7 @@ class TourServiceTest {
         Tour persisted = captor.getValue();
         assertEquals(operator, persisted.getOperator());
         assertEquals(request.durationHour(), persisted.getDurationHours());
+        verify(eventPublisher).publishEvent(new TourChangedEvent(12L, TourChangedEvent.Type.CREATED));
     }
 
     @Test
@@ -112,6 +151,13 @@ class TourServiceTest {
         verifyNoInteractions(tourRepository);
     }
 
+    private Tour createTour(Long id, User operator) {
+        Tour tour = new Tour();
+        tour.setId(id);
+        tour.setOperator(operator);
+        return tour;
+    }
+
     private User createOperator(Long id) {
         User operator = new User();
         operator.setId(id);
@@ -0,0 +1,50 @@
+-- The schema Hibernate's ddl-auto created for the original entities, before migrations were enabled:
+-- identity ids and no databasechangelog table.
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE tours (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    operator_id BIGINT NOT NULL REFERENCES users (id),
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    price NUMERIC(10, 2) NOT NULL,
+    location VARCHAR(255),
+    max_capacity INTEGER,
+    available_from TIMESTAMP(6),
+    duration_hours INTEGER,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE bookings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tour_id BIGINT NOT NULL REFERENCES tours (id),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    status VARCHAR(50) NOT NULL,
+    number_of_people INTEGER NOT NULL,
+    total_price NUMERIC(10, 2) NOT NULL,
+    booking_date TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+INSERT INTO users (email, password, name, role, created_at, updated_at) VALUES
+    ('legacy-operator@example.com', 'x', 'Legacy Operator', 'OPERATOR', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('legacy-customer@example.com', 'x', 'Legacy Customer', 'CUSTOMER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO tours (operator_id, title, price, location, max_capacity, available_from, duration_hours, created_at, updated_at) VALUES
+    (1, 'Legacy Ridge Walk', 100.00, 'Nowhere', 10, CURRENT_TIMESTAMP, 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (1, 'Legacy Lake Paddle', 80.00, 'Nowhere', 6, CURRENT_TIMESTAMP, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO bookings (tour_id, user_id, status, number_of_people, total_price, booking_date, created_at, updated_at) VALUES
+    (1, 2, 'PENDING', 3, 300.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (1, 2, 'CONFIRMED', 2, 200.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (1, 2, 'CANCELLED', 4, 400.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);